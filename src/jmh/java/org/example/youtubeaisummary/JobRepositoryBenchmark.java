@@ -0,0 +1,123 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.MySqlJobRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업 하나의 생애주기(생성 → 진행 상황 갱신 PROGRESS_UPDATES회 → 완료)에 걸리는 시간 비교. (H2 MySQL 호환 모드)
+ * <ul>
+ *     <li>jpaStatementPattern: 이전 JPA 구현이 내던 SQL을 그대로 흉내 냅니다. (legacy_jobs: result LONGTEXT 한 칸에 모두 저장)
+ *     생성 = 존재 확인 SELECT + merge SELECT + INSERT, 갱신 = merge SELECT + 전체 컬럼 UPDATE
+ *     → 3 + 2 × (PROGRESS_UPDATES + 1) 문장, 진행 메시지도 LONGTEXT 컬럼에 기록</li>
+ *     <li>jdbcRepository: MySqlJobRepositoryImpl
+ *     → INSERT IGNORE 1문장 + status/message UPDATE 1문장씩 + 완료 시 결과 INSERT = 3 + PROGRESS_UPDATES 문장</li>
+ * </ul>
+ * poll* 벤치마크는 자막 전체가 진행 메시지로 실린 작업의 상태 조회 한 번을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobRepositoryBenchmark {
+
+    private static final int PROGRESS_UPDATES = 4;
+    private static final List<JobStatus> PROGRESS = List.of(
+            JobStatus.SUBTITLE_EXTRACTING, JobStatus.SUBTITLE_EXTRACTION_COMPLETED,
+            JobStatus.AI_SUMMARIZING_PARTIAL, JobStatus.AI_SUMMARIZING_FINAL);
+    private static final String SUMMARY = "요약 문단입니다. ".repeat(1500);
+    private static final String TRANSCRIPT = "00:00:01,000:자막 한 줄입니다.\n".repeat(4000);
+    private static final String POLLED_JOB = "polled";
+
+    private final AtomicLong sequence = new AtomicLong();
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MySqlJobRepositoryImpl repository;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:job-bench;MODE=MySQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE legacy_jobs (job_id VARCHAR(64) PRIMARY KEY, status VARCHAR(32), message VARCHAR(1000), result LONGTEXT)");
+        jdbcTemplate.execute("CREATE TABLE jobs (job_id VARCHAR(64) PRIMARY KEY, status VARCHAR(32), message VARCHAR(1000))");
+        jdbcTemplate.execute("CREATE TABLE job_results (job_id VARCHAR(64) PRIMARY KEY, content LONGBLOB, original_length INT, created_at TIMESTAMP)");
+        repository = new MySqlJobRepositoryImpl(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+
+        // 상태 조회 비교용: 자막 추출 직후 상태의 작업 하나
+        jdbcTemplate.update("INSERT INTO legacy_jobs (job_id, status, result) VALUES (?, ?, ?)",
+                POLLED_JOB, JobStatus.SUBTITLE_EXTRACTION_COMPLETED.name(), TRANSCRIPT);
+        repository.createJobIfAbsent(POLLED_JOB);
+        repository.updateJob(POLLED_JOB, JobStatus.SUBTITLE_EXTRACTION_COMPLETED, TRANSCRIPT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int jpaStatementPattern() {
+        String jobId = "jpa-" + sequence.incrementAndGet();
+        // existsById + save(merge): 식별자를 직접 지정한 엔티티는 merge가 먼저 SELECT로 존재 여부를 확인합니다.
+        jdbcTemplate.queryForObject("SELECT count(*) FROM legacy_jobs WHERE job_id = ?", Integer.class, jobId);
+        jdbcTemplate.queryForList("SELECT job_id, status, message, result FROM legacy_jobs WHERE job_id = ?", jobId);
+        jdbcTemplate.update("INSERT INTO legacy_jobs (job_id, status, message, result) VALUES (?, ?, NULL, ?)",
+                jobId, JobStatus.PENDING.name(), "작업 처리 대기 중...");
+        int statements = 3;
+
+        for (int i = 0; i < PROGRESS_UPDATES; i++) {
+            statements += mergeUpdate(jobId, PROGRESS.get(i % PROGRESS.size()), "진행 메시지 " + i);
+        }
+        statements += mergeUpdate(jobId, JobStatus.COMPLETED, SUMMARY);
+        return statements;
+    }
+
+    @Benchmark
+    public boolean jdbcRepository() {
+        String jobId = "jdbc-" + sequence.incrementAndGet();
+        boolean created = repository.createJobIfAbsent(jobId);
+        for (int i = 0; i < PROGRESS_UPDATES; i++) {
+            repository.updateJob(jobId, PROGRESS.get(i % PROGRESS.size()), "진행 메시지 " + i);
+        }
+        repository.updateJob(jobId, JobStatus.COMPLETED, SUMMARY);
+        return created;
+    }
+
+    @Benchmark
+    public Object pollLegacyRow() {
+        // findById: 진행 중이어도 LONGTEXT(자막 전체)를 함께 읽음
+        return jdbcTemplate.queryForMap("SELECT job_id, status, message, result FROM legacy_jobs WHERE job_id = ?", POLLED_JOB);
+    }
+
+    @Benchmark
+    public Object pollSlimRow() {
+        return repository.getJobStatus(POLLED_JOB);
+    }
+
+    // save(new JobEntity(...)): merge SELECT(LONGTEXT 포함) 후 변경 여부와 관계없이 전체 컬럼을 UPDATE
+    private int mergeUpdate(String jobId, JobStatus status, String result) {
+        jdbcTemplate.queryForList("SELECT job_id, status, message, result FROM legacy_jobs WHERE job_id = ?", jobId);
+        jdbcTemplate.update("UPDATE legacy_jobs SET status = ?, message = NULL, result = ? WHERE job_id = ?", status.name(), result, jobId);
+        return 2;
+    }
+}
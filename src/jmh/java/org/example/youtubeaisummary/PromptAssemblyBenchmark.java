@@ -0,0 +1,73 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.PromptManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 스크립트 프롬프트 생성 비교: 기존 PromptTemplate.render vs 미리 나눠 둔 prefix/suffix 연결.
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 이 호출당 할당 바이트입니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptAssemblyBenchmark {
+
+    @Param({"50000", "100000", "200000"})
+    private int transcriptChars;
+
+    private String transcript;
+    private PromptTemplate promptTemplate;
+    private PromptManager promptManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = PromptAssemblyBenchmark.class.getResourceAsStream("/prompts.properties")) {
+            properties.load(in);
+        }
+        String template = properties.getProperty("app.ai.prompt.final-from-transcript");
+        promptTemplate = new PromptTemplate(template);
+        promptManager = new PromptManager(
+                properties.getProperty("app.ai.prompt.partial-summary"),
+                template,
+                properties.getProperty("app.ai.prompt.final-from-summaries"),
+                properties.getProperty("app.ai.prompt.merge-summaries"));
+
+        StringBuilder sb = new StringBuilder(transcriptChars + 64);
+        int line = 0;
+        while (sb.length() < transcriptChars) {
+            sb.append("오늘은 대규모 언어 모델의 동작 원리에 대해 이야기해 보겠습니다 ").append(line++).append('\n');
+        }
+        transcript = sb.substring(0, transcriptChars);
+    }
+
+    @Benchmark
+    public String promptTemplateRender() {
+        return promptTemplate.render(Map.of("text", transcript));
+    }
+
+    @Benchmark
+    public String precompiledConcat() {
+        return promptManager.getFinalFromTranscriptPrompt(transcript);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.subtitle.SubtitleProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동 생성(롤링 캡션) SRT 정리 비교: 기존 Scanner/정규식 구현 vs 단일 패스 파서.
+ * 블록 1개가 약 1초 분량이므로 7,200 블록이 2시간 영상입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubtitleProcessorBenchmark {
+
+    @Param({"3600", "7200", "14400"})
+    private int blocks;
+
+    private String srt;
+    private final SubtitleProcessor subtitleProcessor = new SubtitleProcessor();
+    private final LegacySubtitleProcessor legacyProcessor = new LegacySubtitleProcessor();
+
+    @Setup
+    public void setUp() {
+        srt = SubtitleProcessorTest.autoGeneratedSrt(blocks);
+    }
+
+    @Benchmark
+    public String legacyScannerRegex() {
+        return legacyProcessor.process(srt);
+    }
+
+    @Benchmark
+    public String singlePassParser() {
+        return subtitleProcessor.process(srt);
+    }
+}
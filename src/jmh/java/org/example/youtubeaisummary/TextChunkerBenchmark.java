@@ -0,0 +1,106 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.SentenceTextChunker;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 맵 단계 청크 분할 비교: 기존 문자 수 기반 분할 vs 문장 경계 분할.
+ * 강의 자막 고정본(약 6분 분량)을 이어 붙여 영상 길이를 맞추고, 분할 시간과 함께 청크 수/총 토큰 수(chunks, tokens)를 보고합니다.
+ * 기존 분할은 오버랩 없이 돌리고, 문장 분할은 기존 청크 중 가장 큰 것과 같은 토큰 예산을 써서 분할 방식 차이만 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TextChunkerBenchmark {
+
+    private static final int LEGACY_CHUNK_SIZE = 12000;
+
+    // 10회 = 약 1시간, 20회 = 약 2시간
+    @Param({"10", "20"})
+    private int repeats;
+
+    private String transcript;
+    private int tokenBudget;
+    private final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+    private final SentenceTextChunker chunker = new SentenceTextChunker(tokenCountEstimator);
+
+    @Setup
+    public void setUp() throws IOException {
+        String fixture;
+        try (InputStream in = TextChunkerBenchmark.class.getResourceAsStream("/fixtures/transcript/virtual-threads-ko.txt")) {
+            fixture = new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+        transcript = String.join("\n", Collections.nCopies(repeats, fixture));
+        tokenBudget = splitTextByChars(transcript, LEGACY_CHUNK_SIZE).stream().mapToInt(tokenCountEstimator::estimate).max().orElseThrow();
+    }
+
+    @Benchmark
+    public List<String> legacyCharSplit(ChunkCounters counters) {
+        return counters.last = splitTextByChars(transcript, LEGACY_CHUNK_SIZE);
+    }
+
+    @Benchmark
+    public List<String> sentenceChunker(ChunkCounters counters) {
+        return counters.last = chunker.chunk(transcript, tokenBudget);
+    }
+
+    /**
+     * 한 번 분할할 때마다 청크 수와 맵 단계로 보낼 총 토큰 수를 기록합니다. (측정 시간 밖에서 셈)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ChunkCounters {
+        public long chunks;
+        public long tokens;
+
+        private final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+        private List<String> last = List.of();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            chunks = 0;
+            tokens = 0;
+        }
+
+        @TearDown(Level.Invocation)
+        public void count() {
+            chunks += last.size();
+            tokens += last.stream().mapToInt(tokenCountEstimator::estimate).sum();
+        }
+    }
+
+    // 비교 기준: 이전 AIService의 문자 수 기반 분할 로직 (오버랩 0)
+    private static List<String> splitTextByChars(String text, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += chunkSize) {
+            chunks.add(text.substring(i, Math.min(i + chunkSize, text.length())));
+        }
+        return chunks;
+    }
+}
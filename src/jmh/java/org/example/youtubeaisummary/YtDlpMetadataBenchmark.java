@@ -0,0 +1,82 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadata;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadataParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업당 yt-dlp 메타데이터 처리 비교 (프로세스 stdout 대신 같은 바이트의 InputStream 사용):
+ * 기존 방식(줄 단위로 StringBuilder에 모은 뒤 readTree) vs JsonParser로 필요한 필드만 스트리밍 추출.
+ * 자동 자막 157개 언어가 실제 인기 영상 수준이며, formats 수로 전체 JSON 크기를 조절합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YtDlpMetadataBenchmark {
+
+    @Param({"120", "400"})
+    private int formats;
+
+    private byte[] processOutput;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final YtDlpMetadataParser parser = new YtDlpMetadataParser(objectMapper);
+
+    @Setup
+    public void setUp() {
+        processOutput = (YtDlpMetadataParserTest.sampleDumpJson(157, formats) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<String> bufferedReadTree() throws IOException {
+        StringBuilder fullOutput = new StringBuilder();
+        try (BufferedReader reader = reader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                fullOutput.append(line).append(System.lineSeparator());
+            }
+        }
+        JsonNode videoInfo = objectMapper.readTree(fullOutput.toString().trim());
+        List<String> languages = new ArrayList<>();
+        languages.add(videoInfo.path("language").asText(null));
+        videoInfo.path("automatic_captions").fieldNames().forEachRemaining(languages::add);
+        return languages;
+    }
+
+    @Benchmark
+    public YtDlpMetadata streamingParser() throws IOException {
+        try (BufferedReader reader = reader()) {
+            YtDlpMetadata metadata = parser.parse(reader);
+            reader.transferTo(Writer.nullWriter());
+            return metadata;
+        }
+    }
+
+    private BufferedReader reader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(processOutput), StandardCharsets.UTF_8));
+    }
+}
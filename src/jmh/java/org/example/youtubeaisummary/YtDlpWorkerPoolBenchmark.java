@@ -0,0 +1,77 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.service.subtitle.YtDlpWorkerPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * yt-dlp 호출 처리량 비교: 호출마다 새 Python 프로세스 실행(콜드 스폰) vs 상주 워커 풀.
+ * import 비용을 흉내 내는 가짜 추출기(테스트 리소스 ytdlp/fake_ytdlp.py)를 사용하며 python3가 필요합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(1)
+public class YtDlpWorkerPoolBenchmark {
+
+    private static final List<String> ARGS = List.of("--dump-single-json", "--no-warnings", "dQw4w9WgXcQ");
+
+    private Path fakeExtractor;
+    private YtDlpWorkerPool pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        fakeExtractor = Files.createTempFile("fake_ytdlp", ".py");
+        try (InputStream in = YtDlpWorkerPoolBenchmark.class.getResourceAsStream("/ytdlp/fake_ytdlp.py")) {
+            Files.copy(in, fakeExtractor, StandardCopyOption.REPLACE_EXISTING);
+        }
+        pool = new YtDlpWorkerPool(new ObjectMapper(), true, "python3", fakeExtractor.toString(),
+                4, 1000, Duration.ofSeconds(30), Duration.ofMinutes(1));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(fakeExtractor);
+    }
+
+    @Benchmark
+    public String coldSpawn() throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("python3", fakeExtractor.toString()));
+        command.addAll(ARGS);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+        return output;
+    }
+
+    @Benchmark
+    public String pooledWorker() throws IOException, InterruptedException {
+        return pool.execute(ARGS).output();
+    }
+}
@@ -2,14 +2,28 @@ package org.example.youtubeaisummary.config;
 
 import io.github.thoroldvix.api.YoutubeTranscriptApi;
 import io.github.thoroldvix.internal.TranscriptApiFactory;
+import org.example.youtubeaisummary.service.proxy.ProxiedYoutubeClient;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class AppConfig {
+    /**
+     * 자막 목록/내용 요청도 yt-dlp와 같은 프록시 목록을 거치도록 클라이언트를 교체합니다.
+     */
     @Bean
-    public YoutubeTranscriptApi youtubeTranscriptApi() {
-        return TranscriptApiFactory.createDefault();
+    public YoutubeTranscriptApi youtubeTranscriptApi(ProxiedYoutubeClient youtubeClient) {
+        return TranscriptApiFactory.createWithClient(youtubeClient);
+    }
+
+    /**
+     * 청크 분할과 요약 전략 결정에 사용하는 로컬 토큰 계산기
+     */
+    @Bean
+    public TokenCountEstimator tokenCountEstimator() {
+        return new JTokkitTokenCountEstimator();
     }
 
 }
@@ -41,4 +41,19 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 헤지(hedged) OpenAI 호출의 원 요청/복제 요청을 실행하는 스레드 풀
+     * 호출 스레드는 먼저 끝난 응답만 받고, 늦은 쪽은 인터럽트로 취소됩니다.
+     */
+    @Bean(name = "hedgeTaskExecutor")
+    public Executor hedgeTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(20);
+        executor.setMaxPoolSize(40);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("HEDGE-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -3,7 +3,7 @@ package org.example.youtubeaisummary.controller;
 import org.example.youtubeaisummary.dto.JobResponseDto;
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.repository.JobRepository;
-import org.example.youtubeaisummary.service.OrchestrationService;
+import org.example.youtubeaisummary.service.JobQueueWorker;
 import org.example.youtubeaisummary.service.SseNotificationService;
 import org.example.youtubeaisummary.vo.YoutubeVideo;
 import org.springframework.http.HttpStatus;
@@ -18,12 +18,12 @@ import java.util.Optional;
 @RequestMapping("/api/jobs")
 public class JobController {
 
-    private final OrchestrationService orchestrationService;
+    private final JobQueueWorker jobQueueWorker;
     private final JobRepository jobRepository;
     private final SseNotificationService sseNotificationService;
 
-    public JobController(OrchestrationService orchestrationService, JobRepository jobRepository, SseNotificationService sseNotificationService) {
-        this.orchestrationService = orchestrationService;
+    public JobController(JobQueueWorker jobQueueWorker, JobRepository jobRepository, SseNotificationService sseNotificationService) {
+        this.jobQueueWorker = jobQueueWorker;
         this.jobRepository = jobRepository;
         this.sseNotificationService = sseNotificationService;
     }
@@ -34,8 +34,8 @@ public class JobController {
 
         // 1. 먼저 작업 생성을 시도 (Optimistic Approach)
         if (jobRepository.createJobIfAbsent(jobId)) {
-            // 성공: 새로운 작업이므로 즉시 서비스 호출
-            orchestrationService.processYoutubeVideo(jobId, video);
+            // 성공: 새로운 작업이므로 작업 큐에 등록 (이 서버나 다른 서버의 워커가 가져가 처리)
+            jobQueueWorker.submit(jobId);
         } else {
             // 실패: 이미 작업이 존재함. 상태를 한 번만 조회하여 분기 처리
             Optional<JobStatusDto> jobOpt = jobRepository.getJobStatus(jobId);
@@ -48,9 +48,10 @@ public class JobController {
                 }
                 if (statusDto.status() == JobStatusDto.JobStatus.FAILED) {
                     // 실패한 작업: 재시도 로직 실행
-                    orchestrationService.processYoutubeVideo(jobId, video);
+                    jobQueueWorker.submit(jobId);
                 }
                 // PENDING 또는 다른 진행중인 상태는 아무것도 하지 않고 아래의 ACCEPTED를 반환
+                // (큐에서 처리 중인 작업이라면 임대가 만료될 때 다른 서버가 이어서 처리)
             }
         }
 
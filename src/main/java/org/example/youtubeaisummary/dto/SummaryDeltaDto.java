@@ -0,0 +1,4 @@
+package org.example.youtubeaisummary.dto;
+
+public record SummaryDeltaDto(String jobId, String delta) {
+}
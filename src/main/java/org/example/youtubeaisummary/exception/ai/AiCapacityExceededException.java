@@ -0,0 +1,7 @@
+package org.example.youtubeaisummary.exception.ai;
+
+public class AiCapacityExceededException extends RuntimeException {
+    public AiCapacityExceededException(String message) {
+        super(message);
+    }
+}
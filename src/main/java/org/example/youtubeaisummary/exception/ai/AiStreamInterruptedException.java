@@ -0,0 +1,10 @@
+package org.example.youtubeaisummary.exception.ai;
+
+/**
+ * 요약 조각을 이미 내보낸 뒤 스트림이 끊긴 경우입니다. 처음부터 다시 받으면 조각이 중복되므로 재시도하지 않습니다.
+ */
+public class AiStreamInterruptedException extends RuntimeException {
+    public AiStreamInterruptedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.youtubeaisummary.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 큰 텍스트(요약 결과, 자막 체크포인트)를 BLOB 컬럼에 저장하기 위한 gzip 압축/해제
+ */
+final class Gzip {
+
+    private Gzip() {
+    }
+
+    static byte[] compress(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 3));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("gzip 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] decompress(byte[] data) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("gzip 압축 해제 실패", e);
+        }
+    }
+
+    static byte[] compress(String text) {
+        return compress(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decompressToString(byte[] data) {
+        return new String(decompress(data), StandardCharsets.UTF_8);
+    }
+}
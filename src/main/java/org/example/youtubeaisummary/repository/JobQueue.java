@@ -0,0 +1,190 @@
+package org.example.youtubeaisummary.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * job_queue 테이블을 이용한 서버 간 공유 작업 큐입니다. (스키마는 JobQueueEntity 기준)
+ * 서버는 임대(lease)가 끝난 행을 SELECT ... FOR UPDATE SKIP LOCKED로 가져가 임대를 걸고, 처리하는 동안 renewLeases로 연장합니다.
+ * 서버가 죽어 연장이 멈추면 임대가 만료되어 다른 서버가 다시 가져갑니다. 임대 시각은 각 서버의 시계 기준이므로 서버 간 시계 차이는 임대 시간보다 작아야 합니다.
+ */
+@Repository
+public class JobQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobQueue.class);
+
+    // 이미 큐에 있으면 아무것도 하지 않습니다. (중복 요청, 멈춘 작업 재등록 모두 안전)
+    static final String ENQUEUE_SQL = "INSERT IGNORE INTO job_queue (job_id, attempts, lease_until, created_at) VALUES (?, 0, ?, ?)";
+    static final String CLAIM_SELECT_SQL = "SELECT job_id, attempts, transcript FROM job_queue WHERE lease_until < ? "
+            + "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    static final String CLAIM_UPDATE_SQL = "UPDATE job_queue SET lease_owner = ?, lease_until = ?, attempts = attempts + 1 WHERE job_id = ?";
+    static final String RENEW_SQL = "UPDATE job_queue SET lease_until = ? WHERE job_id = ? AND lease_owner = ?";
+    // 처리를 시작하지 못한 경우이므로 시도 횟수에서도 뺍니다.
+    static final String ABANDON_SQL = "UPDATE job_queue SET lease_until = ?, attempts = attempts - 1 WHERE job_id = ? AND lease_owner = ?";
+    static final String CHECKPOINT_SQL = "UPDATE job_queue SET transcript = ? WHERE job_id = ?";
+    static final String RELEASE_SQL = "DELETE FROM job_queue WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+    private final String owner;
+    // 이 서버가 임대 중인 작업 ID -> 가져간 시각(System.nanoTime)
+    private final Map<String, Long> leased = new ConcurrentHashMap<>();
+
+    public JobQueue(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                    @Value("${app.job.queue.lease-duration:30s}") Duration leaseDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseDuration = leaseDuration;
+        // "pid@host"에 임의 값을 붙여, 같은 호스트에서 재시작한 서버와도 구분합니다.
+        String runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+        this.owner = (runtimeName.length() > 48 ? runtimeName.substring(0, 48) : runtimeName)
+                + "#" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 작업을 큐에 넣습니다. 바로 가져갈 수 있는 상태로 들어갑니다.
+     */
+    public void enqueue(String jobId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(ENQUEUE_SQL, jobId, now, now);
+    }
+
+    /**
+     * 임대가 끝난(새로 들어왔거나 처리하던 서버가 사라진) 작업을 최대 limit개 가져갑니다.
+     * 다른 서버가 같은 순간에 잠근 행은 건너뛰므로 서버끼리 기다리거나 같은 작업을 나눠 갖지 않습니다.
+     */
+    public List<ClaimedJob> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        List<ClaimedJob> claimed = transactionTemplate.execute(status -> {
+            List<ClaimedJob> rows = jdbcTemplate.query(CLAIM_SELECT_SQL, (rs, rowNum) -> {
+                byte[] transcript = rs.getBytes("transcript");
+                return new ClaimedJob(rs.getString("job_id"), rs.getInt("attempts") + 1,
+                        transcript != null ? Gzip.decompressToString(transcript) : null);
+            }, Timestamp.from(now), limit);
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.from(now.plus(leaseDuration));
+                jdbcTemplate.batchUpdate(CLAIM_UPDATE_SQL, rows.stream()
+                        .map(row -> new Object[]{owner, leaseUntil, row.jobId()})
+                        .toList());
+            }
+            return rows;
+        });
+        if (claimed == null) {
+            return List.of();
+        }
+        long claimedAt = System.nanoTime();
+        claimed.forEach(job -> leased.put(job.jobId(), claimedAt));
+        return claimed;
+    }
+
+    /**
+     * 이 서버가 처리 중인 작업의 임대를 연장합니다. (하트비트)
+     * maxRun보다 오래 붙잡고 있는 작업은 연장 대상에서 빼고 반환합니다. 임대는 그대로 두므로,
+     * 호출자가 이 서버의 실행을 멈추고 작업을 끝내야(실패 처리 후 release) 임대 만료 후 같은 작업이 다시 실행되지 않습니다.
+     *
+     * @return 이번 호출에서 maxRun을 넘긴 작업 ID 목록
+     */
+    public List<String> renewLeases(Duration maxRun) {
+        if (leased.isEmpty()) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<String> renewing = new ArrayList<>();
+        Map<String, Long> overrun = new HashMap<>();
+        leased.forEach((jobId, claimedAt) -> {
+            if (now - claimedAt <= maxRun.toNanos()) {
+                renewing.add(jobId);
+            } else {
+                overrun.put(jobId, claimedAt);
+            }
+        });
+        if (!renewing.isEmpty()) {
+            renew(renewing);
+        }
+
+        // 연장이 실패해 예외가 나면 넘긴 작업을 leased에 남겨, 다음 하트비트에서 다시 돌려줍니다.
+        List<String> stopped = new ArrayList<>();
+        overrun.forEach((jobId, claimedAt) -> {
+            if (leased.remove(jobId, claimedAt)) {
+                logger.warn("작업 ID: {} - {} 넘게 끝나지 않아 임대 연장을 중단합니다.", jobId, maxRun);
+                stopped.add(jobId);
+            }
+        });
+        return stopped;
+    }
+
+    private void renew(List<String> renewing) {
+        Timestamp leaseUntil = Timestamp.from(Instant.now().plus(leaseDuration));
+        int[] updated = jdbcTemplate.batchUpdate(RENEW_SQL, renewing.stream()
+                .map(jobId -> new Object[]{leaseUntil, jobId, owner})
+                .toList());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                // 완료되어 지워졌거나, 연장이 늦어 다른 서버가 가져간 작업입니다.
+                leased.remove(renewing.get(i));
+            }
+        }
+    }
+
+    /**
+     * 자막 추출이 끝났음을 기록합니다. 이 작업을 다시 가져간 서버는 자막 추출을 건너뛰고 요약부터 시작합니다.
+     */
+    public void checkpointTranscript(String jobId, String transcript) {
+        jdbcTemplate.update(CHECKPOINT_SQL, Gzip.compress(transcript), jobId);
+    }
+
+    /**
+     * 가져갔지만 처리를 시작하지 못한 작업의 임대를 바로 끝냅니다. 다음 폴링에서 이 서버나 다른 서버가 다시 가져갑니다.
+     * 연장 대상에서 먼저 빼므로, DB 갱신이 실패해도 임대는 lease-duration 후 만료됩니다.
+     */
+    public void abandon(String jobId) {
+        leased.remove(jobId);
+        jdbcTemplate.update(ABANDON_SQL, Timestamp.from(Instant.now()), jobId, owner);
+    }
+
+    /**
+     * 완료 또는 실패한 작업을 큐에서 지웁니다.
+     */
+    public void release(String jobId) {
+        leased.remove(jobId);
+        jdbcTemplate.update(RELEASE_SQL, jobId);
+    }
+
+    public int leasedCount() {
+        return leased.size();
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * @param attempts   이번을 포함해 가져간 횟수 (1보다 크면 다른 서버나 이전 실행에서 넘어온 작업)
+     * @param transcript 체크포인트된 자막 (자막 추출 전이면 null)
+     */
+    public record ClaimedJob(String jobId, int attempts, String transcript) {
+    }
+}
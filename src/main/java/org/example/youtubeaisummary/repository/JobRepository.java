@@ -3,6 +3,7 @@ package org.example.youtubeaisummary.repository;
 
 import org.example.youtubeaisummary.dto.JobStatusDto;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface JobRepository {
@@ -11,4 +12,12 @@ public interface JobRepository {
     Optional<JobStatusDto> getJobStatus(String jobId);
 
     void updateJob(String jobId, JobStatusDto.JobStatus status, String message);
+
+    /**
+     * 여러 작업의 상태를 한 번에 갱신합니다. (result 필드에는 updateJob의 message를 담음)
+     * 저장소가 묶음 저장을 지원하지 않으면 하나씩 갱신합니다.
+     */
+    default void updateJobs(List<JobStatusDto> jobs) {
+        jobs.forEach(job -> updateJob(job.jobId(), job.status(), job.result()));
+    }
 }
@@ -0,0 +1,86 @@
+package org.example.youtubeaisummary.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * jobs.result 컬럼에 남아 있는 완료된 요약을 gzip으로 압축해 job_results로 옮깁니다. (db/migration/V4 전에 실행)
+ * 이미 옮긴 작업은 건너뛰므로 여러 번 실행해도 안전하고, result 컬럼을 지운 뒤에는 아무것도 하지 않습니다.
+ */
+@Component
+@Profile("!test")
+public class JobResultBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobResultBackfill.class);
+
+    // job_id 순으로 이어서 읽어, 옮기지 못한 행이 있어도 같은 묶음을 반복하지 않습니다.
+    static final String SELECT_SQL = "SELECT j.job_id, j.result FROM jobs j LEFT JOIN job_results r ON r.job_id = j.job_id "
+            + "WHERE j.job_id > ? AND j.status = 'COMPLETED' AND j.result IS NOT NULL AND r.job_id IS NULL ORDER BY j.job_id LIMIT ?";
+    // 그사이 새로 완료되어 저장된 결과는 덮어쓰지 않습니다.
+    static final String INSERT_SQL = "INSERT IGNORE INTO job_results (job_id, content, original_length, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public JobResultBackfill(JdbcTemplate jdbcTemplate,
+                             @Value("${app.job.results-backfill.enabled:false}") boolean enabled,
+                             @Value("${app.job.results-backfill.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * 옮긴 요약 수를 반환합니다.
+     */
+    public int backfill() {
+        int moved = 0;
+        String lastJobId = "";
+        try {
+            while (true) {
+                List<String[]> rows = jdbcTemplate.query(SELECT_SQL,
+                        (rs, rowNum) -> new String[]{rs.getString("job_id"), rs.getString("result")}, lastJobId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                Timestamp now = Timestamp.from(Instant.now());
+                int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream()
+                        .map(row -> {
+                            byte[] original = row[1].getBytes(StandardCharsets.UTF_8);
+                            return new Object[]{row[0], Gzip.compress(original), original.length, now};
+                        })
+                        .toList());
+                for (int count : inserted) {
+                    // 드라이버에 따라 배치 결과가 SUCCESS_NO_INFO(-2)로 올 수 있어 0만 제외합니다.
+                    moved += count != 0 ? 1 : 0;
+                }
+                lastJobId = rows.get(rows.size() - 1)[0];
+            }
+        } catch (BadSqlGrammarException e) {
+            logger.info("jobs.result 컬럼이 없어 요약 이전을 건너뜁니다. (이미 V4를 적용함)");
+            return moved;
+        }
+        logger.info("jobs.result에서 job_results로 요약 {}건을 옮겼습니다.", moved);
+        return moved;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.youtubeaisummary.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 작업 상태 조회(폴링, SSE 구독)를 위한 인메모리 LRU 캐시입니다. 크기는 결과 글자 수 기준으로 제한합니다.
+ * COMPLETED는 바뀌지 않으므로 오래(completed-ttl) 두고, 그 밖의 상태는 다른 서버의 갱신을 놓치지 않도록 짧게(active-ttl) 둡니다.
+ * 이 서버에서 상태가 바뀌면 {@link StatusChanged} 이벤트를 발행하므로, 서버 간 전파는 이 이벤트를 받아 다른 서버에서 {@link #invalidate}를 호출하면 됩니다.
+ */
+@Component
+public class JobStatusCache {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxChars;
+    private final Duration completedTtl;
+    private final Duration activeTtl;
+
+    // accessOrder=true 인 LinkedHashMap으로 LRU 순서를 유지합니다. (접근은 모두 synchronized)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long chars = 0;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public JobStatusCache(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                          @Value("${app.job.cache.max-chars:20000000}") long maxChars,
+                          @Value("${app.job.cache.completed-ttl:1h}") Duration completedTtl,
+                          @Value("${app.job.cache.active-ttl:5s}") Duration activeTtl) {
+        this.eventPublisher = eventPublisher;
+        this.maxChars = maxChars;
+        this.completedTtl = completedTtl;
+        this.activeTtl = activeTtl;
+
+        this.hits = Counter.builder("job.status.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("job.status.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("job.status.cache.evictions").register(meterRegistry);
+        Gauge.builder("job.status.cache.entries", this, JobStatusCache::size).register(meterRegistry);
+        Gauge.builder("job.status.cache.chars", this, JobStatusCache::chars).register(meterRegistry);
+    }
+
+    /**
+     * 만료되지 않은 상태가 있으면 반환합니다. (조회마다 hit/miss 지표를 기록)
+     */
+    public Optional<JobStatusDto> get(String jobId) {
+        JobStatusDto cached = lookup(jobId);
+        (cached != null ? hits : misses).increment();
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * 완료 상태가 캐시에 남아 있는지 확인합니다. (조회 지표는 기록하지 않음)
+     */
+    public boolean isCompleted(String jobId) {
+        JobStatusDto cached = lookup(jobId);
+        return cached != null && cached.status() == JobStatusDto.JobStatus.COMPLETED;
+    }
+
+    /**
+     * 이 서버에서 바뀐 상태를 기록하고(write-through) 다른 서버가 무효화할 수 있도록 이벤트를 발행합니다.
+     */
+    public void put(JobStatusDto job) {
+        store(job, true);
+        eventPublisher.publishEvent(new StatusChanged(job.jobId(), job.status()));
+    }
+
+    /**
+     * 저장소에서 읽어 온 상태를 기록합니다. 그사이 put으로 더 새로운 상태가 들어왔다면 덮어쓰지 않습니다.
+     */
+    public void putLoaded(JobStatusDto job) {
+        store(job, false);
+    }
+
+    /**
+     * 다른 서버에서 상태가 바뀌었거나 작업이 다시 생성되었을 때 호출합니다.
+     */
+    public synchronized void invalidate(String jobId) {
+        Entry removed = entries.remove(jobId);
+        if (removed != null) {
+            chars -= removed.chars();
+        }
+    }
+
+    private synchronized JobStatusDto lookup(String jobId) {
+        Entry entry = entries.get(jobId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            entries.remove(jobId);
+            chars -= entry.chars();
+            return null;
+        }
+        return entry.job();
+    }
+
+    private synchronized void store(JobStatusDto job, boolean overwrite) {
+        Entry current = entries.get(job.jobId());
+        if (!overwrite && current != null && System.nanoTime() - current.expiresAt() < 0) {
+            return;
+        }
+        Duration ttl = job.status() == JobStatusDto.JobStatus.COMPLETED ? completedTtl : activeTtl;
+        Entry entry = new Entry(job, System.nanoTime() + ttl.toNanos(), job.result() != null ? job.result().length() : 0);
+        if (entry.chars() > maxChars) {
+            invalidate(job.jobId());
+            return;
+        }
+
+        Entry previous = entries.put(job.jobId(), entry);
+        if (previous != null) {
+            chars -= previous.chars();
+        }
+        chars += entry.chars();
+
+        var iterator = entries.entrySet().iterator();
+        while (chars > maxChars && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            chars -= eldest.getValue().chars();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized double size() {
+        return entries.size();
+    }
+
+    private synchronized double chars() {
+        return chars;
+    }
+
+    // expiresAt: System.nanoTime() 기준 만료 시각
+    private record Entry(JobStatusDto job, long expiresAt, int chars) {
+    }
+
+    /**
+     * 이 서버에서 작업 상태가 바뀌었음을 알리는 이벤트 (서버 간 캐시 무효화 전파용)
+     */
+    public record StatusChanged(String jobId, JobStatusDto.JobStatus status) {
+    }
+}
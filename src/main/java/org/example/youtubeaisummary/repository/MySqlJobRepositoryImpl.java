@@ -5,51 +5,117 @@ import org.example.youtubeaisummary.vo.JobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * jobs / job_results 테이블을 JDBC로 직접 다룹니다. (스키마는 JobEntity, JobResultEntity 기준)
+ * 작업 생성은 INSERT 한 번, 진행 상황 갱신은 status/message만 바꾸는 UPDATE 한 번으로 끝냅니다.
+ * 최종 요약은 gzip으로 압축해 job_results에 따로 저장하고, COMPLETED 상태를 돌려줄 때만 읽습니다.
+ */
 @Repository
 @Profile("!test") // 테스트가 아닐 때 활성화
 public class MySqlJobRepositoryImpl implements JobRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(MySqlJobRepositoryImpl.class);
-    private final JobEntityRepository jobEntityRepository; // JPA 리포지토리를 주입받음
 
-    public MySqlJobRepositoryImpl(JobEntityRepository jobEntityRepository) {
-        this.jobEntityRepository = jobEntityRepository;
+    // 같은 job_id가 이미 있으면 아무것도 하지 않고 0을 반환합니다. (존재 확인과 삽입 사이의 경쟁이 없음)
+    static final String INSERT_IF_ABSENT_SQL = "INSERT IGNORE INTO jobs (job_id, status, message) VALUES (?, ?, ?)";
+    // 완료 뒤 늦게 저장되는 진행 상태(묶음 저장 포함)가 COMPLETED를 덮어쓰지 않게 합니다.
+    static final String UPDATE_STATUS_SQL = "UPDATE jobs SET status = ?, message = ? WHERE job_id = ? AND status <> 'COMPLETED'";
+    static final String COMPLETE_SQL = "UPDATE jobs SET status = ?, message = NULL WHERE job_id = ?";
+    static final String UPSERT_RESULT_SQL = "INSERT INTO job_results (job_id, content, original_length, created_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE content = VALUES(content), original_length = VALUES(original_length), created_at = VALUES(created_at)";
+    static final String SELECT_SQL = "SELECT status, message FROM jobs WHERE job_id = ?";
+    static final String SELECT_RESULT_SQL = "SELECT content FROM job_results WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public MySqlJobRepositoryImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     public boolean createJobIfAbsent(String jobId) {
-        if (jobEntityRepository.existsById(jobId)) {
-            return false;
-        }
-        JobEntity initialEntity = new JobEntity(jobId, JobStatusDto.JobStatus.PENDING, "작업 처리 대기 중...");
-
-        try{
-            jobEntityRepository.save(initialEntity);
-            return true;
-        }catch(DataIntegrityViolationException e){
-            logger.warn("작업 생성 중 동시성 경쟁 발생. 작업 ID: {}. 다른 스레드에 의해 이미 생성되었습니다.", jobId);
-            return false;
+        int inserted = jdbcTemplate.update(INSERT_IF_ABSENT_SQL, jobId, JobStatusDto.JobStatus.PENDING.name(), "작업 처리 대기 중...");
+        if (inserted == 0) {
+            logger.debug("이미 존재하는 작업입니다. 작업 ID: {}", jobId);
         }
+        return inserted == 1;
     }
 
     @Override
     public Optional<JobStatusDto> getJobStatus(String jobId) {
-        return jobEntityRepository.findById(jobId).map(this::toDto);
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new JobStatusDto(jobId,
+                        JobStatusDto.JobStatus.valueOf(rs.getString("status")), rs.getString("message")), jobId)
+                .stream().findFirst()
+                // 완료 전에는 진행 메시지, 완료 후에는 요약 결과를 돌려줍니다.
+                .map(job -> job.status() == JobStatusDto.JobStatus.COMPLETED ? new JobStatusDto(jobId, job.status(), loadResult(jobId)) : job);
     }
 
     @Override
     public void updateJob(String jobId, JobStatusDto.JobStatus status, String message) {
-        JobEntity entity = new JobEntity(jobId, status, message);
-        jobEntityRepository.save(entity);
+        int updated = status == JobStatusDto.JobStatus.COMPLETED
+                ? complete(jobId, message)
+                : jdbcTemplate.update(UPDATE_STATUS_SQL, status.name(), truncate(message), jobId);
+        if (updated == 0) {
+            logger.warn("갱신할 작업이 없거나 이미 완료되었습니다. 작업 ID: {}, 상태: {}", jobId, status);
+        }
     }
 
-    // Entity -> DTO 변환 헬퍼
-    private JobStatusDto toDto(JobEntity entity) {
-        return new JobStatusDto(entity.getJobId(), entity.getStatus(), entity.getResult());
+    /**
+     * 진행 상태 묶음을 JDBC 배치 한 번으로 저장합니다. (완료 상태는 결과 테이블에도 써야 하므로 따로 저장)
+     */
+    @Override
+    public void updateJobs(List<JobStatusDto> jobs) {
+        List<Object[]> progress = jobs.stream()
+                .filter(job -> job.status() != JobStatusDto.JobStatus.COMPLETED)
+                .map(job -> new Object[]{job.status().name(), truncate(job.result()), job.jobId()})
+                .toList();
+        if (!progress.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, progress);
+        }
+        jobs.stream()
+                .filter(job -> job.status() == JobStatusDto.JobStatus.COMPLETED)
+                .forEach(job -> updateJob(job.jobId(), job.status(), job.result()));
+    }
+
+    // 결과 저장과 상태 변경을 한 트랜잭션으로 묶어, COMPLETED인데 결과가 없는 상태가 보이지 않게 합니다.
+    private int complete(String jobId, String result) {
+        byte[] original = (result != null ? result : "").getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = Gzip.compress(original);
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(UPSERT_RESULT_SQL, jobId, compressed, original.length, Timestamp.from(Instant.now()));
+            int completed = jdbcTemplate.update(COMPLETE_SQL, JobStatusDto.JobStatus.COMPLETED.name(), jobId);
+            if (completed == 0) {
+                status.setRollbackOnly(); // 없는 작업의 결과는 남기지 않습니다.
+            }
+            return completed;
+        });
+        return updated != null ? updated : 0;
+    }
+
+    private String loadResult(String jobId) {
+        return jdbcTemplate.query(SELECT_RESULT_SQL, (rs, rowNum) -> rs.getBytes("content"), jobId)
+                .stream().findFirst()
+                .map(Gzip::decompressToString)
+                .orElse(null);
+    }
+
+    // 진행 메시지에 자막 전체가 실려 오는 경우가 있어 컬럼 길이에 맞춰 자릅니다.
+    private static String truncate(String message) {
+        if (message == null || message.length() <= JobEntity.MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, JobEntity.MESSAGE_MAX_LENGTH - 3) + "...";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package org.example.youtubeaisummary.repository;
+
+import org.example.youtubeaisummary.vo.SummaryCacheEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SummaryCacheEntityRepository extends JpaRepository<SummaryCacheEntity, String> {
+    List<SummaryCacheEntity> findTop100ByOrderByCreatedAtAsc();
+}
@@ -0,0 +1,148 @@
+package org.example.youtubeaisummary.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중 상태(완료/실패 이외)의 저장을 뒤로 미루는 JobRepository.
+ * 작업별 최신 상태 하나만 메모리에 두고 flushInterval마다 묶어서(updateJobs) 저장하므로, 작업 스레드는 DB를 기다리지 않습니다.
+ * 완료/실패는 즉시 저장하며, 조회는 아직 저장되지 않은 최신 상태를 먼저 돌려줍니다.
+ * 모든 상태 변경은 JobStatusCache에도 기록(write-through)하므로, 반복 조회는 대부분 저장소까지 가지 않습니다.
+ */
+@Repository
+@Primary
+public class WriteBehindJobRepository implements JobRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindJobRepository.class);
+
+    private final JobRepository delegate;
+    private final JobStatusCache cache;
+    // 작업 ID -> 아직 저장되지 않은 최신 상태 (완료/실패는 저장되는 동안만 잠시 들어감)
+    private final Map<String, JobStatusDto> pending = new ConcurrentHashMap<>();
+    // 묶음 저장과 완료/실패 저장이 섞여 완료된 작업을 진행 상태로 덮어쓰지 않도록 순서를 보장합니다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Counter coalesced;
+    private final Timer flushTimer;
+    private final ScheduledThreadPoolExecutor flusher;
+
+    /**
+     * @param delegate 실제 저장소. 자기 자신은 주입 후보에서 제외되므로 프로필에 맞는 저장소(MySql/InMemory)가 들어옵니다.
+     */
+    public WriteBehindJobRepository(JobRepository delegate, JobStatusCache cache, MeterRegistry meterRegistry,
+                                    @Value("${app.job.progress.flush-interval:500ms}") Duration flushInterval) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.coalesced = meterRegistry.counter("job.progress.coalesced");
+        this.flushTimer = meterRegistry.timer("job.progress.flush");
+        Gauge.builder("job.progress.pending", pending, Map::size).register(meterRegistry);
+
+        this.flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "job-progress-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean createJobIfAbsent(String jobId) {
+        boolean created = delegate.createJobIfAbsent(jobId);
+        if (created) {
+            cache.invalidate(jobId);
+        }
+        return created;
+    }
+
+    @Override
+    public Optional<JobStatusDto> getJobStatus(String jobId) {
+        Optional<JobStatusDto> cached = cache.get(jobId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        JobStatusDto latest = pending.get(jobId);
+        if (latest != null) {
+            return Optional.of(latest);
+        }
+        Optional<JobStatusDto> loaded = delegate.getJobStatus(jobId);
+        loaded.ifPresent(cache::putLoaded);
+        return loaded;
+    }
+
+    @Override
+    public void updateJob(String jobId, JobStatusDto.JobStatus status, String message) {
+        JobStatusDto job = new JobStatusDto(jobId, status, message);
+        if (!isTerminal(status)) {
+            // 완료 뒤 늦게 도착한 진행 상태는 버립니다. (캐시에서 밀려난 경우는 저장소가 덮어쓰기를 막음)
+            if (cache.isCompleted(jobId)) {
+                return;
+            }
+            if (pending.put(jobId, job) != null) {
+                coalesced.increment();
+            }
+            cache.put(job);
+            return;
+        }
+
+        // 저장이 끝날 때까지 조회가 최신(완료/실패) 상태를 보도록 먼저 올려 둡니다.
+        writeLock.lock();
+        try {
+            pending.put(jobId, job);
+            cache.invalidate(jobId);
+            delegate.updateJob(jobId, status, message);
+            cache.put(job);
+        } finally {
+            pending.remove(jobId, job);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 진행 상태를 한 번에 저장합니다. 실패하면 남겨 두었다가 다음 주기에 다시 시도합니다.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            List<JobStatusDto> batch = List.copyOf(pending.values());
+            long startedAt = System.nanoTime();
+            delegate.updateJobs(batch);
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            // 저장하는 동안 더 새로운 상태가 들어왔다면 그 상태는 남겨 둡니다.
+            batch.forEach(job -> pending.remove(job.jobId(), job));
+        } catch (RuntimeException e) {
+            logger.warn("작업 진행 상태 {}건 저장 실패, 다음 주기에 다시 시도합니다: {}", pending.size(), e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    private static boolean isTerminal(JobStatusDto.JobStatus status) {
+        return status == JobStatusDto.JobStatus.COMPLETED || status == JobStatusDto.JobStatus.FAILED;
+    }
+}
@@ -1,27 +1,41 @@
 package org.example.youtubeaisummary.service;
 
 import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.SummaryDeltaDto;
+import org.example.youtubeaisummary.repository.JobQueue;
 import org.example.youtubeaisummary.repository.JobRepository;
+import org.example.youtubeaisummary.vo.VideoChapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 public class JobManager {
     private static final Logger logger = LoggerFactory.getLogger(JobManager.class);
     private final JobRepository jobRepository;
     private final SseNotificationService sseNotificationService;
+    private final JobQueue jobQueue;
+    // 작업 ID -> 자막 단계에서 얻은 영상 챕터 (요약 단계에서 꺼내 씀)
+    private final Map<String, List<VideoChapter>> chapters = new ConcurrentHashMap<>();
 
-    public JobManager(JobRepository jobRepository, SseNotificationService sseNotificationService) {
+    public JobManager(JobRepository jobRepository, SseNotificationService sseNotificationService, JobQueue jobQueue) {
         this.jobRepository = jobRepository;
         this.sseNotificationService = sseNotificationService;
+        this.jobQueue = jobQueue;
     }
 
     /**
      * 작업을 성공적으로 완료 처리합니다.
      */
     public void completeJob(String jobId, String result) {
+        chapters.remove(jobId);
         jobRepository.updateJob(jobId, JobStatusDto.JobStatus.COMPLETED, result);
+        releaseFromQueue(jobId);
         sseNotificationService.notifyJobStatus(new JobStatusDto(jobId, JobStatusDto.JobStatus.COMPLETED, result));
         sseNotificationService.completeStream(jobId);
         logger.info("작업 ID: {} - 성공적으로 완료되었습니다.", jobId);
@@ -32,7 +46,9 @@ public class JobManager {
      */
     public void failJob(String jobId, String errorMessage, Exception e) {
         logger.error("작업 ID: {} - 실패: {}", jobId, errorMessage, e);
+        chapters.remove(jobId);
         jobRepository.updateJob(jobId, JobStatusDto.JobStatus.FAILED, errorMessage);
+        releaseFromQueue(jobId);
         sseNotificationService.notifyJobStatus(new JobStatusDto(jobId, JobStatusDto.JobStatus.FAILED, errorMessage));
         sseNotificationService.errorStream(jobId, e);
     }
@@ -45,4 +61,39 @@ public class JobManager {
         sseNotificationService.notifyJobStatus(new JobStatusDto(jobId, status, message));
         logger.info("작업 ID: {} - 상태 업데이트: {} - {}", jobId, status, message);
     }
-}
\ No newline at end of file
+
+    /**
+     * 자막 단계에서 얻은 영상 챕터를 요약 단계로 넘기기 위해 보관합니다. (챕터가 없으면 무시)
+     */
+    public void attachChapters(String jobId, List<VideoChapter> videoChapters) {
+        if (!videoChapters.isEmpty()) {
+            chapters.put(jobId, List.copyOf(videoChapters));
+        }
+    }
+
+    /**
+     * 보관한 챕터를 꺼냅니다. 챕터가 없던 영상이면 빈 목록을 반환합니다.
+     */
+    public List<VideoChapter> takeChapters(String jobId) {
+        List<VideoChapter> videoChapters = chapters.remove(jobId);
+        return videoChapters != null ? videoChapters : List.of();
+    }
+
+    /**
+     * 스트리밍 중인 최종 요약 조각을 클라이언트에게 전달합니다. (DB에는 저장하지 않음)
+     */
+    public void publishSummaryDelta(String jobId, String delta) {
+        sseNotificationService.notifySummaryDelta(new SummaryDeltaDto(jobId, delta));
+    }
+
+    /**
+     * 끝난 작업을 작업 큐에서 지웁니다. 실패하면 남은 행은 임대 만료 후 다른 서버가 가져가 정리합니다. (완료된 작업은 지우기만 함)
+     */
+    private void releaseFromQueue(String jobId) {
+        try {
+            jobQueue.release(jobId);
+        } catch (DataAccessException e) {
+            logger.warn("작업 ID: {} - 작업 큐에서 지우지 못했습니다: {}", jobId, e.getMessage());
+        }
+    }
+}
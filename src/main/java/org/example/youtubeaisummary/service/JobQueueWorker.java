@@ -0,0 +1,160 @@
+package org.example.youtubeaisummary.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.repository.JobQueue;
+import org.example.youtubeaisummary.repository.JobRepository;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * job_queue에서 작업을 가져와 OrchestrationService에 넘기고, 처리 중인 작업의 임대를 주기적으로 연장합니다.
+ * 이 서버가 동시에 붙잡는 작업은 max-concurrent개까지이며, 나머지는 큐에 남아 다른 서버가 가져갈 수 있습니다.
+ */
+@Component
+public class JobQueueWorker {
+    private static final Logger logger = LoggerFactory.getLogger(JobQueueWorker.class);
+
+    private final JobQueue jobQueue;
+    private final OrchestrationService orchestrationService;
+    private final JobRepository jobRepository;
+    private final JobManager jobManager;
+    private final int maxConcurrent;
+    private final int maxAttempts;
+    private final Duration maxRun;
+    private final Counter claimed;
+    private final Counter recovered;
+    private final Counter exhausted;
+    private final Counter overrun;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public JobQueueWorker(JobQueue jobQueue, OrchestrationService orchestrationService, JobRepository jobRepository,
+                          JobManager jobManager, MeterRegistry meterRegistry,
+                          @Value("${app.job.queue.max-concurrent:8}") int maxConcurrent,
+                          @Value("${app.job.queue.max-attempts:3}") int maxAttempts,
+                          @Value("${app.job.queue.max-run:30m}") Duration maxRun,
+                          @Value("${app.job.queue.poll-interval:1s}") Duration pollInterval) {
+        this.jobQueue = jobQueue;
+        this.orchestrationService = orchestrationService;
+        this.jobRepository = jobRepository;
+        this.jobManager = jobManager;
+        this.maxConcurrent = maxConcurrent;
+        this.maxAttempts = maxAttempts;
+        this.maxRun = maxRun;
+
+        this.claimed = meterRegistry.counter("job.queue.claimed");
+        this.recovered = meterRegistry.counter("job.queue.recovered");
+        this.exhausted = meterRegistry.counter("job.queue.exhausted");
+        this.overrun = meterRegistry.counter("job.queue.overrun");
+        Gauge.builder("job.queue.leased", jobQueue, JobQueue::leasedCount).register(meterRegistry);
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "job-queue-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = Math.max(1, jobQueue.getLeaseDuration().toMillis() / 3);
+        this.scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 작업을 큐에 넣고 다음 폴링 주기를 기다리지 않고 바로 가져가 보도록 깨웁니다.
+     */
+    public void submit(String jobId) {
+        jobQueue.enqueue(jobId);
+        scheduler.execute(this::poll);
+    }
+
+    /**
+     * 남은 자리만큼 작업을 가져와 처리를 시작합니다. (poll-interval마다 자동 호출)
+     */
+    public void poll() {
+        try {
+            for (JobQueue.ClaimedJob job : jobQueue.claim(maxConcurrent - jobQueue.leasedCount())) {
+                dispatch(job);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("작업 큐 조회 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(JobQueue.ClaimedJob job) {
+        String jobId = job.jobId();
+        claimed.increment();
+        if (job.attempts() > 1) {
+            recovered.increment();
+            logger.info("작업 ID: {} - 임대가 만료된 작업을 이어서 처리합니다. ({}번째 시도)", jobId, job.attempts());
+        }
+
+        // 완료 직후 같은 작업이 다시 등록된 경우: 이미 끝난 작업이므로 큐에서만 지웁니다.
+        if (jobRepository.getJobStatus(jobId).map(status -> status.status() == JobStatusDto.JobStatus.COMPLETED).orElse(false)) {
+            jobQueue.release(jobId);
+            return;
+        }
+        if (job.attempts() > maxAttempts) {
+            exhausted.increment();
+            jobManager.failJob(jobId, "작업을 " + maxAttempts + "번 시도했지만 완료하지 못했습니다. 잠시 후 다시 요청해주세요.",
+                    new IllegalStateException("작업 시도 횟수 초과: " + jobId));
+            return;
+        }
+
+        try {
+            if (job.transcript() != null) {
+                orchestrationService.resumeFromTranscript(jobId, job.transcript());
+            } else {
+                orchestrationService.processYoutubeVideo(jobId, new YoutubeVideo("https://youtu.be/" + jobId));
+            }
+        } catch (RuntimeException e) {
+            // 실행기 큐가 가득 찬 경우 등: 임대를 놓아 다음 주기나 다른 서버가 다시 가져가게 합니다.
+            logger.warn("작업 ID: {} - 처리 시작 실패, 임대를 반납하고 다시 시도합니다: {}", jobId, e.getMessage());
+            try {
+                jobQueue.abandon(jobId);
+            } catch (RuntimeException abandonFailure) {
+                logger.warn("작업 ID: {} - 임대 반납 실패, 임대 만료 후 다시 처리됩니다: {}", jobId, abandonFailure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 임대를 연장합니다. (lease-duration의 1/3마다 자동 호출)
+     * max-run을 넘긴 작업은 이 서버의 실행을 취소하고 실패 처리해 큐에서 지웁니다.
+     * 임대만 놓으면 만료 후 다른 서버가 같은 작업을 다시 실행해, 두 실행이 함께 요약 비용을 쓰고 상태를 번갈아 덮어씁니다.
+     */
+    public void heartbeat() {
+        List<String> overrunJobs;
+        try {
+            overrunJobs = jobQueue.renewLeases(maxRun);
+        } catch (RuntimeException e) {
+            logger.warn("작업 임대 연장 실패: {}", e.getMessage());
+            return;
+        }
+        for (String jobId : overrunJobs) {
+            overrun.increment();
+            try {
+                orchestrationService.cancel(jobId);
+                jobManager.failJob(jobId, "작업이 " + maxRun.toMinutes() + "분 안에 끝나지 않아 중단했습니다. 잠시 후 다시 요청해주세요.",
+                        new TimeoutException("최대 실행 시간 초과: " + jobId));
+            } catch (RuntimeException e) {
+                logger.warn("작업 ID: {} - 시간 초과 작업 정리 실패: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.youtubeaisummary.service;
 
+import org.example.youtubeaisummary.repository.JobQueue;
 import org.example.youtubeaisummary.service.ai.AIService;
 import org.example.youtubeaisummary.service.subtitle.SubtitleService;
 import org.example.youtubeaisummary.vo.YoutubeVideo;
@@ -7,11 +8,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
 @Service
@@ -21,15 +25,22 @@ public class OrchestrationService {
     private final SubtitleService subtitleService;
     private final AIService aiService;
     private final Executor aiTaskExecutor;
+    private final JobQueue jobQueue;
+    // 취소된 작업: 자막 추출이 끝나도 요약 단계를 시작하지 않습니다. (같은 작업을 다시 시작하면 지움)
+    private final Set<String> cancelledJobs = ConcurrentHashMap.newKeySet();
+    // 작업 ID -> 진행 중인 자막 추출. 끝난 추출에는 취소를 보내지 않아 제공자에 취소 기록이 남지 않게 합니다.
+    private final Map<String, CompletableFuture<String>> subtitleFetches = new ConcurrentHashMap<>();
 
     public OrchestrationService(
             Map<String, SubtitleService> subtitleServiceImplementations,
             @Value("${app.subtitle.provider}") String subtitleProvider,
             AIService aiService,
-            @Qualifier("aiTaskExecutor") Executor aiTaskExecutor) {
+            @Qualifier("aiTaskExecutor") Executor aiTaskExecutor,
+            JobQueue jobQueue) {
         this.subtitleService = subtitleServiceImplementations.get(subtitleProvider);
         this.aiService = aiService;
         this.aiTaskExecutor = aiTaskExecutor;
+        this.jobQueue = jobQueue;
         if (this.subtitleService == null) {
             throw new IllegalArgumentException("지원하지 않는 자막 제공자(provider)입니다: " + subtitleProvider);
         }
@@ -38,17 +49,67 @@ public class OrchestrationService {
 
     @Async("ioTaskExecutor")
     public void processYoutubeVideo(String jobId, YoutubeVideo video) {
+        cancelledJobs.remove(jobId);
         logger.info("작업 ID: {}: OrchestrationService: 영상 처리를 시작합니다. SubtitleService를 호출하여 자막을 가져옵니다.", jobId);
         CompletableFuture<String> subtitleFuture = subtitleService.fetchSubs(jobId, video);
+        subtitleFetches.put(jobId, subtitleFuture);
+        subtitleFuture.whenComplete((text, error) -> {
+            // 끝나는 시점과 겹쳐 도착한 취소가 제공자에 남지 않도록 지웁니다.
+            if (subtitleFetches.remove(jobId, subtitleFuture)) {
+                subtitleService.clearCancellation(jobId);
+            }
+        });
 
         subtitleFuture.thenAcceptAsync(extractedText -> {
+                    if (cancelledJobs.remove(jobId)) {
+                        logger.info("작업 ID: {}: 취소된 작업이라 AI 요약을 시작하지 않습니다.", jobId);
+                        return;
+                    }
                     logger.info("작업 ID: {}: 자막 추출 성공 (텍스트 길이: {}). AI 요약을 시작합니다.", jobId, extractedText.length());
+                    checkpointTranscript(jobId, extractedText);
                     aiService.summarize(jobId, extractedText);
                 }, aiTaskExecutor)
                 .exceptionally(ex -> {
+                    cancelledJobs.remove(jobId);
                     Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
                     logger.error("작업 ID: {}: OrchestrationService 관점에서 자막 추출 실패. 예외: {}", jobId, cause.getMessage(), cause);
                     return null;
                 });
     }
+
+    /**
+     * 자막 추출까지 끝난 채 중단된 작업을 요약 단계부터 다시 시작합니다. (이미 요약된 청크는 요약 캐시에서 바로 꺼내 씀)
+     */
+    public void resumeFromTranscript(String jobId, String transcript) {
+        cancelledJobs.remove(jobId);
+        logger.info("작업 ID: {}: 저장된 자막(텍스트 길이: {})으로 AI 요약을 다시 시작합니다.", jobId, transcript.length());
+        aiTaskExecutor.execute(() -> {
+            if (cancelledJobs.remove(jobId)) {
+                logger.info("작업 ID: {}: 취소된 작업이라 AI 요약을 시작하지 않습니다.", jobId);
+                return;
+            }
+            aiService.summarize(jobId, transcript);
+        });
+    }
+
+    /**
+     * 이 서버에서 진행 중인 작업을 멈춥니다. 자막 추출 중이면 제공자를 취소하고, 아직 시작하지 않은 요약 단계는 건너뜁니다.
+     * 이미 시작한 요약 호출은 끝까지 진행되므로, 호출자가 작업을 실패 처리해 다시 실행되지 않게 해야 합니다.
+     */
+    public void cancel(String jobId) {
+        cancelledJobs.add(jobId);
+        subtitleFetches.computeIfPresent(jobId, (id, fetch) -> {
+            subtitleService.cancel(id);
+            return fetch;
+        });
+    }
+
+    private void checkpointTranscript(String jobId, String transcript) {
+        try {
+            jobQueue.checkpointTranscript(jobId, transcript);
+        } catch (DataAccessException e) {
+            // 체크포인트는 재시작 시 자막 추출을 건너뛰기 위한 것이므로, 실패해도 요약은 계속합니다.
+            logger.warn("작업 ID: {}: 자막 체크포인트 저장 실패: {}", jobId, e.getMessage());
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.example.youtubeaisummary.service;
 
 import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.SummaryDeltaDto;
 import org.example.youtubeaisummary.repository.JobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +80,16 @@ public class SseNotificationService {
         sendEvent(jobStatusDto.jobId(), eventName, jobStatusDto);
     }
 
+    /**
+     * 스트리밍 중인 최종 요약의 조각을 전송합니다. 구독자가 없으면 조용히 무시합니다.
+     */
+    public void notifySummaryDelta(SummaryDeltaDto summaryDeltaDto) {
+        if (!emitters.containsKey(summaryDeltaDto.jobId())) {
+            return;
+        }
+        sendEvent(summaryDeltaDto.jobId(), "summary-delta", summaryDeltaDto);
+    }
+
     public void sendEvent(String jobId, String eventName, Object data) {
         SseEmitter emitter = emitters.get(jobId);
         if (emitter != null) {
@@ -9,14 +9,24 @@ import java.util.concurrent.CompletableFuture;
 public class AIChunkProcessor {
 
     private final OpenAiClient openAiClient;
+    private final SummaryCache summaryCache;
 
-    public AIChunkProcessor(OpenAiClient openAiClient) {
+    public AIChunkProcessor(OpenAiClient openAiClient, SummaryCache summaryCache) {
         this.openAiClient = openAiClient;
+        this.summaryCache = summaryCache;
     }
 
     @Async("aiTaskExecutor")
-    public CompletableFuture<String> getPartialSummary(String chunk) {
-        String partialSummary = openAiClient.getPartialSummary(chunk);
+    public CompletableFuture<String> getPartialSummary(String jobId, String chunk) {
+        String partialSummary = summaryCache.getOrCompute(PromptManager.PromptType.PARTIAL_SUMMARY, chunk,
+                () -> openAiClient.getPartialSummary(jobId, chunk));
         return CompletableFuture.completedFuture(partialSummary);
     }
+
+    @Async("aiTaskExecutor")
+    public CompletableFuture<String> getMergedSummary(String jobId, String summaries) {
+        String mergedSummary = summaryCache.getOrCompute(PromptManager.PromptType.MERGE_SUMMARIES, summaries,
+                () -> openAiClient.getMergedSummary(jobId, summaries));
+        return CompletableFuture.completedFuture(mergedSummary);
+    }
 }
@@ -2,39 +2,56 @@ package org.example.youtubeaisummary.service.ai;
 
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.service.JobManager;
+import org.example.youtubeaisummary.vo.VideoChapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 public class AIService {
     private static final Logger logger = LoggerFactory.getLogger(AIService.class);
+    // 부분 요약 앞에 붙이는 챕터 표시 (병합/최종 프롬프트가 이 줄을 구조로 사용)
+    private static final String CHAPTER_MARKER = "[챕터] ";
     private final JobManager jobManager;
     private final AIChunkProcessor chunkProcessor;
     private final OpenAiClient openAiClient;
-    @Value("${app.ai.strategy.optimal-chars:12000}")
-    private int optimalChunkCharSize;
-    @Value("${app.ai.strategy.max-chunks:4}")
-    private int maxChunks;
-
-    public AIService(JobManager jobManager, AIChunkProcessor chunkProcessor, OpenAiClient openAiClient) {
+    private final TextChunker textChunker;
+    private final ChapterTextChunker chapterTextChunker;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final SummaryCache summaryCache;
+    @Value("${app.ai.strategy.optimal-tokens:6000}")
+    private int optimalChunkTokens;
+    @Value("${app.ai.strategy.reduce-fan-in:4}")
+    private int reduceFanIn;
+    @Value("${app.ai.strategy.reduce-input-tokens:12000}")
+    private int reduceInputTokens;
+    @Value("${app.ai.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
+    public AIService(JobManager jobManager, AIChunkProcessor chunkProcessor, OpenAiClient openAiClient,
+                     TextChunker textChunker, ChapterTextChunker chapterTextChunker, TokenCountEstimator tokenCountEstimator,
+                     SummaryCache summaryCache) {
         this.jobManager = jobManager;
         this.chunkProcessor = chunkProcessor;
         this.openAiClient = openAiClient;
+        this.textChunker = textChunker;
+        this.chapterTextChunker = chapterTextChunker;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.summaryCache = summaryCache;
     }
 
     @Async("aiTaskExecutor")
     public void summarize(String jobId, String subtitleText) {
         try {
-            SummarizationStrategy strategy = decideStrategy(subtitleText.length());
-            String finalSummary = executeStrategy(jobId, subtitleText, strategy);
+            List<VideoChapter> chapters = jobManager.takeChapters(jobId);
+            SummarizationStrategy strategy = decideStrategy(tokenCountEstimator.estimate(subtitleText));
+            String finalSummary = executeStrategy(jobId, subtitleText, strategy, chapters);
 
             if (finalSummary == null || finalSummary.isBlank()) {
                 throw new RuntimeException("AI로부터 유효한 최종 요약 응답을 받지 못했습니다.");
@@ -47,77 +64,84 @@ public class AIService {
     }
 
     /**
-     * 오직 '전략 결정'만 책임지는 메서드
+     * 오직 '전략 결정'만 책임지는 메서드 (토큰 수 기준)
+     * 청크 크기는 항상 최적 크기로 유지하고, 긴 영상은 계층형 병합으로 처리합니다.
      */
-    private SummarizationStrategy decideStrategy(int totalChars) {
-        if (totalChars <= optimalChunkCharSize) {
+    private SummarizationStrategy decideStrategy(int totalTokens) {
+        if (totalTokens <= optimalChunkTokens) {
             return new SummarizationStrategy(StrategyType.SINGLE_SHOT, 0);
         }
-
-        int potentialChunks = (int) Math.ceil((double) totalChars / optimalChunkCharSize);
-        if (potentialChunks <= maxChunks) {
-            return new SummarizationStrategy(StrategyType.OPTIMAL_MAP_REDUCE, optimalChunkCharSize);
-        } else {
-            int dynamicChunkSize = (int) Math.ceil((double) totalChars / maxChunks);
-            return new SummarizationStrategy(StrategyType.FIXED_MAP_REDUCE, dynamicChunkSize);
-        }
+        return new SummarizationStrategy(StrategyType.MAP_REDUCE, optimalChunkTokens);
     }
 
     /**
      * 결정된 전략을 '실행'만 하는 메서드 (switch 사용으로 가독성 향상)
      */
-    private String executeStrategy(String jobId, String text, SummarizationStrategy strategy) {
+    private String executeStrategy(String jobId, String text, SummarizationStrategy strategy, List<VideoChapter> chapters) {
         logger.info("작업 ID: {} - AI 요약 시작 (총 글자 수: {}, 전략: {})", jobId, text.length(), strategy.type());
 
         return switch (strategy.type()) {
             case SINGLE_SHOT -> {
                 logger.info("작업 ID: {} - [전략 1] 단일 요청으로 정리합니다.", jobId);
                 jobManager.updateJobProgress(jobId, JobStatusDto.JobStatus.AI_SUMMARIZING_FINAL, "최종 요약본을 생성 중입니다...");
-                yield openAiClient.getFinalSummaryFromTranscript(text);
+                yield summaryCache.getOrCompute(PromptManager.PromptType.FINAL_FROM_TRANSCRIPT, text, () -> streamingEnabled
+                        ? openAiClient.streamFinalSummaryFromTranscript(jobId, text, delta -> jobManager.publishSummaryDelta(jobId, delta))
+                        : openAiClient.getFinalSummaryFromTranscript(jobId, text));
             }
-            case OPTIMAL_MAP_REDUCE, FIXED_MAP_REDUCE -> {
-                logger.info("작업 ID: {} - [전략 2/3] Map-Reduce 방식으로 분할 처리합니다. (청크 사이즈: {})", jobId, strategy.chunkSize());
-                yield executeMapReduce(jobId, text, strategy.chunkSize());
+            case MAP_REDUCE -> {
+                logger.info("작업 ID: {} - [전략 2] Map-Reduce 방식으로 분할 처리합니다. (청크 토큰 예산: {})", jobId, strategy.chunkTokens());
+                yield executeMapReduce(jobId, text, strategy.chunkTokens(), chapters);
             }
         };
     }
 
-    private String executeMapReduce(String jobId, String text, int chunkSize) {
-        int overlap = (int) (chunkSize * 0.1);
-        List<String> chunks = splitTextByChars(text, chunkSize, overlap);
-        logger.info("작업 ID: {} - 텍스트가 {}개의 청크로 분할되었습니다.", jobId, chunks.size());
-
-        jobManager.updateJobProgress(jobId, JobStatusDto.JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약들을 생성 중입니다...");
-
-        List<CompletableFuture<String>> partialSummaryFutures = chunks.stream().map(chunkProcessor::getPartialSummary).toList();
-
-        CompletableFuture.allOf(partialSummaryFutures.toArray(new CompletableFuture[0])).join();
+    private String executeMapReduce(String jobId, String text, int chunkTokens, List<VideoChapter> chapters) {
+        List<CompletableFuture<String>> partialSummaryFutures = chapters.size() > 1
+                ? mapChapters(jobId, text, chunkTokens, chapters)
+                : mapChunks(jobId, text, chunkTokens);
 
-        String combinedSummaries = partialSummaryFutures.stream().map(CompletableFuture::join).collect(Collectors.joining("\n\n"));
+        // 부분 요약이 끝나는 대로 인접한 것끼리 미리 병합하여, 가장 느린 청크 이후에는 작은 Reduce만 남깁니다.
+        IncrementalReducer reducer = new IncrementalReducer(reduceFanIn, reduceInputTokens, tokenCountEstimator,
+                summaries -> chunkProcessor.getMergedSummary(jobId, summaries));
+        List<String> summaries = reducer.reduce(partialSummaryFutures).join();
+        // 점진적 병합 후에도 토큰 예산을 넘으면 계층형 병합으로 마무리합니다.
+        HierarchicalReducer hierarchicalReducer = new HierarchicalReducer(jobId, reduceFanIn, reduceInputTokens, tokenCountEstimator,
+                input -> chunkProcessor.getMergedSummary(jobId, input));
+        String combinedSummaries = String.join("\n\n", hierarchicalReducer.reduce(summaries));
 
         jobManager.updateJobProgress(jobId, JobStatusDto.JobStatus.AI_SUMMARIZING_FINAL, "최종 요약을 생성 중입니다...");
-        return openAiClient.getFinalSummaryFromSummaries(combinedSummaries);
+        return summaryCache.getOrCompute(PromptManager.PromptType.FINAL_FROM_SUMMARIES, combinedSummaries, () -> streamingEnabled
+                ? openAiClient.streamFinalSummaryFromSummaries(jobId, combinedSummaries, delta -> jobManager.publishSummaryDelta(jobId, delta))
+                : openAiClient.getFinalSummaryFromSummaries(jobId, combinedSummaries));
     }
 
+    private List<CompletableFuture<String>> mapChunks(String jobId, String text, int chunkTokens) {
+        List<String> chunks = textChunker.chunk(text, chunkTokens);
+        logger.info("작업 ID: {} - 텍스트가 {}개의 청크로 분할되었습니다.", jobId, chunks.size());
 
-    private List<String> splitTextByChars(String text, int chunkSize, int chunkOverlap) {
-        List<String> chunks = new ArrayList<>();
-        int textLength = text.length();
-        int i = 0;
-        while (i < textLength) {
-            int end = Math.min(i + chunkSize, textLength);
-            chunks.add(text.substring(i, end));
-            i += chunkSize - chunkOverlap;
-        }
-        return chunks;
+        jobManager.updateJobProgress(jobId, JobStatusDto.JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약들을 생성 중입니다...");
+        return chunks.stream().map(chunk -> chunkProcessor.getPartialSummary(jobId, chunk)).toList();
+    }
+
+    /**
+     * 챕터 단위로 Map 작업을 나누고, 부분 요약마다 챕터 제목을 붙여 Reduce 단계가 구간을 다시 찾지 않게 합니다.
+     */
+    private List<CompletableFuture<String>> mapChapters(String jobId, String text, int chunkTokens, List<VideoChapter> chapters) {
+        List<ChapterTextChunker.Section> sections = chapterTextChunker.chunk(text, chapters, chunkTokens);
+        logger.info("작업 ID: {} - 챕터 {}개를 {}개의 구간으로 나누었습니다.", jobId, chapters.size(), sections.size());
+
+        jobManager.updateJobProgress(jobId, JobStatusDto.JobStatus.AI_SUMMARIZING_PARTIAL, "챕터별 부분 요약들을 생성 중입니다...");
+        return sections.stream()
+                .map(section -> chunkProcessor.getPartialSummary(jobId, section.text())
+                        .thenApply(summary -> CHAPTER_MARKER + section.title() + "\n" + summary))
+                .toList();
     }
 
     private enum StrategyType {
         SINGLE_SHOT,
-        OPTIMAL_MAP_REDUCE,
-        FIXED_MAP_REDUCE
+        MAP_REDUCE
     }
 
-    private record SummarizationStrategy(StrategyType type, int chunkSize) {
+    private record SummarizationStrategy(StrategyType type, int chunkTokens) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,323 @@
+package org.example.youtubeaisummary.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.example.youtubeaisummary.exception.ai.AiCapacityExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 모든 OpenAI 호출에 적용되는 전역 AIMD 동시성 제한기입니다.
+ * 지연 시간이 안정적이고 한도가 꽉 찬 상태면 한도를 1/limit 씩 늘리고,
+ * 429 응답이면 절반으로, 지연 급증이나 응답 시간 초과면 10% 줄입니다.
+ * 한도를 초과한 호출은 작업(jobId)별 큐에 넣고 라운드 로빈으로 꺼내어 한 작업이 슬롯을 독점하지 못하게 합니다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double LATENCY_EWMA_ALPHA = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final long queueTimeoutNanos;
+    private final double latencyTolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ArrayDeque<Waiter>> waitersByJob = new HashMap<>();
+    private final ArrayDeque<String> jobRotation = new ArrayDeque<>();
+    private double limit;
+    private int inFlight = 0;
+    private int queued = 0;
+    private double latencyEwmaMillis = -1;
+
+    private final Counter rejectedCounter;
+    private final Counter throttledCounter;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${app.ai.limiter.initial-limit:4}") int initialLimit,
+                                      @Value("${app.ai.limiter.min-limit:1}") int minLimit,
+                                      @Value("${app.ai.limiter.max-limit:32}") int maxLimit,
+                                      @Value("${app.ai.limiter.max-queue:200}") int maxQueueSize,
+                                      @Value("${app.ai.limiter.queue-timeout-ms:120000}") long queueTimeoutMillis,
+                                      @Value("${app.ai.limiter.latency-tolerance:2.0}") double latencyTolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        this.latencyTolerance = latencyTolerance;
+
+        this.rejectedCounter = Counter.builder("openai.limiter.rejected").register(meterRegistry);
+        this.throttledCounter = Counter.builder("openai.limiter.throttled").register(meterRegistry);
+        Gauge.builder("openai.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("openai.limiter.inflight", this, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder("openai.limiter.queued", this, AdaptiveConcurrencyLimiter::getQueued).register(meterRegistry);
+    }
+
+    /**
+     * 슬롯을 얻을 때까지 대기한 뒤 호출을 실행하고, 결과(지연 시간/429 여부)로 한도를 조정합니다.
+     */
+    public <T> T execute(String jobId, Supplier<T> call) {
+        acquire(jobId);
+        return new Slot().run(call);
+    }
+
+    /**
+     * 기다리지 않고 빈 슬롯이 있을 때만 확보합니다. 대기열에 먼저 온 호출이 있거나 한도가 꽉 찼으면 null을 반환합니다. (헤지 요청용)
+     */
+    public Slot tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit && queued == 0) {
+                inFlight++;
+                return new Slot();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(String jobId) {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit && queued == 0) {
+                inFlight++;
+                return;
+            }
+            if (queued >= maxQueueSize) {
+                rejectedCounter.increment();
+                throw new AiCapacityExceededException("OpenAI 호출 대기열이 가득 찼습니다. (대기 중: " + queued + ")");
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            waitersByJob.computeIfAbsent(jobId, key -> {
+                jobRotation.addLast(key);
+                return new ArrayDeque<>();
+            }).addLast(waiter);
+            queued++;
+
+            long remainingNanos = queueTimeoutNanos;
+            try {
+                while (!waiter.granted) {
+                    if (remainingNanos <= 0) {
+                        removeWaiter(jobId, waiter);
+                        rejectedCounter.increment();
+                        throw new AiCapacityExceededException("OpenAI 호출 대기 시간이 초과되었습니다. 작업 ID: " + jobId);
+                    }
+                    remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.granted) {
+                    // 슬롯을 받은 직후 인터럽트된 경우 슬롯을 반납합니다.
+                    inFlight--;
+                    dispatch();
+                } else {
+                    removeWaiter(jobId, waiter);
+                }
+                throw new AiCapacityExceededException("OpenAI 호출 대기 중 인터럽트되었습니다. 작업 ID: " + jobId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            boolean wasSaturated = inFlight >= (int) limit;
+            inFlight--;
+            adjustLimit(TimeUnit.NANOSECONDS.toMillis(latencyNanos), outcome, wasSaturated);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit(long latencyMillis, Outcome outcome, boolean wasSaturated) {
+        double previous = limit;
+        switch (outcome) {
+            case THROTTLED -> {
+                throttledCounter.increment();
+                limit = Math.max(minLimit, limit * 0.5);
+            }
+            case SUCCESS -> {
+                if (latencyEwmaMillis < 0) {
+                    latencyEwmaMillis = latencyMillis;
+                } else if (latencyMillis > latencyEwmaMillis * latencyTolerance) {
+                    limit = Math.max(minLimit, limit * 0.9);
+                } else if (wasSaturated) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                }
+                latencyEwmaMillis = latencyEwmaMillis * (1 - LATENCY_EWMA_ALPHA) + latencyMillis * LATENCY_EWMA_ALPHA;
+            }
+            case TIMED_OUT -> limit = Math.max(minLimit, limit * 0.9);
+            case ERROR -> {
+                // 429와 시간 초과 이외의 실패는 한도 조정에 반영하지 않습니다.
+            }
+        }
+        if ((int) previous != (int) limit) {
+            logger.info("OpenAI 동시성 한도 변경: {} -> {} (원인: {}, 지연: {}ms)", (int) previous, (int) limit, outcome, latencyMillis);
+        }
+    }
+
+    /**
+     * 남은 슬롯만큼 작업별 대기열을 라운드 로빈으로 돌며 대기자를 깨웁니다.
+     */
+    private void dispatch() {
+        while (inFlight < (int) limit && !jobRotation.isEmpty()) {
+            String jobId = jobRotation.pollFirst();
+            ArrayDeque<Waiter> waiters = waitersByJob.get(jobId);
+            Waiter waiter = waiters.pollFirst();
+            if (waiters.isEmpty()) {
+                waitersByJob.remove(jobId);
+            } else {
+                jobRotation.addLast(jobId);
+            }
+            waiter.granted = true;
+            inFlight++;
+            queued--;
+            waiter.condition.signal();
+        }
+    }
+
+    private void removeWaiter(String jobId, Waiter waiter) {
+        ArrayDeque<Waiter> waiters = waitersByJob.get(jobId);
+        if (waiters != null && waiters.remove(waiter)) {
+            queued--;
+            if (waiters.isEmpty()) {
+                waitersByJob.remove(jobId);
+                jobRotation.remove(jobId);
+            }
+        }
+    }
+
+    /**
+     * 예외 원인 체인에서 HTTP 429(Too Many Requests) 응답 여부를 판별합니다.
+     */
+    static boolean isRateLimited(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof HttpStatusCodeException e && e.getStatusCode().value() == 429) return true;
+            if (t instanceof WebClientResponseException e && e.getStatusCode().value() == 429) return true;
+            if (t.getMessage() != null && t.getMessage().startsWith("429")) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    /**
+     * 예외 원인 체인에서 응답 시간 초과 여부를 판별합니다. (지연 급증과 같은 과부하 신호로 취급)
+     */
+    static boolean isTimeout(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException || t instanceof ReadTimeoutException) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 확보한 슬롯. run으로 호출하면 결과에 따라 한도를 조정하며 반납하고, 호출하지 않고 끝나면 release로 반납합니다.
+     */
+    public final class Slot {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private long startNanos = System.nanoTime();
+
+        private Slot() {
+        }
+
+        public <T> T run(Supplier<T> call) {
+            startNanos = System.nanoTime();
+            Outcome outcome = Outcome.ERROR;
+            try {
+                T result = call.get();
+                outcome = Outcome.SUCCESS;
+                return result;
+            } catch (RuntimeException e) {
+                if (isRateLimited(e)) {
+                    outcome = Outcome.THROTTLED;
+                } else if (isTimeout(e)) {
+                    outcome = Outcome.TIMED_OUT;
+                }
+                throw e;
+            } finally {
+                release(outcome);
+            }
+        }
+
+        /**
+         * 한도 조정 없이 슬롯을 반납합니다. 이미 반납했으면 아무것도 하지 않습니다.
+         */
+        public void release() {
+            release(Outcome.ERROR);
+        }
+
+        private void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(System.nanoTime() - startNanos, outcome);
+            }
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        THROTTLED,
+        TIMED_OUT,
+        ERROR
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean granted = false;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
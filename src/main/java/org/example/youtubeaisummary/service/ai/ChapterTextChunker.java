@@ -0,0 +1,136 @@
+package org.example.youtubeaisummary.service.ai;
+
+import org.example.youtubeaisummary.vo.VideoChapter;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * "타임스탬프:문장" 줄을 영상 챕터별로 묶어 Map 단계의 작업 단위(Section)를 만듭니다.
+ * 토큰 예산을 넘는 챕터는 문장 경계에서 나누고, minTokens보다 작은 챕터는 예산 안에서 이웃 챕터와 합칩니다.
+ */
+@Component
+public class ChapterTextChunker {
+    private static final Pattern TIMESTAMP = Pattern.compile("^(\\d+):(\\d{2}):(\\d{2}),(\\d{3}):");
+
+    private final TextChunker textChunker;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int minTokens;
+
+    public ChapterTextChunker(TextChunker textChunker, TokenCountEstimator tokenCountEstimator,
+                              @Value("${app.ai.strategy.chapter-min-tokens:1500}") int minTokens) {
+        this.textChunker = textChunker;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.minTokens = minTokens;
+    }
+
+    /**
+     * @param text        SubtitleProcessor가 만든 "타임스탬프:문장" 줄 단위 텍스트
+     * @param chapters    영상 챕터 (시작 시각 순서가 아니어도 됨)
+     * @param tokenBudget Section 하나가 넘지 않아야 하는 최대 토큰 수
+     * @return 원문 순서를 유지한 Section 목록 (챕터가 없으면 빈 목록)
+     */
+    public List<Section> chunk(String text, List<VideoChapter> chapters, int tokenBudget) {
+        if (tokenBudget <= 0) {
+            throw new IllegalArgumentException("토큰 예산은 0보다 커야 합니다: " + tokenBudget);
+        }
+        if (chapters.isEmpty()) {
+            return List.of();
+        }
+
+        List<Section> merged = new ArrayList<>();
+        List<Integer> mergedTokens = new ArrayList<>();
+        for (Section section : groupByChapter(text, chapters)) {
+            int tokens = countTokens(section.text());
+            int last = merged.size() - 1;
+            // 작은 챕터는 예산 안에서 앞 챕터와 합칩니다. (작은 챕터 뒤의 챕터도 앞으로 합쳐짐)
+            if (last >= 0 && (mergedTokens.get(last) < minTokens || tokens < minTokens)
+                    && mergedTokens.get(last) + tokens <= tokenBudget) {
+                Section previous = merged.get(last);
+                merged.set(last, new Section(previous.title() + " / " + section.title(), previous.text() + "\n" + section.text()));
+                mergedTokens.set(last, mergedTokens.get(last) + tokens);
+                continue;
+            }
+            merged.add(section);
+            mergedTokens.add(tokens);
+        }
+
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < merged.size(); i++) {
+            Section section = merged.get(i);
+            if (mergedTokens.get(i) <= tokenBudget) {
+                sections.add(section);
+                continue;
+            }
+            List<String> pieces = textChunker.chunk(section.text(), tokenBudget);
+            for (int p = 0; p < pieces.size(); p++) {
+                sections.add(new Section(section.title() + " (" + (p + 1) + "/" + pieces.size() + ")", pieces.get(p)));
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * 각 줄을 그 시각이 속한 챕터에 넣습니다. 첫 챕터 이전의 줄은 첫 챕터에, 타임스탬프가 없는 줄은 바로 앞 줄의 챕터에 넣습니다.
+     */
+    private List<Section> groupByChapter(String text, List<VideoChapter> chapters) {
+        List<VideoChapter> ordered = chapters.stream().sorted(Comparator.comparingDouble(VideoChapter::startTime)).toList();
+        List<StringBuilder> texts = new ArrayList<>();
+        ordered.forEach(chapter -> texts.add(new StringBuilder()));
+
+        int index = 0;
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) continue;
+            double seconds = startSeconds(line);
+            while (seconds >= 0 && index + 1 < ordered.size() && ordered.get(index + 1).startTime() <= seconds) {
+                index++;
+            }
+            StringBuilder builder = texts.get(index);
+            if (!builder.isEmpty()) builder.append('\n');
+            builder.append(line);
+        }
+
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (!texts.get(i).isEmpty()) {
+                String title = ordered.get(i).title().isBlank() ? "챕터 " + (i + 1) : ordered.get(i).title().strip();
+                sections.add(new Section(title, texts.get(i).toString()));
+            }
+        }
+        return sections;
+    }
+
+    private int countTokens(String text) {
+        int tokens = 0;
+        for (String line : text.split("\n")) {
+            tokens += tokenCountEstimator.estimate(line) + 1; // 줄바꿈 토큰 포함
+        }
+        return tokens;
+    }
+
+    private static double startSeconds(String line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        if (!matcher.find()) {
+            return -1;
+        }
+        return Integer.parseInt(matcher.group(1)) * 3600
+                + Integer.parseInt(matcher.group(2)) * 60
+                + Integer.parseInt(matcher.group(3))
+                + Integer.parseInt(matcher.group(4)) / 1000.0;
+    }
+
+    /**
+     * Map 단계의 작업 단위
+     *
+     * @param title 챕터 제목 (합쳐진 챕터는 " / "로 연결, 나뉜 챕터는 "(1/3)"처럼 번호 표시)
+     * @param text  해당 구간의 "타임스탬프:문장" 줄들
+     */
+    public record Section(String title, String text) {
+    }
+}
@@ -0,0 +1,286 @@
+package org.example.youtubeaisummary.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 꼬리 지연(tail latency)을 줄이기 위한 헤지(hedged) 호출 실행기입니다. (기본 비활성화)
+ * 원 요청이 최근 지연 시간의 백분위 임계값 안에 끝나지 않으면 같은(또는 보조) 모델로 복제 요청을 보내고,
+ * 원 요청이 실패하면 복제 요청으로 즉시 대체(failover)합니다. 먼저 성공한 응답을 사용하고 나머지는 취소합니다.
+ * 추가 요청은 전체 호출 대비 비율(max-ratio) 안에서만 허용되고, 헤지 요청도 자기 몫의 자원(동시성 슬롯, TPM 예산)을 확보해야 시작합니다.
+ */
+@Component
+public class HedgedCallExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(HedgedCallExecutor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final boolean enabled;
+    private final Set<PromptManager.PromptType> hedgedTypes;
+    private final double percentile;
+    private final int minSamples;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final double maxRatio;
+    private final double maxBurst;
+
+    private final Map<PromptManager.PromptType, LatencyWindow> latencies = new EnumMap<>(PromptManager.PromptType.class);
+    private double hedgeCredits;
+
+    public HedgedCallExecutor(MeterRegistry meterRegistry,
+                              @Qualifier("hedgeTaskExecutor") Executor executor,
+                              @Value("${app.ai.hedge.enabled:false}") boolean enabled,
+                              @Value("${app.ai.hedge.types:PARTIAL_SUMMARY}") Set<PromptManager.PromptType> hedgedTypes,
+                              @Value("${app.ai.hedge.percentile:0.95}") double percentile,
+                              @Value("${app.ai.hedge.min-samples:20}") int minSamples,
+                              @Value("${app.ai.hedge.window-size:200}") int windowSize,
+                              @Value("${app.ai.hedge.initial-delay:20s}") Duration initialDelay,
+                              @Value("${app.ai.hedge.min-delay:2s}") Duration minDelay,
+                              @Value("${app.ai.hedge.max-ratio:0.1}") double maxRatio,
+                              @Value("${app.ai.hedge.max-burst:5}") double maxBurst) {
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.hedgedTypes = hedgedTypes;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxRatio = maxRatio;
+        this.maxBurst = maxBurst;
+        this.hedgeCredits = maxBurst;
+
+        for (PromptManager.PromptType type : hedgedTypes) {
+            latencies.put(type, new LatencyWindow(windowSize));
+            Gauge.builder("openai.hedge.delay", this, self -> TimeUnit.NANOSECONDS.toMillis(self.hedgeDelayNanos(type)))
+                    .tag("type", type.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 헤지 대상 유형이면 primary를 실행하고, 느리거나 실패하면 hedge를 추가로 실행해 먼저 성공한 결과를 반환합니다.
+     * hedge는 필요한 자원을 기다리지 않고 확보해 호출을 돌려주고, 확보하지 못하면 null을 돌려줍니다. (이때는 헤지를 건너뜀)
+     * 대상이 아니면 호출 스레드에서 primary만 실행합니다.
+     */
+    public <T> T execute(PromptManager.PromptType type, Supplier<T> primary, Supplier<HedgeCall<T>> hedge) {
+        if (!enabled || !hedgedTypes.contains(type)) {
+            return primary.get();
+        }
+        earnCredit();
+
+        long startNanos = System.nanoTime();
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        Future<T> primaryFuture = completionService.submit(primary::get);
+        Future<T> hedgeFuture = null;
+        HedgeCall<T> hedgeCall = null;
+        int pending = 1;
+        try {
+            Future<T> done = completionService.poll(hedgeDelayNanos(type), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                hedgeCall = reserveHedge(type, hedge);
+                if (hedgeCall != null) {
+                    hedgeFuture = launchHedge(completionService, type, hedgeCall, "slow");
+                    pending++;
+                }
+                done = completionService.take();
+            }
+            while (true) {
+                pending--;
+                try {
+                    T result = done.get();
+                    onSuccess(type, startNanos, hedgeFuture == null ? null : done == primaryFuture ? "primary" : "hedge");
+                    return result;
+                } catch (ExecutionException e) {
+                    if (hedgeFuture == null) {
+                        hedgeCall = reserveHedge(type, hedge);
+                        if (hedgeCall != null) {
+                            hedgeFuture = launchHedge(completionService, type, hedgeCall, "failover");
+                            pending++;
+                        }
+                    }
+                    if (pending == 0) {
+                        throw unwrap(e);
+                    }
+                    logger.debug("[{}] 헤지 호출 중 한쪽 요청 실패, 남은 요청을 기다립니다: {}", type, e.getCause().toString());
+                    done = completionService.take();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("헤지 호출 대기 중 인터럽트되었습니다.");
+        } finally {
+            // 패자 요청은 인터럽트로 취소해 커넥션과 스레드를 즉시 돌려받습니다.
+            primaryFuture.cancel(true);
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(true);
+            }
+            // 시작 전에 취소된 헤지도 확보한 자원을 돌려줍니다. (이미 돌려줬으면 무시)
+            if (hedgeCall != null) {
+                hedgeCall.close();
+            }
+        }
+    }
+
+    /**
+     * 추가 요청 예산(credit)과 헤지 자체의 자원을 모두 확보했을 때만 호출을 돌려줍니다.
+     */
+    private <T> HedgeCall<T> reserveHedge(PromptManager.PromptType type, Supplier<HedgeCall<T>> hedge) {
+        if (!tryConsumeCredit()) {
+            countSkipped(type, "budget");
+            return null;
+        }
+        HedgeCall<T> call = hedge.get();
+        if (call == null) {
+            refundCredit();
+            countSkipped(type, "capacity");
+        }
+        return call;
+    }
+
+    private <T> Future<T> launchHedge(ExecutorCompletionService<T> completionService, PromptManager.PromptType type,
+                                      HedgeCall<T> call, String reason) {
+        Counter.builder("openai.hedge.launched")
+                .tag("type", type.name())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return completionService.submit(() -> {
+            try {
+                return call.get();
+            } finally {
+                call.close();
+            }
+        });
+    }
+
+    private void countSkipped(PromptManager.PromptType type, String reason) {
+        Counter.builder("openai.hedge.skipped").tag("type", type.name()).tag("reason", reason).register(meterRegistry).increment();
+    }
+
+    private void onSuccess(PromptManager.PromptType type, long startNanos, String winner) {
+        // 헤지가 이긴 경우에도 원 요청 시작 시점 기준으로 기록합니다. (임계값이 점점 낮아지지 않도록)
+        LatencyWindow window = latencies.get(type);
+        synchronized (window) {
+            window.add(System.nanoTime() - startNanos);
+        }
+        if (winner != null) {
+            Counter.builder("openai.hedge.wins")
+                    .tag("type", type.name())
+                    .tag("winner", winner)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 최근 지연 시간의 백분위 값을 헤지 임계값으로 사용합니다. 표본이 부족하면 initial-delay를 사용합니다.
+     */
+    long hedgeDelayNanos(PromptManager.PromptType type) {
+        LatencyWindow window = latencies.get(type);
+        synchronized (window) {
+            if (window.size() < minSamples) {
+                return initialDelayNanos;
+            }
+            return Math.max(minDelayNanos, window.percentile(percentile));
+        }
+    }
+
+    private synchronized void earnCredit() {
+        hedgeCredits = Math.min(maxBurst, hedgeCredits + maxRatio);
+    }
+
+    private synchronized boolean tryConsumeCredit() {
+        if (hedgeCredits < 1) {
+            return false;
+        }
+        hedgeCredits -= 1;
+        return true;
+    }
+
+    private synchronized void refundCredit() {
+        hedgeCredits = Math.min(maxBurst, hedgeCredits + 1);
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("헤지 호출에 실패했습니다.", cause);
+    }
+
+    /**
+     * 자원을 확보한 헤지 호출. 호출이 끝나거나 취소되면 close로 자원을 돌려주며, close는 여러 번 불려도 한 번만 돌려줘야 합니다.
+     */
+    public interface HedgeCall<T> extends Supplier<T>, AutoCloseable {
+        @Override
+        void close();
+
+        /**
+         * 따로 확보할 자원이 없는 호출
+         */
+        static <T> HedgeCall<T> of(Supplier<T> call) {
+            return new HedgeCall<>() {
+                @Override
+                public T get() {
+                    return call.get();
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int count = 0;
+        private int next = 0;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private int size() {
+            return count;
+        }
+
+        private long percentile(double p) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p * count) - 1;
+            return sorted[Math.clamp(index, 0, count - 1)];
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.youtubeaisummary.service.ai;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 요약 목록이 한 번의 최종 Reduce 입력(팬인, 토큰 예산)에 들어갈 때까지 그룹 단위로 병렬 병합을 반복합니다.
+ * 단계 수는 log(요약 수)에 비례하며, 점진적 병합(IncrementalReducer) 후에도 토큰 예산을 넘는 경우를 위한 마무리 단계입니다.
+ * 작업(Job) 하나당 하나의 인스턴스를 사용합니다.
+ */
+public class HierarchicalReducer {
+    private static final Logger logger = LoggerFactory.getLogger(HierarchicalReducer.class);
+
+    private final String jobId;
+    private final int fanIn;
+    private final int maxReduceTokens;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Function<String, CompletableFuture<String>> merger;
+
+    public HierarchicalReducer(String jobId, int fanIn, int maxReduceTokens, TokenCountEstimator tokenCountEstimator,
+                               Function<String, CompletableFuture<String>> merger) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("팬인은 2 이상이어야 합니다: " + fanIn);
+        }
+        this.jobId = jobId;
+        this.fanIn = fanIn;
+        this.maxReduceTokens = maxReduceTokens;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.merger = merger;
+    }
+
+    /**
+     * 최종 Reduce 한 번에 들어가는 (순서가 보존된) 요약 목록을 반환합니다.
+     */
+    public List<String> reduce(List<String> summaries) {
+        int level = 1;
+        while (!fitsInSingleReduce(summaries)) {
+            List<List<String>> groups = groupForReduce(summaries);
+            logger.info("작업 ID: {} - 계층형 병합 {}단계: {}개의 요약을 {}개 그룹으로 병합합니다.", jobId, level, summaries.size(), groups.size());
+
+            // 한 개짜리 그룹은 병합하지 않고 다음 단계로 넘깁니다.
+            List<CompletableFuture<String>> mergedFutures = groups.stream()
+                    .map(group -> group.size() == 1
+                            ? CompletableFuture.completedFuture(group.getFirst())
+                            : merger.apply(String.join("\n\n", group)))
+                    .toList();
+            CompletableFuture.allOf(mergedFutures.toArray(new CompletableFuture[0])).join();
+
+            summaries = mergedFutures.stream().map(CompletableFuture::join).toList();
+            level++;
+        }
+        return summaries;
+    }
+
+    private boolean fitsInSingleReduce(List<String> summaries) {
+        if (summaries.size() <= 1) {
+            return true;
+        }
+        return summaries.size() <= fanIn && totalTokens(summaries) <= maxReduceTokens;
+    }
+
+    /**
+     * 순서를 유지하며 팬인과 토큰 예산을 넘지 않도록 그룹을 만듭니다.
+     * 진행을 보장하기 위해 그룹에는 최소 2개의 요약이 들어가며, 마지막에 하나만 남으면 앞 그룹에 여유가 있을 때만 합칩니다.
+     */
+    private List<List<String>> groupForReduce(List<String> summaries) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+        int lastGroupTokens = 0;
+        for (String summary : summaries) {
+            int tokens = tokenCountEstimator.estimate(summary);
+            boolean full = current.size() >= fanIn
+                    || (current.size() >= 2 && currentTokens + tokens > maxReduceTokens);
+            if (full) {
+                groups.add(current);
+                lastGroupTokens = currentTokens;
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(summary);
+            currentTokens += tokens;
+        }
+        List<String> last = groups.isEmpty() ? null : groups.getLast();
+        if (current.size() == 1 && last != null && last.size() < fanIn && lastGroupTokens + currentTokens <= maxReduceTokens) {
+            last.add(current.getFirst());
+        } else if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private int totalTokens(List<String> summaries) {
+        return summaries.stream().mapToInt(tokenCountEstimator::estimate).sum();
+    }
+}
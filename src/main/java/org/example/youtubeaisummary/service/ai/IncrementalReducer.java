@@ -0,0 +1,129 @@
+package org.example.youtubeaisummary.service.ai;
+
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 부분 요약이 도착하는 즉시, 원문 순서상 인접한 완료 요약들끼리 병합을 시작하는 점진적 Reducer입니다.
+ * 느린 청크 하나가 남아 있어도 나머지는 미리 병합되므로, 가장 느린 청크가 끝난 뒤에는
+ * 최대 팬인 개수 이하의 결과만 남아 작은 최종 Reduce 한 번으로 끝납니다.
+ * 작업(Job) 하나당 하나의 인스턴스를 사용합니다.
+ */
+public class IncrementalReducer {
+
+    private final int fanIn;
+    private final int maxMergeTokens;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Function<String, CompletableFuture<String>> merger;
+
+    // 원문 순서대로 정렬된 슬롯 목록 (병합되면 여러 슬롯이 하나의 슬롯으로 대체됨)
+    private final List<Slot> slots = new ArrayList<>();
+    private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+
+    public IncrementalReducer(int fanIn, int maxMergeTokens, TokenCountEstimator tokenCountEstimator,
+                              Function<String, CompletableFuture<String>> merger) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("팬인은 2 이상이어야 합니다: " + fanIn);
+        }
+        this.fanIn = fanIn;
+        this.maxMergeTokens = maxMergeTokens;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.merger = merger;
+    }
+
+    /**
+     * 부분 요약 Future 목록을 받아, 팬인 개수 이하로 줄어든 (순서가 보존된) 요약 목록을 반환합니다.
+     */
+    public CompletableFuture<List<String>> reduce(List<CompletableFuture<String>> partials) {
+        if (partials.isEmpty()) {
+            result.complete(List.of());
+            return result;
+        }
+
+        List<Slot> initialSlots = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < partials.size(); i++) {
+                Slot slot = new Slot();
+                slots.add(slot);
+                initialSlots.add(slot);
+            }
+        }
+        for (int i = 0; i < partials.size(); i++) {
+            Slot slot = initialSlots.get(i);
+            partials.get(i).whenComplete((text, ex) -> onComplete(slot, text, ex));
+        }
+        return result;
+    }
+
+    private void onComplete(Slot slot, String text, Throwable ex) {
+        List<PendingMerge> merges;
+        synchronized (this) {
+            if (result.isDone()) {
+                return;
+            }
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            slot.text = text;
+            slot.tokens = tokenCountEstimator.estimate(text);
+            slot.done = true;
+
+            merges = planMerges();
+            if (merges.isEmpty() && slots.stream().allMatch(s -> s.done)) {
+                result.complete(slots.stream().map(s -> s.text).toList());
+                return;
+            }
+        }
+        // 병합 요청은 잠금 밖에서 시작합니다. (이미 완료된 Future의 콜백이 즉시 실행될 수 있으므로)
+        merges.forEach(merge -> merger.apply(merge.input())
+                .whenComplete((mergedText, mergeEx) -> onComplete(merge.slot(), mergedText, mergeEx)));
+    }
+
+    /**
+     * 남은 슬롯 수가 팬인을 넘는 동안, 인접한 완료 슬롯들(2개 이상)을 팬인/토큰 예산 안에서 묶어 병합 대상으로 만듭니다.
+     */
+    private List<PendingMerge> planMerges() {
+        List<PendingMerge> merges = new ArrayList<>();
+        int i = 0;
+        while (i < slots.size() && slots.size() > fanIn) {
+            if (!slots.get(i).done) {
+                i++;
+                continue;
+            }
+            int end = i;
+            int tokens = 0;
+            while (end < slots.size() && slots.get(end).done && end - i < fanIn
+                    && (end - i < 2 || tokens + slots.get(end).tokens <= maxMergeTokens)) {
+                tokens += slots.get(end).tokens;
+                end++;
+            }
+            if (end - i < 2) {
+                i = end;
+                continue;
+            }
+
+            List<Slot> group = slots.subList(i, end);
+            String input = String.join("\n\n", group.stream().map(s -> s.text).toList());
+            Slot merged = new Slot();
+            group.clear();
+            slots.add(i, merged);
+            merges.add(new PendingMerge(merged, input));
+            i++;
+        }
+        return merges;
+    }
+
+    private static final class Slot {
+        private boolean done = false;
+        private String text;
+        private int tokens;
+    }
+
+    private record PendingMerge(Slot slot, String input) {
+    }
+}
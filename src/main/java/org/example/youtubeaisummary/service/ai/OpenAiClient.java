@@ -1,54 +1,195 @@
 package org.example.youtubeaisummary.service.ai;
 
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.beans.factory.annotation.Value;
+import org.example.youtubeaisummary.exception.ai.AiStreamInterruptedException;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.retry.TransientAiException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Component
 public class OpenAiClient {
 
-    private final ChatClient.Builder chatClientBuilder;
+    private final OpenAiTransport transport;
     private final PromptManager promptManager;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final TokenBudgetScheduler tokenBudgetScheduler;
+    private final HedgedCallExecutor hedgedCallExecutor;
 
-    @Value("${app.ai.prompt.system}")
-    private String systemPrompt;
-
-    public OpenAiClient(ChatClient.Builder chatClientBuilder, PromptManager promptManager) {
-        this.chatClientBuilder = chatClientBuilder;
+    public OpenAiClient(OpenAiTransport transport, PromptManager promptManager, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                        TokenBudgetScheduler tokenBudgetScheduler, HedgedCallExecutor hedgedCallExecutor) {
+        this.transport = transport;
         this.promptManager = promptManager;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.tokenBudgetScheduler = tokenBudgetScheduler;
+        this.hedgedCallExecutor = hedgedCallExecutor;
     }
 
     @Retryable(
-            retryFor = {RestClientException.class},
+            retryFor = {RestClientException.class, TransientAiException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 2000, multiplier = 1.5)
     )
-    public String getPartialSummary(String chunk) {
+    public String getPartialSummary(String jobId, String chunk) {
         String prompt = promptManager.getPartialSummaryPrompt(chunk);
-        return chatClientBuilder.defaultSystem(systemPrompt).build().prompt().user(prompt).call().content();
+        return call(jobId, PromptManager.PromptType.PARTIAL_SUMMARY, prompt);
+    }
+
+    @Retryable(
+            retryFor = {RestClientException.class, TransientAiException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 3000, multiplier = 2.0)
+    )
+    public String getFinalSummaryFromTranscript(String jobId, String transcript) {
+        String prompt = promptManager.getFinalFromTranscriptPrompt(transcript);
+        return call(jobId, PromptManager.PromptType.FINAL_FROM_TRANSCRIPT, prompt);
+    }
+
+    @Retryable(
+            retryFor = {RestClientException.class, TransientAiException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 3000, multiplier = 2.0)
+    )
+    public String getFinalSummaryFromSummaries(String jobId, String summaries) {
+        String prompt = promptManager.getFinalFromSummariesPrompt(summaries);
+        return call(jobId, PromptManager.PromptType.FINAL_FROM_SUMMARIES, prompt);
     }
 
     @Retryable(
-            retryFor = {RestClientException.class},
+            retryFor = {RestClientException.class, TransientAiException.class},
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 2000, multiplier = 1.5)
+    )
+    public String getMergedSummary(String jobId, String summaries) {
+        String prompt = promptManager.getMergeSummariesPrompt(summaries);
+        return call(jobId, PromptManager.PromptType.MERGE_SUMMARIES, prompt);
+    }
+
+    /**
+     * 최종 요약을 토큰 단위로 스트리밍하며, 도착하는 조각마다 onDelta를 호출하고 완성된 전체 텍스트를 반환합니다.
+     * 첫 조각을 내보내기 전의 연결 실패만 재시도하고, 그 뒤에 끊기면 AiStreamInterruptedException으로 바로 실패합니다.
+     * (재시도하면 스트림을 처음부터 다시 받아 이미 전송된 조각이 중복되므로)
+     */
+    @Retryable(
+            retryFor = {WebClientRequestException.class, TransientAiException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 3000, multiplier = 2.0)
     )
-    public String getFinalSummaryFromTranscript(String transcript) {
-        String text = promptManager.getFinalFromTranscriptPrompt(transcript);
-        System.out.println(text);
-        return chatClientBuilder.defaultSystem(systemPrompt).build().prompt().user(text).call().content();
+    public String streamFinalSummaryFromTranscript(String jobId, String transcript, Consumer<String> onDelta) {
+        String prompt = promptManager.getFinalFromTranscriptPrompt(transcript);
+        return stream(jobId, PromptManager.PromptType.FINAL_FROM_TRANSCRIPT, prompt, onDelta);
     }
 
     @Retryable(
-            retryFor = {RestClientException.class},
+            retryFor = {WebClientRequestException.class, TransientAiException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 3000, multiplier = 2.0)
     )
-    public String getFinalSummaryFromSummaries(String summaries) {
+    public String streamFinalSummaryFromSummaries(String jobId, String summaries, Consumer<String> onDelta) {
         String prompt = promptManager.getFinalFromSummariesPrompt(summaries);
-        return chatClientBuilder.defaultSystem(systemPrompt).build().prompt().user(prompt).call().content();
+        return stream(jobId, PromptManager.PromptType.FINAL_FROM_SUMMARIES, prompt, onDelta);
+    }
+
+    /**
+     * TPM 예산 확보 -> 동시성 슬롯 확보 -> (헤지) 호출 순서로 실행하고, 응답 메타데이터로 예산을 보정합니다.
+     * 응답 없이 실패한 시도(재시도 포함)는 확보한 예산을 돌려줍니다.
+     */
+    private String call(String jobId, PromptManager.PromptType type, String prompt) {
+        TokenBudgetScheduler.Permit permit = tokenBudgetScheduler.acquire(type, prompt);
+        try {
+            ChatResponse response = concurrencyLimiter.execute(jobId, () -> hedgedCallExecutor.execute(type,
+                    () -> transport.record(type, () -> transport.client(type).prompt().user(prompt).call().chatResponse()),
+                    () -> reserveHedge(type, prompt)));
+            if (response == null) {
+                return null;
+            }
+            tokenBudgetScheduler.reconcile(permit, response.getMetadata());
+            return response.getResult() != null ? response.getResult().getOutput().getText() : null;
+        } finally {
+            tokenBudgetScheduler.release(permit);
+        }
+    }
+
+    /**
+     * 헤지 요청은 실제 추가 요청이므로 자기 몫의 동시성 슬롯과 TPM 예산을 기다리지 않고 확보합니다. 둘 중 하나라도 없으면 헤지하지 않습니다.
+     */
+    private HedgedCallExecutor.HedgeCall<ChatResponse> reserveHedge(PromptManager.PromptType type, String prompt) {
+        AdaptiveConcurrencyLimiter.Slot slot = concurrencyLimiter.tryAcquire();
+        if (slot == null) {
+            return null;
+        }
+        TokenBudgetScheduler.Permit permit = tokenBudgetScheduler.tryAcquire(type, prompt);
+        if (permit == null) {
+            slot.release();
+            return null;
+        }
+        return new HedgedCallExecutor.HedgeCall<>() {
+            @Override
+            public ChatResponse get() {
+                ChatResponse response = slot.run(() ->
+                        transport.record(type, () -> transport.hedgeClient(type).prompt().user(prompt).call().chatResponse()));
+                if (response != null) {
+                    tokenBudgetScheduler.reconcile(permit, response.getMetadata());
+                }
+                return response;
+            }
+
+            @Override
+            public void close() {
+                slot.release();
+                tokenBudgetScheduler.release(permit);
+            }
+        };
+    }
+
+    private String stream(String jobId, PromptManager.PromptType type, String prompt, Consumer<String> onDelta) {
+        TokenBudgetScheduler.Permit permit = tokenBudgetScheduler.acquire(type, prompt);
+        try {
+            return concurrencyLimiter.execute(jobId, () -> streamContent(type, prompt, onDelta, permit));
+        } finally {
+            tokenBudgetScheduler.release(permit);
+        }
+    }
+
+    private String streamContent(PromptManager.PromptType type, String prompt, Consumer<String> onDelta, TokenBudgetScheduler.Permit permit) {
+        return transport.record(type, () -> {
+            StringBuilder fullContent = new StringBuilder();
+            AtomicBoolean firstToken = new AtomicBoolean(true);
+            AtomicReference<ChatResponseMetadata> lastMetadata = new AtomicReference<>();
+            long startNanos = System.nanoTime();
+            try {
+                transport.client(type).prompt().user(prompt)
+                        .stream()
+                        .chatResponse()
+                        .doOnNext(response -> {
+                            lastMetadata.set(response.getMetadata());
+                            if (response.getResult() == null || response.getResult().getOutput().getText() == null) {
+                                return;
+                            }
+                            String delta = response.getResult().getOutput().getText();
+                            if (firstToken.compareAndSet(true, false)) {
+                                transport.recordTimeToFirstToken(type, System.nanoTime() - startNanos);
+                            }
+                            fullContent.append(delta);
+                            onDelta.accept(delta);
+                        })
+                        .blockLast();
+            } catch (RuntimeException e) {
+                if (!firstToken.get()) {
+                    throw new AiStreamInterruptedException("요약 조각을 " + fullContent.length() + "자까지 전송한 뒤 스트림이 끊겼습니다.", e);
+                }
+                throw e;
+            }
+            // 스트리밍 사용량은 마지막 응답 조각에만 담겨 옵니다.
+            tokenBudgetScheduler.reconcile(permit, lastMetadata.get());
+            return fullContent.toString();
+        });
     }
-}
\ No newline at end of file
+}
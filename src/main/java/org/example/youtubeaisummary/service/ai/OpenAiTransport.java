@@ -0,0 +1,147 @@
+package org.example.youtubeaisummary.service.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 전용 전송 계층입니다.
+ * 하나의 Reactor Netty 커넥션 풀(HTTP/2 + keep-alive)을 모든 호출이 공유하고,
+ * 프롬프트 유형별로 응답 타임아웃이 다른 ChatClient를 시작 시점에 한 번만 만들어 둡니다.
+ */
+@Component
+public class OpenAiTransport {
+
+    private final ConnectionProvider connectionProvider;
+    private final Map<PromptManager.PromptType, ChatClient> chatClients = new EnumMap<>(PromptManager.PromptType.class);
+    private final Map<PromptManager.PromptType, ChatClient> hedgeChatClients = new EnumMap<>(PromptManager.PromptType.class);
+    private final MeterRegistry meterRegistry;
+
+    public OpenAiTransport(MeterRegistry meterRegistry,
+                           @Value("${spring.ai.openai.api-key}") String apiKey,
+                           @Value("${spring.ai.openai.base-url:https://api.openai.com}") String baseUrl,
+                           @Value("${spring.ai.openai.chat.options.model:gpt-4o-mini}") String model,
+                           @Value("${app.ai.prompt.system}") String systemPrompt,
+                           @Value("${app.ai.transport.max-connections:50}") int maxConnections,
+                           @Value("${app.ai.transport.pending-acquire-timeout:30s}") Duration pendingAcquireTimeout,
+                           @Value("${app.ai.transport.max-idle-time:60s}") Duration maxIdleTime,
+                           @Value("${app.ai.transport.connect-timeout:5s}") Duration connectTimeout,
+                           @Value("${app.ai.transport.map-read-timeout:90s}") Duration mapReadTimeout,
+                           @Value("${app.ai.transport.reduce-read-timeout:180s}") Duration reduceReadTimeout,
+                           @Value("${app.ai.hedge.secondary-base-url:}") String secondaryBaseUrl,
+                           @Value("${app.ai.hedge.secondary-api-key:}") String secondaryApiKey,
+                           @Value("${app.ai.hedge.secondary-model:}") String secondaryModel) {
+        this.meterRegistry = meterRegistry;
+        this.connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .metrics(true) // reactor.netty.connection.provider.* (커넥션 획득 대기 시간 포함)
+                .build();
+
+        HttpClient sharedHttpClient = HttpClient.create(connectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .metrics(true, uri -> uri.replaceAll("\\?.*$", "")); // reactor.netty.http.client.* (응답 헤더까지의 TTFB 포함)
+
+        boolean hasSecondary = !secondaryBaseUrl.isBlank() || !secondaryApiKey.isBlank() || !secondaryModel.isBlank();
+        for (PromptManager.PromptType type : PromptManager.PromptType.values()) {
+            Duration readTimeout = switch (type) {
+                case PARTIAL_SUMMARY, MERGE_SUMMARIES -> mapReadTimeout;
+                case FINAL_FROM_TRANSCRIPT, FINAL_FROM_SUMMARIES -> reduceReadTimeout;
+            };
+            HttpClient httpClient = sharedHttpClient.responseTimeout(readTimeout);
+
+            ChatClient primary = buildChatClient(httpClient, baseUrl, apiKey, model, systemPrompt);
+            chatClients.put(type, primary);
+            // 헤지 요청은 별도 설정이 있으면 보조 모델/엔드포인트로, 없으면 같은 클라이언트로 보냅니다.
+            hedgeChatClients.put(type, hasSecondary
+                    ? buildChatClient(httpClient,
+                    secondaryBaseUrl.isBlank() ? baseUrl : secondaryBaseUrl,
+                    secondaryApiKey.isBlank() ? apiKey : secondaryApiKey,
+                    secondaryModel.isBlank() ? model : secondaryModel,
+                    systemPrompt)
+                    : primary);
+        }
+    }
+
+    private ChatClient buildChatClient(HttpClient httpClient, String baseUrl, String apiKey, String model, String systemPrompt) {
+        OpenAiApi openAiApi = OpenAiApi.builder()
+                .baseUrl(baseUrl)
+                .apiKey(apiKey)
+                .restClientBuilder(RestClient.builder().requestFactory(new ReactorClientHttpRequestFactory(httpClient)))
+                .webClientBuilder(WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)))
+                .build();
+        // 스트리밍 응답에도 토큰 사용량이 포함되도록 하여 TPM 예산 보정에 사용합니다.
+        OpenAiChatOptions options = OpenAiChatOptions.builder().model(model).streamUsage(true).build();
+        // 재시도는 OpenAiClient의 @Retryable과 동시성 제한기에서만 처리합니다. (스레드가 두 번 잠들지 않도록)
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(openAiApi)
+                .defaultOptions(options)
+                .retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+                .build();
+        return ChatClient.builder(chatModel).defaultSystem(systemPrompt).build();
+    }
+
+    public ChatClient client(PromptManager.PromptType type) {
+        return chatClients.get(type);
+    }
+
+    public ChatClient hedgeClient(PromptManager.PromptType type) {
+        return hedgeChatClients.get(type);
+    }
+
+    /**
+     * 호출 유형별 전체 지연 시간을 openai.call 타이머로 기록합니다.
+     */
+    public <T> T record(PromptManager.PromptType type, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("openai.call")
+                    .tag("type", type.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 스트리밍 호출에서 첫 토큰이 도착하기까지의 시간을 기록합니다.
+     */
+    public void recordTimeToFirstToken(PromptManager.PromptType type, long nanos) {
+        Timer.builder("openai.stream.ttft")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(Duration.ofNanos(nanos));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+}
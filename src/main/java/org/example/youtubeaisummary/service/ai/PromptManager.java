@@ -1,35 +1,82 @@
 package org.example.youtubeaisummary.service.ai;
 
-import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.Map;
 
 
+/**
+ * 프롬프트 템플릿은 시작 시점에 변수 앞/뒤의 고정 문자열로 한 번만 나눠 두고,
+ * 호출마다 템플릿 엔진 없이 (prefix + 본문 + suffix) 한 번의 복사로 프롬프트를 만듭니다.
+ */
 @Component
 public class PromptManager {
-    private final PromptTemplate partialSummaryTemplate;
-    private final PromptTemplate finalFromTranscriptTemplate;
-    private final PromptTemplate finalFromSummariesTemplate;
+    private final Map<PromptType, String> rawTemplates = new EnumMap<>(PromptType.class);
+    private final Map<PromptType, CompiledTemplate> compiledTemplates = new EnumMap<>(PromptType.class);
 
     public PromptManager(@Value("${app.ai.prompt.partial-summary}") String partialPrompt,
                          @Value("${app.ai.prompt.final-from-transcript}") String finalFromTranscriptPrompt,
-                         @Value("${app.ai.prompt.final-from-summaries}") String finalFromSummariesPrompt) {
-        this.partialSummaryTemplate = new PromptTemplate(partialPrompt);
-        this.finalFromTranscriptTemplate = new PromptTemplate(finalFromTranscriptPrompt);
-        this.finalFromSummariesTemplate = new PromptTemplate(finalFromSummariesPrompt);
+                         @Value("${app.ai.prompt.final-from-summaries}") String finalFromSummariesPrompt,
+                         @Value("${app.ai.prompt.merge-summaries}") String mergeSummariesPrompt) {
+        register(PromptType.PARTIAL_SUMMARY, partialPrompt, "chunk");
+        register(PromptType.FINAL_FROM_TRANSCRIPT, finalFromTranscriptPrompt, "text");
+        register(PromptType.FINAL_FROM_SUMMARIES, finalFromSummariesPrompt, "summaries");
+        register(PromptType.MERGE_SUMMARIES, mergeSummariesPrompt, "summaries");
+    }
+
+    private void register(PromptType type, String template, String variable) {
+        rawTemplates.put(type, template);
+        compiledTemplates.put(type, CompiledTemplate.compile(type, template, variable));
+    }
+
+    /**
+     * 렌더링 전의 원본 템플릿 문자열을 반환합니다. (캐시 키 계산 등에 사용)
+     */
+    public String getTemplate(PromptType type) {
+        return rawTemplates.get(type);
     }
 
     public String getPartialSummaryPrompt(String chunk) {
-        return partialSummaryTemplate.render(Map.of("chunk", chunk));
+        return compiledTemplates.get(PromptType.PARTIAL_SUMMARY).render(chunk);
     }
 
     public String getFinalFromTranscriptPrompt(String text) {
-        return finalFromTranscriptTemplate.render(Map.of("text", text));
+        return compiledTemplates.get(PromptType.FINAL_FROM_TRANSCRIPT).render(text);
     }
 
     public String getFinalFromSummariesPrompt(String summaries) {
-        return finalFromSummariesTemplate.render(Map.of("summaries", summaries));
+        return compiledTemplates.get(PromptType.FINAL_FROM_SUMMARIES).render(summaries);
+    }
+
+    public String getMergeSummariesPrompt(String summaries) {
+        return compiledTemplates.get(PromptType.MERGE_SUMMARIES).render(summaries);
+    }
+
+    public enum PromptType {
+        PARTIAL_SUMMARY,
+        FINAL_FROM_TRANSCRIPT,
+        FINAL_FROM_SUMMARIES,
+        MERGE_SUMMARIES
+    }
+
+    private record CompiledTemplate(String prefix, String suffix) {
+
+        private static CompiledTemplate compile(PromptType type, String template, String variable) {
+            String placeholder = "{" + variable + "}";
+            int index = template.indexOf(placeholder);
+            if (index < 0 || template.indexOf(placeholder, index + 1) >= 0) {
+                throw new IllegalArgumentException(type + " 템플릿에는 " + placeholder + " 변수가 정확히 한 번 있어야 합니다.");
+            }
+            return new CompiledTemplate(template.substring(0, index), template.substring(index + placeholder.length()));
+        }
+
+        /**
+         * 문자열 연결은 세 조각의 전체 길이로 버퍼를 한 번 할당하고, 각 조각을 한 번씩만 복사합니다.
+         */
+        private String render(String value) {
+            return prefix + value + suffix;
+        }
     }
-}
\ No newline at end of file
+}
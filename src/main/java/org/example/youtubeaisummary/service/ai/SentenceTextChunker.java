@@ -0,0 +1,101 @@
+package org.example.youtubeaisummary.service.ai;
+
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SubtitleProcessor가 만든 "타임스탬프:문장" 줄 경계에서만 텍스트를 자르는 토큰 기반 청커입니다.
+ * 문장이 중간에 잘리지 않으므로 청크 간 오버랩이 필요 없습니다.
+ */
+@Component
+public class SentenceTextChunker implements TextChunker {
+
+    private final TokenCountEstimator tokenCountEstimator;
+
+    public SentenceTextChunker(TokenCountEstimator tokenCountEstimator) {
+        this.tokenCountEstimator = tokenCountEstimator;
+    }
+
+    @Override
+    public List<String> chunk(String text, int tokenBudget) {
+        if (tokenBudget <= 0) {
+            throw new IllegalArgumentException("토큰 예산은 0보다 커야 합니다: " + tokenBudget);
+        }
+
+        List<String> lines = new ArrayList<>();
+        List<Integer> lineTokens = new ArrayList<>();
+        int totalTokens = 0;
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) continue;
+            int tokens = tokenCountEstimator.estimate(line) + 1; // 줄바꿈 토큰 포함
+            if (tokens > tokenBudget) {
+                // 한 줄이 예산을 넘는 예외적인 경우에만 공백 기준으로 잘라서 넣습니다.
+                for (String piece : splitOversizedLine(line, tokenBudget)) {
+                    int pieceTokens = tokenCountEstimator.estimate(piece) + 1;
+                    lines.add(piece);
+                    lineTokens.add(pieceTokens);
+                    totalTokens += pieceTokens;
+                }
+                continue;
+            }
+            lines.add(line);
+            lineTokens.add(tokens);
+            totalTokens += tokens;
+        }
+
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        // 마지막 청크만 작게 남지 않도록, 필요한 청크 수로 균등하게 나눈 목표 크기로 채웁니다.
+        int chunkCount = (int) Math.ceil((double) totalTokens / tokenBudget);
+        int targetTokens = (int) Math.ceil((double) totalTokens / chunkCount);
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            int tokens = lineTokens.get(i);
+            boolean overBudget = currentTokens + tokens > tokenBudget;
+            boolean reachedTarget = currentTokens >= targetTokens;
+            if (!current.isEmpty() && (overBudget || reachedTarget)) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            if (!current.isEmpty()) current.append('\n');
+            current.append(lines.get(i));
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * 예산보다 긴 한 줄을 단어 경계에서 예산 이하 조각들로 나눕니다.
+     */
+    private List<String> splitOversizedLine(String line, int tokenBudget) {
+        List<String> pieces = new ArrayList<>();
+        StringBuilder piece = new StringBuilder();
+        for (String word : line.split(" ")) {
+            String candidate = piece.isEmpty() ? word : piece + " " + word;
+            if (!piece.isEmpty() && tokenCountEstimator.estimate(candidate) + 1 > tokenBudget) {
+                pieces.add(piece.toString());
+                piece.setLength(0);
+                piece.append(word);
+            } else {
+                piece.setLength(0);
+                piece.append(candidate);
+            }
+        }
+        if (!piece.isEmpty()) {
+            pieces.add(piece.toString());
+        }
+        return pieces;
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.youtubeaisummary.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.youtubeaisummary.repository.SummaryCacheEntityRepository;
+import org.example.youtubeaisummary.vo.SummaryCacheEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * (모델, 시스템 프롬프트, 프롬프트 템플릿, 입력 텍스트)의 해시를 키로 하는 2단계 요약 캐시입니다.
+ * 1단계는 글자 수 기준으로 크기가 제한된 인메모리 LRU, 2단계는 DB(summary_cache 테이블)입니다.
+ * DB 항목 수는 저장할 때마다 세지 않고 추정치로 관리하다가, 한도를 넘었다고 볼 때만 실제로 세어 오래된 항목을 지웁니다.
+ */
+@Component
+public class SummaryCache {
+    private static final Logger logger = LoggerFactory.getLogger(SummaryCache.class);
+
+    private final PromptManager promptManager;
+    private final SummaryCacheEntityRepository summaryCacheEntityRepository;
+    private final String model;
+    private final String systemPrompt;
+    private final long memoryMaxChars;
+    private final long persistentMaxEntries;
+
+    // accessOrder=true 인 LinkedHashMap으로 LRU 순서를 유지합니다. (접근은 모두 synchronized)
+    private final LinkedHashMap<String, String> memoryTier = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryChars = 0;
+
+    // DB 항목 수 추정치 (-1: 아직 세지 않음). 다른 서버의 저장은 반영되지 않으므로 정리할 때 실제 값으로 맞춥니다.
+    private final AtomicLong persistentEntries = new AtomicLong(-1);
+    private final AtomicBoolean pruning = new AtomicBoolean(false);
+
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public SummaryCache(PromptManager promptManager,
+                        SummaryCacheEntityRepository summaryCacheEntityRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${spring.ai.openai.chat.options.model:gpt-4o-mini}") String model,
+                        @Value("${app.ai.prompt.system}") String systemPrompt,
+                        @Value("${app.ai.cache.memory-max-chars:20000000}") long memoryMaxChars,
+                        @Value("${app.ai.cache.persistent-max-entries:10000}") long persistentMaxEntries) {
+        this.promptManager = promptManager;
+        this.summaryCacheEntityRepository = summaryCacheEntityRepository;
+        this.model = model;
+        this.systemPrompt = systemPrompt;
+        this.memoryMaxChars = memoryMaxChars;
+        this.persistentMaxEntries = persistentMaxEntries;
+
+        this.memoryHits = Counter.builder("summary.cache.requests").tag("result", "hit").tag("tier", "memory").register(meterRegistry);
+        this.persistentHits = Counter.builder("summary.cache.requests").tag("result", "hit").tag("tier", "persistent").register(meterRegistry);
+        this.misses = Counter.builder("summary.cache.requests").tag("result", "miss").tag("tier", "none").register(meterRegistry);
+        this.evictions = Counter.builder("summary.cache.evictions").tag("tier", "memory").register(meterRegistry);
+        Gauge.builder("summary.cache.memory.chars", this, SummaryCache::memoryChars).register(meterRegistry);
+        Gauge.builder("summary.cache.memory.entries", this, SummaryCache::memoryEntries).register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 결과가 있으면 반환하고, 없으면 loader로 생성한 뒤 양쪽 계층에 저장합니다.
+     */
+    public String getOrCompute(PromptManager.PromptType type, String input, Supplier<String> loader) {
+        String key = key(type, input);
+
+        String cached = getFromMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        Optional<String> persisted = getFromPersistent(key);
+        if (persisted.isPresent()) {
+            persistentHits.increment();
+            putToMemory(key, persisted.get());
+            return persisted.get();
+        }
+
+        misses.increment();
+        String summary = loader.get();
+        if (summary != null && !summary.isBlank()) {
+            putToMemory(key, summary);
+            putToPersistent(key, summary);
+        }
+        return summary;
+    }
+
+    /**
+     * 모델, 시스템 프롬프트, 템플릿, 입력 텍스트로 SHA-256 캐시 키를 계산합니다.
+     * 템플릿이나 모델이 바뀌면 키가 달라지므로 이전 결과는 자연스럽게 무효화됩니다.
+     */
+    String key(PromptManager.PromptType type, String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, systemPrompt, type.name(), promptManager.getTemplate(type), input}) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private synchronized String getFromMemory(String key) {
+        return memoryTier.get(key);
+    }
+
+    private synchronized void putToMemory(String key, String summary) {
+        if (summary.length() > memoryMaxChars) {
+            return;
+        }
+        String previous = memoryTier.put(key, summary);
+        if (previous != null) {
+            memoryChars -= previous.length();
+        }
+        memoryChars += summary.length();
+
+        var iterator = memoryTier.entrySet().iterator();
+        while (memoryChars > memoryMaxChars && iterator.hasNext()) {
+            Map.Entry<String, String> eldest = iterator.next();
+            memoryChars -= eldest.getValue().length();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private Optional<String> getFromPersistent(String key) {
+        try {
+            return summaryCacheEntityRepository.findById(key).map(SummaryCacheEntity::getSummary);
+        } catch (DataAccessException e) {
+            logger.warn("요약 캐시(DB) 조회 실패. 캐시 없이 진행합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void putToPersistent(String key, String summary) {
+        try {
+            summaryCacheEntityRepository.save(new SummaryCacheEntity(key, summary, Instant.now()));
+            long estimated = persistentEntries.get() < 0 ? -1 : persistentEntries.incrementAndGet();
+            if (estimated < 0 || estimated > persistentMaxEntries) {
+                prunePersistent();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("요약 캐시(DB) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실제 항목 수를 세어 추정치를 맞추고, 한도를 넘었으면 오래된 항목부터 지웁니다. (이미 다른 스레드가 정리 중이면 건너뜀)
+     */
+    private void prunePersistent() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long count = summaryCacheEntityRepository.count();
+            if (count > persistentMaxEntries) {
+                List<SummaryCacheEntity> oldest = summaryCacheEntityRepository.findTop100ByOrderByCreatedAtAsc();
+                summaryCacheEntityRepository.deleteAll(oldest);
+                count -= oldest.size();
+            }
+            persistentEntries.set(count);
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    private synchronized double memoryChars() {
+        return memoryChars;
+    }
+
+    private synchronized double memoryEntries() {
+        return memoryTier.size();
+    }
+}
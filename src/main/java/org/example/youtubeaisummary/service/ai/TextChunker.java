@@ -0,0 +1,14 @@
+package org.example.youtubeaisummary.service.ai;
+
+import java.util.List;
+
+public interface TextChunker {
+    /**
+     * 주어진 텍스트를 토큰 예산을 넘지 않는 청크들로 분할합니다.
+     *
+     * @param text        분할할 전체 텍스트 (SubtitleProcessor가 생성한 "타임스탬프:문장" 줄 단위 텍스트)
+     * @param tokenBudget 청크 하나가 넘지 않아야 하는 최대 토큰 수
+     * @return 원문 순서를 유지한 청크 목록
+     */
+    List<String> chunk(String text, int tokenBudget);
+}
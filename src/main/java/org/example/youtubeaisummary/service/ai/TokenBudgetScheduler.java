@@ -0,0 +1,265 @@
+package org.example.youtubeaisummary.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.youtubeaisummary.exception.ai.AiCapacityExceededException;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분당 토큰(TPM) 한도를 지키기 위한 토큰 버킷 스케줄러입니다.
+ * 호출 전에 입력/출력 토큰을 추정해 예산이 있을 때만 통과시키고,
+ * 응답의 사용량과 x-ratelimit-* 헤더로 버킷 상태를 보정합니다.
+ * 대기 중에는 최종 요약(Reduce) 호출이 부분 요약(Map) 호출보다 먼저 예산을 받습니다.
+ */
+@Component
+public class TokenBudgetScheduler {
+
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int systemPromptTokens;
+    private final double outputRatio;
+    private final int maxOutputTokens;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition budgetChanged = lock.newCondition();
+    private final PriorityQueue<Ticket> waiters = new PriorityQueue<>(
+            Comparator.comparingInt(Ticket::priority).reversed().thenComparingLong(Ticket::sequence));
+    private long sequence = 0;
+    private double capacity;
+    private double available;
+    private double refillPerNano;
+    private long lastRefillNanos;
+
+    private final Counter admittedTokens;
+    private final Counter rejectedCounter;
+
+    public TokenBudgetScheduler(TokenCountEstimator tokenCountEstimator,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.ai.prompt.system}") String systemPrompt,
+                                @Value("${app.ai.tpm.limit:200000}") long tokensPerMinute,
+                                @Value("${app.ai.tpm.output-ratio:0.4}") double outputRatio,
+                                @Value("${app.ai.tpm.max-output-tokens:4096}") int maxOutputTokens,
+                                @Value("${app.ai.tpm.max-wait-ms:300000}") long maxWaitMillis) {
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.systemPromptTokens = tokenCountEstimator.estimate(systemPrompt);
+        this.outputRatio = outputRatio;
+        this.maxOutputTokens = maxOutputTokens;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.capacity = tokensPerMinute;
+        this.available = tokensPerMinute;
+        this.refillPerNano = tokensPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.lastRefillNanos = System.nanoTime();
+
+        this.admittedTokens = Counter.builder("openai.tpm.admitted.tokens").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("openai.tpm.rejected").register(meterRegistry);
+        Gauge.builder("openai.tpm.available", this, TokenBudgetScheduler::getAvailable).register(meterRegistry);
+        Gauge.builder("openai.tpm.waiting", this, TokenBudgetScheduler::getWaiting).register(meterRegistry);
+    }
+
+    /**
+     * 프롬프트의 예상 토큰만큼 예산을 확보할 때까지 대기합니다.
+     */
+    public Permit acquire(PromptManager.PromptType type, String prompt) {
+        int estimated = estimate(prompt);
+
+        lock.lock();
+        try {
+            // 한 번에 버킷 용량보다 큰 요청은 용량만큼만 요구합니다. (영원히 대기하지 않도록)
+            Ticket ticket = new Ticket(priorityOf(type), sequence++, (int) Math.min(estimated, capacity));
+            waiters.add(ticket);
+            budgetChanged.signalAll();
+
+            long deadline = System.nanoTime() + maxWaitNanos;
+            try {
+                while (true) {
+                    refill();
+                    boolean isHead = waiters.peek() == ticket;
+                    if (isHead && available >= ticket.tokens()) {
+                        waiters.poll();
+                        available -= ticket.tokens();
+                        admittedTokens.increment(ticket.tokens());
+                        budgetChanged.signalAll();
+                        return new Permit(type, ticket.tokens());
+                    }
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        waiters.remove(ticket);
+                        rejectedCounter.increment();
+                        budgetChanged.signalAll();
+                        throw new AiCapacityExceededException("분당 토큰 한도 대기 시간이 초과되었습니다. (요청 토큰: " + estimated + ")");
+                    }
+                    long untilRefilled = isHead
+                            ? (long) Math.ceil((ticket.tokens() - available) / refillPerNano)
+                            : remaining;
+                    budgetChanged.awaitNanos(Math.max(1, Math.min(untilRefilled, remaining)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                waiters.remove(ticket);
+                budgetChanged.signalAll();
+                throw new AiCapacityExceededException("분당 토큰 한도 대기 중 인터럽트되었습니다.");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기다리지 않고 지금 예산이 있을 때만 확보합니다. 먼저 기다리는 호출이 있거나 예산이 부족하면 null을 반환합니다. (헤지 요청용)
+     */
+    public Permit tryAcquire(PromptManager.PromptType type, String prompt) {
+        int estimated = estimate(prompt);
+        lock.lock();
+        try {
+            refill();
+            int tokens = (int) Math.min(estimated, capacity);
+            if (!waiters.isEmpty() || available < tokens) {
+                return null;
+            }
+            available -= tokens;
+            admittedTokens.increment(tokens);
+            return new Permit(type, tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실제 사용량과 응답 헤더의 레이트 리밋 정보로 버킷을 보정합니다. (응답을 받은 호출마다 한 번)
+     * 사용량이 없으면 추정치만큼 쓴 것으로 둡니다.
+     */
+    public void reconcile(Permit permit, ChatResponseMetadata metadata) {
+        if (!permit.settle()) {
+            return;
+        }
+        if (metadata == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            refill();
+            Usage usage = metadata.getUsage();
+            if (usage != null && usage.getTotalTokens() != null && usage.getTotalTokens() > 0) {
+                // 추정치와의 차이만큼 예산을 돌려주거나 추가로 차감합니다.
+                available -= usage.getTotalTokens() - permit.estimatedTokens();
+            }
+
+            RateLimit rateLimit = metadata.getRateLimit();
+            if (rateLimit != null && rateLimit.getTokensLimit() != null && rateLimit.getTokensLimit() > 0) {
+                capacity = rateLimit.getTokensLimit();
+                refillPerNano = capacity / (double) TimeUnit.MINUTES.toNanos(1);
+                if (rateLimit.getTokensRemaining() != null) {
+                    available = Math.min(available, rateLimit.getTokensRemaining());
+                }
+            }
+            available = Math.min(available, capacity);
+            budgetChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 응답을 받지 못한(실패한) 호출의 예산을 돌려줍니다. reconcile로 이미 정산한 허가에는 아무것도 하지 않으므로 finally에서 호출합니다.
+     * 재시도마다 새 허가를 받으므로, 돌려주지 않으면 실패한 시도의 추정치가 예산에서 계속 빠집니다.
+     */
+    public void release(Permit permit) {
+        if (!permit.settle()) {
+            return;
+        }
+        lock.lock();
+        try {
+            refill();
+            available = Math.min(capacity, available + permit.estimatedTokens());
+            budgetChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int estimate(String prompt) {
+        int inputTokens = systemPromptTokens + tokenCountEstimator.estimate(prompt);
+        int outputTokens = (int) Math.min(maxOutputTokens, Math.ceil(inputTokens * outputRatio));
+        return inputTokens + outputTokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * Reduce 단계(AI_SUMMARIZING_FINAL)의 호출일수록 우선순위가 높습니다.
+     */
+    private int priorityOf(PromptManager.PromptType type) {
+        return switch (type) {
+            case FINAL_FROM_TRANSCRIPT, FINAL_FROM_SUMMARIES -> 2;
+            case MERGE_SUMMARIES -> 1;
+            case PARTIAL_SUMMARY -> 0;
+        };
+    }
+
+    private double getAvailable() {
+        lock.lock();
+        try {
+            refill();
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double getWaiting() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 확보한 예산 (estimatedTokens는 버킷에서 실제로 차감한 토큰 수)
+     */
+    public static final class Permit {
+        private final PromptManager.PromptType type;
+        private final int estimatedTokens;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Permit(PromptManager.PromptType type, int estimatedTokens) {
+            this.type = type;
+            this.estimatedTokens = estimatedTokens;
+        }
+
+        public PromptManager.PromptType type() {
+            return type;
+        }
+
+        public int estimatedTokens() {
+            return estimatedTokens;
+        }
+
+        // 처음 정산(reconcile/release)하는 경우에만 true
+        private boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+    }
+
+    private record Ticket(int priority, long sequence, int tokens) {
+    }
+}
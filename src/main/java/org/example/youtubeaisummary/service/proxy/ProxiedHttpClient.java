@@ -0,0 +1,110 @@
+package org.example.youtubeaisummary.service.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청마다 ProxyPool에서 프록시를 골라 보내고, 응답 상태로 프록시 점수를 갱신하는 HTTP 클라이언트입니다.
+ * 429/403은 차단, 5xx와 연결 오류는 실패, 나머지는 성공(헤더 수신까지의 시간을 지연 시간으로 사용)으로 기록합니다.
+ * 프록시 인증 실패(407)는 프록시 상태가 아니라 설정 문제이므로 점수에 반영하지 않습니다.
+ */
+@Component
+public class ProxiedHttpClient {
+    private static final Logger logger = LoggerFactory.getLogger(ProxiedHttpClient.class);
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int PROXY_AUTHENTICATION_REQUIRED = 407;
+    private static final String TUNNELING_DISABLED_SCHEMES = "jdk.http.auth.tunneling.disabledSchemes";
+
+    static {
+        // JDK는 기본값으로 HTTPS 터널링(CONNECT)의 Basic 인증을 막습니다. (값이 "Basic")
+        // 이 설정은 JDK HttpClient를 처음 만들 때 한 번만 읽히므로, 이 클래스가 클라이언트를 만들기 전에 풉니다.
+        // 운영자가 직접 지정했다면(-D) 그 값을 그대로 따릅니다.
+        if (System.getProperty(TUNNELING_DISABLED_SCHEMES) == null) {
+            System.setProperty(TUNNELING_DISABLED_SCHEMES, "");
+        }
+    }
+
+    private final ProxyPool proxyPool;
+    private final HttpClient directClient;
+    // 프록시 -> 그 프록시를 거치는 클라이언트 (연결 재사용을 위해 프록시마다 하나씩 유지)
+    private final Map<ProxyPool.Proxy, HttpClient> proxiedClients = new ConcurrentHashMap<>();
+
+    public ProxiedHttpClient(ProxyPool proxyPool) {
+        this.proxyPool = proxyPool;
+        this.directClient = newBuilder().build();
+    }
+
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        ProxyPool.Lease lease = proxyPool.acquire();
+        HttpClient client = lease.proxy() == null ? directClient : proxiedClients.computeIfAbsent(lease.proxy(), ProxiedHttpClient::proxiedClient);
+        try {
+            HttpResponse<T> response = client.send(request, bodyHandler);
+            if (lease.proxy() != null && response.statusCode() == PROXY_AUTHENTICATION_REQUIRED) {
+                logger.warn("프록시 {} 인증에 실패했습니다(407). 프록시 주소의 인증 정보를 확인하세요.", lease.proxy().label());
+            } else {
+                lease.report(outcome(response.statusCode()));
+            }
+            return response;
+        } catch (IOException e) {
+            if (lease.proxy() != null && isProxyAuthenticationFailure(e)) {
+                logger.warn("프록시 {} 인증에 실패했습니다: {}", lease.proxy().label(), e.getMessage());
+            } else {
+                lease.report(ProxyPool.Outcome.FAILURE);
+            }
+            throw e;
+        }
+    }
+
+    static ProxyPool.Outcome outcome(int statusCode) {
+        if (statusCode == 429 || statusCode == 403) return ProxyPool.Outcome.BLOCKED;
+        if (statusCode >= 500) return ProxyPool.Outcome.FAILURE;
+        return ProxyPool.Outcome.SUCCESS;
+    }
+
+    /**
+     * JDK HttpClient가 프록시 인증을 포기할 때 던지는 예외인지 확인합니다. (자격 증명 없음, 재시도 한도 초과 등)
+     */
+    static boolean isProxyAuthenticationFailure(IOException e) {
+        String message = e.getMessage();
+        return message != null && (message.startsWith("too many authentication attempts")
+                || message.equals("No credentials provided")
+                || message.startsWith("Proxy-Authenticate header missing"));
+    }
+
+    private static HttpClient proxiedClient(ProxyPool.Proxy proxy) {
+        URI uri = proxy.uri();
+        HttpClient.Builder builder = newBuilder().proxy(ProxySelector.of(new InetSocketAddress(uri.getHost(), uri.getPort())));
+        if (uri.getUserInfo() != null) {
+            String[] credentials = uri.getUserInfo().split(":", 2);
+            builder.authenticator(new Authenticator() {
+                @Override
+                protected PasswordAuthentication getPasswordAuthentication() {
+                    return new PasswordAuthentication(credentials[0],
+                            (credentials.length > 1 ? credentials[1] : "").toCharArray());
+                }
+            });
+        }
+        return builder.build();
+    }
+
+    private static HttpClient.Builder newBuilder() {
+        return HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+    }
+}
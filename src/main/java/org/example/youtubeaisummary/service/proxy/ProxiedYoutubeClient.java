@@ -0,0 +1,63 @@
+package org.example.youtubeaisummary.service.proxy;
+
+import io.github.thoroldvix.api.TranscriptRetrievalException;
+import io.github.thoroldvix.api.YoutubeClient;
+import io.github.thoroldvix.api.YtApiV3Endpoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * YoutubeTranscriptApi의 HTTP 요청을 ProxiedHttpClient로 보내, yt-dlp와 같은 프록시 목록과 점수를 공유합니다.
+ */
+@Component
+public class ProxiedYoutubeClient implements YoutubeClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ProxiedHttpClient httpClient;
+
+    public ProxiedYoutubeClient(ProxiedHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public String get(String url, Map<String, String> headers) throws TranscriptRetrievalException {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET();
+        headers.forEach(requestBuilder::header);
+        try {
+            HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() != 200) {
+                throw new TranscriptRetrievalException(videoId(url), "Request to YouTube failed with status code " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new TranscriptRetrievalException(videoId(url), "Request to YouTube failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranscriptRetrievalException(videoId(url), "Request to YouTube was interrupted.", e);
+        }
+    }
+
+    @Override
+    public String get(YtApiV3Endpoint endpoint, Map<String, String> params) throws TranscriptRetrievalException {
+        String query = params.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return get(endpoint.url() + "?" + query, Map.of());
+    }
+
+    private static String videoId(String url) {
+        int start = url.indexOf("v=");
+        if (start < 0) return "";
+        int end = url.indexOf('&', start);
+        return url.substring(start + 2, end < 0 ? url.length() : end);
+    }
+}
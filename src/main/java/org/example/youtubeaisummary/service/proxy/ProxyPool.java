@@ -0,0 +1,244 @@
+package org.example.youtubeaisummary.service.proxy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 유튜브로 나가는 모든 요청(yt-dlp, 자막 다운로드, YoutubeTranscriptApi)이 함께 쓰는 프록시 목록입니다.
+ * 프록시별 성공률과 지연 시간(EWMA)으로 가중치를 매겨 요청마다 하나를 고르고, 429/403을 받은 프록시는 잠시 쉬게 합니다.
+ * 프록시가 설정되지 않았으면 모든 요청은 직접 연결합니다.
+ */
+@Component
+public class ProxyPool {
+    private static final Logger logger = LoggerFactory.getLogger(ProxyPool.class);
+
+    private static final double INITIAL_LATENCY_MILLIS = 1000;
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final List<Proxy> proxies = new ArrayList<>();
+    private final Duration cooldown;
+    private final Duration maxCooldown;
+    private final double alpha;
+    private final MeterRegistry meterRegistry;
+    // [0, 1) 구간의 난수. 테스트에서는 정해진 값을 넣어 선택 결과를 고정합니다.
+    private final DoubleSupplier random;
+
+    @Autowired
+    public ProxyPool(MeterRegistry meterRegistry,
+                     @Value("${proxy.enabled:false}") boolean enabled,
+                     @Value("${proxy.url:}") String proxyUrl,
+                     @Value("${proxy.urls:}") List<String> proxyUrls,
+                     @Value("${proxy.cooldown:60s}") Duration cooldown,
+                     @Value("${proxy.max-cooldown:15m}") Duration maxCooldown,
+                     @Value("${proxy.ewma-alpha:0.2}") double alpha) {
+        this(meterRegistry, enabled, proxyUrl, proxyUrls, cooldown, maxCooldown, alpha, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public ProxyPool(MeterRegistry meterRegistry, boolean enabled, String proxyUrl, List<String> proxyUrls,
+                     Duration cooldown, Duration maxCooldown, double alpha, DoubleSupplier random) {
+        this.random = random;
+        this.cooldown = cooldown;
+        this.maxCooldown = maxCooldown;
+        this.alpha = alpha;
+        this.meterRegistry = meterRegistry;
+
+        if (enabled) {
+            Set<String> urls = new LinkedHashSet<>();
+            if (proxyUrl != null && !proxyUrl.isBlank()) urls.add(proxyUrl.strip());
+            proxyUrls.stream().map(String::strip).filter(url -> !url.isEmpty()).forEach(urls::add);
+            urls.forEach(url -> proxies.add(new Proxy(url)));
+        }
+        for (Proxy proxy : proxies) {
+            Gauge.builder("proxy.success.rate", proxy, Proxy::successRate).tag("proxy", proxy.label()).register(meterRegistry);
+            Gauge.builder("proxy.latency.ewma", proxy, Proxy::latencyMillis).tag("proxy", proxy.label()).register(meterRegistry);
+        }
+        Gauge.builder("proxy.available", this, pool -> pool.available(System.nanoTime()).size()).register(meterRegistry);
+        if (!proxies.isEmpty()) {
+            logger.info("프록시 {}개를 번갈아 사용합니다.", proxies.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return !proxies.isEmpty();
+    }
+
+    public List<Proxy> getProxies() {
+        return List.copyOf(proxies);
+    }
+
+    /**
+     * 이번 요청에 쓸 프록시를 고릅니다. 프록시가 없으면 직접 연결(proxy() == null)하는 Lease를 반환합니다.
+     * 모든 프록시가 쉬는 중이면 가장 먼저 풀리는 프록시를 사용합니다.
+     */
+    public Lease acquire() {
+        if (proxies.isEmpty()) {
+            return new Lease(null);
+        }
+        long now = System.nanoTime();
+        List<Proxy> candidates = available(now);
+        if (candidates.isEmpty()) {
+            Proxy soonest = proxies.stream().min(Comparator.comparingLong(Proxy::cooldownUntil)).orElseThrow();
+            logger.warn("모든 프록시가 쉬는 중이라 가장 먼저 풀리는 프록시({})를 사용합니다.", soonest.label());
+            return new Lease(soonest);
+        }
+
+        // 아직 측정하지 않은 프록시는 다른 프록시들의 평균 지연 시간으로 가정해 충분히 시도되게 합니다.
+        double unmeasuredLatency = candidates.stream().filter(Proxy::isLatencyMeasured)
+                .mapToDouble(Proxy::latencyMillis).average().orElse(INITIAL_LATENCY_MILLIS);
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = candidates.get(i).weight(unmeasuredLatency);
+            total += weights[i];
+        }
+        double pick = random.getAsDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) return new Lease(candidates.get(i));
+        }
+        return new Lease(candidates.getLast());
+    }
+
+    private List<Proxy> available(long now) {
+        return proxies.stream().filter(proxy -> proxy.cooldownUntil() - now <= 0).toList();
+    }
+
+    public enum Outcome {
+        SUCCESS("success"),
+        /** 요청은 갔지만 실패(연결 오류, 5xx, 시간 초과)했습니다. */
+        FAILURE("failure"),
+        /** 유튜브가 이 IP를 막았습니다(429/403). 프록시를 잠시 쉬게 합니다. */
+        BLOCKED("blocked");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 프록시 하나를 한 번 사용한 기록입니다. 처음 보고한 결과만 반영되며, 보고 없이 끝난 요청(취소 등)은 점수에 반영하지 않습니다.
+     */
+    public final class Lease {
+        private final Proxy proxy;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Lease(Proxy proxy) {
+            this.proxy = proxy;
+        }
+
+        /**
+         * 사용할 프록시입니다. 직접 연결이면 null입니다.
+         */
+        public Proxy proxy() {
+            return proxy;
+        }
+
+        public void report(Outcome outcome) {
+            if (proxy == null || !reported.compareAndSet(false, true)) {
+                return;
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            proxy.record(outcome, elapsed);
+            meterRegistry.counter("proxy.requests", "proxy", proxy.label(), "outcome", outcome.tag).increment();
+            if (outcome == Outcome.BLOCKED) {
+                logger.warn("프록시 {}가 차단되어 {} 동안 사용하지 않습니다.", proxy.label(), Duration.ofNanos(proxy.cooldownUntil() - System.nanoTime()));
+            }
+        }
+    }
+
+    public final class Proxy {
+        private final String url;
+        private final URI uri;
+        private double successRate = 1.0;
+        private double latencyMillis = INITIAL_LATENCY_MILLIS;
+        private boolean latencyMeasured;
+        private int consecutiveBlocks;
+        private long cooldownUntil = System.nanoTime();
+
+        private Proxy(String url) {
+            this.url = url;
+            this.uri = URI.create(url);
+            if (uri.getHost() == null || uri.getPort() < 0) {
+                throw new IllegalArgumentException("프록시 주소에는 호스트와 포트가 있어야 합니다: " + label());
+            }
+        }
+
+        /**
+         * yt-dlp --proxy에 넘길 주소(인증 정보 포함)입니다.
+         */
+        public String url() {
+            return url;
+        }
+
+        public URI uri() {
+            return uri;
+        }
+
+        /**
+         * 로그와 지표에 쓰는 이름입니다. 인증 정보는 포함하지 않습니다.
+         */
+        public String label() {
+            return uri.getHost() + ":" + uri.getPort();
+        }
+
+        public synchronized double successRate() {
+            return successRate;
+        }
+
+        public synchronized double latencyMillis() {
+            return latencyMillis;
+        }
+
+        private synchronized long cooldownUntil() {
+            return cooldownUntil;
+        }
+
+        private synchronized boolean isLatencyMeasured() {
+            return latencyMeasured;
+        }
+
+        private synchronized double weight(double unmeasuredLatency) {
+            // 성공률이 낮아도 가끔은 골라서 회복 여부를 확인합니다.
+            return Math.max(successRate, MIN_SUCCESS_RATE) / Math.max(latencyMeasured ? latencyMillis : unmeasuredLatency, 1);
+        }
+
+        private synchronized void record(Outcome outcome, long elapsedNanos) {
+            successRate = (1 - alpha) * successRate + (outcome == Outcome.SUCCESS ? alpha : 0);
+            switch (outcome) {
+                case SUCCESS -> {
+                    double millis = elapsedNanos / 1_000_000.0;
+                    latencyMillis = latencyMeasured ? (1 - alpha) * latencyMillis + alpha * millis : millis;
+                    latencyMeasured = true;
+                    consecutiveBlocks = 0;
+                }
+                case BLOCKED -> {
+                    // 연속으로 막히면 쉬는 시간을 두 배씩 늘립니다.
+                    long nanos = cooldown.toNanos() << Math.min(consecutiveBlocks, 20);
+                    cooldownUntil = System.nanoTime() + Math.min(nanos, maxCooldown.toNanos());
+                    consecutiveBlocks++;
+                }
+                case FAILURE -> {
+                }
+            }
+        }
+    }
+}
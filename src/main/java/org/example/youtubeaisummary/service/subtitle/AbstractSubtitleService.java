@@ -2,12 +2,29 @@ package org.example.youtubeaisummary.service.subtitle;
 
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.service.JobManager;
+import org.example.youtubeaisummary.vo.VideoChapter;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 public abstract class AbstractSubtitleService implements SubtitleService {
 
+    // 취소한 쪽이 clearCancellation을 부르지 못해 남은 기록이 쌓이지 않도록, 이보다 오래된 기록은 다음 취소 때 지웁니다.
+    private static final long CANCELLED_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
     private JobManager jobManager;
 
+    // 경주(racing) 중인 작업: 진행/실패 알림은 경주를 주관하는 쪽에서 한 번만 보냅니다.
+    private final Set<String> mutedJobs = ConcurrentHashMap.newKeySet();
+    // 작업 ID -> 그 작업을 처리 중인 스레드 (취소 시 인터럽트 대상)
+    private final Map<String, Thread> runningJobs = new ConcurrentHashMap<>();
+    // 작업 ID -> 취소 시각(nanoTime). 아직 trackJob을 호출하지 않은 제공자도 시작하자마자 멈출 수 있게 합니다.
+    private final Map<String, Long> cancelledJobs = new ConcurrentHashMap<>();
+
     @Autowired
     public void setJobManager(JobManager jobManager) {
         this.jobManager = jobManager;
@@ -17,6 +34,7 @@ public abstract class AbstractSubtitleService implements SubtitleService {
      * 작업 진행 상태를 업데이트하고 클라이언트에게 알림을 보냅니다.
      */
     protected void updateJobProgress(String jobId, JobStatusDto.JobStatus status, String message) {
+        if (mutedJobs.contains(jobId)) return;
         jobManager.updateJobProgress(jobId, status, message);
     }
 
@@ -24,6 +42,68 @@ public abstract class AbstractSubtitleService implements SubtitleService {
      * 작업 실패를 처리하고 클라이언트에게 에러를 알립니다.
      */
     protected void handleFailure(String jobId, String message, Exception exception) {
+        if (mutedJobs.contains(jobId)) return;
         jobManager.failJob(jobId, message, exception);
     }
+
+    /**
+     * 영상 챕터를 요약 단계(챕터 단위 분할)로 넘깁니다. 영상 자체의 정보이므로 경주 중이어도 기록합니다.
+     */
+    protected void attachChapters(String jobId, List<VideoChapter> chapters) {
+        jobManager.attachChapters(jobId, chapters);
+    }
+
+    /**
+     * 이 제공자가 해당 작업의 진행/실패 상태를 직접 바꾸지 않도록 합니다. (여러 제공자를 경주시킬 때 사용)
+     */
+    public void muteJobUpdates(String jobId) {
+        mutedJobs.add(jobId);
+    }
+
+    public void unmuteJobUpdates(String jobId) {
+        mutedJobs.remove(jobId);
+    }
+
+    @Override
+    public void cancel(String jobId) {
+        long now = System.nanoTime();
+        cancelledJobs.values().removeIf(cancelledAt -> now - cancelledAt > CANCELLED_TTL_NANOS);
+        cancelledJobs.put(jobId, now);
+        // 작업이 끝나며 추적을 해제하는 것과 겹치지 않도록 맵 잠금 안에서 인터럽트합니다.
+        runningJobs.computeIfPresent(jobId, (id, thread) -> {
+            onCancel(thread);
+            thread.interrupt();
+            return thread;
+        });
+    }
+
+    /**
+     * 취소 시 제공자별 정리(자식 프로세스 종료 등)를 수행합니다.
+     */
+    protected void onCancel(Thread worker) {
+    }
+
+    /**
+     * 현재 스레드가 작업을 처리 중임을 기록합니다. 처리가 끝나면 반드시 untrackJob을 호출해야 합니다.
+     */
+    protected void trackJob(String jobId) {
+        runningJobs.put(jobId, Thread.currentThread());
+    }
+
+    /**
+     * 작업이 이미 취소되었는지 확인합니다. trackJob 이전에 들어온 취소도 포함합니다.
+     */
+    protected boolean isCancelled(String jobId) {
+        return cancelledJobs.containsKey(jobId);
+    }
+
+    @Override
+    public void clearCancellation(String jobId) {
+        cancelledJobs.remove(jobId);
+    }
+
+    protected void untrackJob(String jobId) {
+        runningJobs.remove(jobId, Thread.currentThread());
+        cancelledJobs.remove(jobId);
+    }
 }
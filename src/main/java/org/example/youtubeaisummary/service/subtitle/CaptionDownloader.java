@@ -0,0 +1,65 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import org.example.youtubeaisummary.service.proxy.ProxiedHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * yt-dlp 메타데이터의 자막 URL을 JVM 안에서 직접 내려받아, 응답 스트림을 그대로 처리기에 넘깁니다.
+ * 디스크(temp_subtitles)를 거치지 않으므로 같은 영상을 동시에 처리해도 파일이 충돌하지 않습니다.
+ * 요청은 ProxyPool의 프록시를 번갈아 거칩니다.
+ */
+@Component
+public class CaptionDownloader {
+    private final boolean enabled;
+    private final Duration timeout;
+    private final ProxiedHttpClient httpClient;
+
+    public CaptionDownloader(@Value("${app.subtitle.diskless.enabled:true}") boolean enabled,
+                             @Value("${app.subtitle.diskless.timeout:30s}") Duration timeout,
+                             ProxiedHttpClient httpClient) {
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.httpClient = httpClient;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 자막 URL을 요청하고, 응답 본문을 줄 단위 Reader로 handler에 넘겨 그 결과를 반환합니다.
+     */
+    public <T> T stream(String url, CaptionHandler<T> handler) throws IOException, InterruptedException {
+        return stream(url, Map.of(), handler);
+    }
+
+    public <T> T stream(String url, Map<String, String> headers, CaptionHandler<T> handler) throws IOException, InterruptedException {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET();
+        headers.forEach(requestBuilder::header);
+        HttpRequest request = requestBuilder.build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            if (response.statusCode() != 200) {
+                throw new IOException("자막 다운로드 실패: HTTP " + response.statusCode());
+            }
+            return handler.handle(reader);
+        }
+    }
+
+    @FunctionalInterface
+    public interface CaptionHandler<T> {
+        T handle(BufferedReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
+import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.Math.min;
+
+/**
+ * yt-dlp 프로세스 없이 JVM 안에서 자막 트랙 목록을 조회하고 timedtext(json3/srv3/vtt)를 내려받아,
+ * 응답을 스트리밍으로 파싱해 SubtitleProcessor와 같은 문장 형식으로 반환합니다.
+ */
+@Service("nativeHttp")
+public class NativeHttpSubtitleService extends AbstractSubtitleService {
+    private static final Logger logger = LoggerFactory.getLogger(NativeHttpSubtitleService.class);
+
+    private static final String CAPTION_TRACKS_KEY = "\"captionTracks\":";
+    private static final Map<String, String> REQUEST_HEADERS = Map.of(
+            "Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7",
+            "Cookie", "CONSENT=YES+cb");
+
+    private final CaptionDownloader captionDownloader;
+    private final TimedTextParser timedTextParser;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final TimedTextParser.Format format;
+
+    public NativeHttpSubtitleService(CaptionDownloader captionDownloader, TimedTextParser timedTextParser, ObjectMapper objectMapper,
+                                     @Value("${app.subtitle.native.base-url:https://www.youtube.com}") String baseUrl,
+                                     @Value("${app.subtitle.native.format:JSON3}") TimedTextParser.Format format) {
+        this.captionDownloader = captionDownloader;
+        this.timedTextParser = timedTextParser;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.format = format;
+    }
+
+    @Override
+    @Async("ioTaskExecutor")
+    public CompletableFuture<String> fetchSubs(String jobId, YoutubeVideo video) {
+        trackJob(jobId);
+        try {
+            if (isCancelled(jobId)) {
+                return CompletableFuture.failedFuture(new CancellationException("작업이 이미 취소되었습니다."));
+            }
+            updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTING, "자막 추출을 시작합니다...");
+
+            // 1. 시청 페이지에서 자막 트랙 목록 조회
+            List<CaptionTrack> tracks = captionDownloader.stream(baseUrl + "/watch?v=" + video.getVideoId(), REQUEST_HEADERS, this::readCaptionTracks);
+
+            // 2. 자동 생성 자막 트랙과 언어 결정
+            String captionUrl = resolveCaptionUrl(tracks);
+
+            // 3. timedtext 다운로드와 동시에 파싱
+            String cleanedText = captionDownloader.stream(captionUrl, REQUEST_HEADERS, reader -> timedTextParser.parse(format, reader));
+            if (cleanedText.isEmpty()) {
+                throw new NoSubtitlesFoundException("자막 내용이 비어 있습니다.");
+            }
+
+            updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED, cleanedText.substring(0, min(cleanedText.length(), 200)));
+            return CompletableFuture.completedFuture(cleanedText);
+
+        } catch (Exception e) {
+            logger.warn("[{}] 네이티브 자막 처리 실패: {}", jobId, e.getMessage());
+            handleFailure(jobId, "자막 처리 중 오류 발생: " + e.getMessage(), e);
+            return CompletableFuture.failedFuture(new YoutubeApiException("네이티브 자막 처리 실패", e));
+        } finally {
+            untrackJob(jobId);
+        }
+    }
+
+    private String resolveCaptionUrl(List<CaptionTrack> tracks) {
+        CaptionTrack asr = tracks.stream()
+                .filter(track -> "asr".equals(track.kind()))
+                .findFirst()
+                .orElseThrow(() -> new NoSubtitlesFoundException("이 영상에는 자동 생성된 자막이 없습니다."));
+
+        // yt-dlp 제공자와 같은 기준: 한국어 영상은 한국어, 그 외에는 영어 (원어 자동 자막을 영어로 번역 요청)
+        StringBuilder url = new StringBuilder(asr.baseUrl());
+        if (!"ko".equals(asr.languageCode()) && !"en".equals(asr.languageCode())) {
+            url.append("&tlang=en");
+        }
+        return url.append("&fmt=").append(format.getQueryValue()).toString();
+    }
+
+    /**
+     * 시청 페이지를 줄 단위로 읽다가 "captionTracks" 배열이 나오면 그 배열만 파싱하고 나머지는 읽지 않습니다.
+     */
+    private List<CaptionTrack> readCaptionTracks(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int index = line.indexOf(CAPTION_TRACKS_KEY);
+            if (index < 0) continue;
+            try (JsonParser parser = objectMapper.getFactory().createParser(line.substring(index + CAPTION_TRACKS_KEY.length()))) {
+                return parseCaptionTracks(parser);
+            }
+        }
+        throw new NoSubtitlesFoundException("이 영상에는 자막 트랙이 없습니다.");
+    }
+
+    private List<CaptionTrack> parseCaptionTracks(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("자막 트랙 목록 형식이 올바르지 않습니다.");
+        }
+        List<CaptionTrack> tracks = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String trackUrl = null;
+            String languageCode = null;
+            String kind = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "baseUrl" -> trackUrl = parser.getText();
+                    case "languageCode" -> languageCode = parser.getText();
+                    case "kind" -> kind = parser.getText();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (trackUrl != null) {
+                tracks.add(new CaptionTrack(trackUrl, languageCode, kind));
+            }
+        }
+        return tracks;
+    }
+
+    private record CaptionTrack(String baseUrl, String languageCode, String kind) {
+    }
+}
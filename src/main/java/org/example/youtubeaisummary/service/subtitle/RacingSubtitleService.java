@@ -0,0 +1,212 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
+import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.min;
+
+/**
+ * 여러 자막 제공자를 동시에(또는 stagger 간격으로 차례로) 실행해 가장 먼저 비어 있지 않은 자막을 돌려준 결과를 사용합니다.
+ * 승자가 정해지면 나머지 제공자는 취소(실행 중인 yt-dlp 프로세스 종료 포함)하고, 제공자별 승리 횟수와 지연 시간을 기록합니다.
+ */
+@Service("racing")
+public class RacingSubtitleService extends AbstractSubtitleService {
+    private static final Logger logger = LoggerFactory.getLogger(RacingSubtitleService.class);
+
+    private final Map<String, AbstractSubtitleService> providers = new LinkedHashMap<>();
+    private final Duration stagger;
+    private final MeterRegistry meterRegistry;
+    private final Counter races;
+    // 작업 ID -> 진행 중인 경주 (외부에서 취소할 때 실행 중인 제공자만 골라내기 위함)
+    private final Map<String, Race> activeRaces = new ConcurrentHashMap<>();
+
+    /**
+     * 경주 하나의 상태. running에는 시작했고 아직 끝나지 않은 제공자만 있으며, 취소는 이들에게만 보냅니다.
+     * 끝났거나 시작하지 않은 제공자를 취소하면 그 제공자에 취소 기록이 남아 같은 영상을 다시 요청할 때 바로 실패합니다.
+     */
+    private record Race(CompletableFuture<String> winner,
+                        Map<String, CompletableFuture<String>> running,
+                        Set<String> cancelled) {
+        Race() {
+            this(new CompletableFuture<>(), new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public RacingSubtitleService(BeanFactory beanFactory, MeterRegistry meterRegistry,
+                                 @Value("${app.subtitle.race.providers:youtubeApi,ytDlp}") List<String> providerNames,
+                                 @Value("${app.subtitle.race.stagger:0s}") Duration stagger) {
+        for (String name : providerNames) {
+            providers.put(name, beanFactory.getBean(name, AbstractSubtitleService.class));
+        }
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("경주시킬 자막 제공자가 없습니다. (app.subtitle.race.providers)");
+        }
+        this.stagger = stagger;
+        this.meterRegistry = meterRegistry;
+        this.races = meterRegistry.counter("subtitle.race.started");
+    }
+
+    @Override
+    public CompletableFuture<String> fetchSubs(String jobId, YoutubeVideo video) {
+        updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTING, "자막 추출을 시작합니다...");
+        races.increment();
+
+        Race race = new Race();
+        CompletableFuture<String> winner = race.winner();
+        activeRaces.put(jobId, race);
+        winner.whenComplete((text, error) -> activeRaces.remove(jobId, race));
+        List<String> names = new ArrayList<>(providers.keySet());
+        List<CompletableFuture<Void>> triggers = new ArrayList<>(names.size());
+        List<Throwable> failures = new ArrayList<>();
+        AtomicInteger pending = new AtomicInteger(names.size());
+
+        for (int i = 0; i < names.size(); i++) {
+            triggers.add(i == 0 || stagger.isZero()
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.runAsync(() -> {
+                    }, CompletableFuture.delayedExecutor(stagger.toMillis() * i, TimeUnit.MILLISECONDS)));
+        }
+
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            AbstractSubtitleService provider = providers.get(name);
+            CompletableFuture<Void> nextTrigger = i + 1 < triggers.size() ? triggers.get(i + 1) : null;
+            provider.muteJobUpdates(jobId);
+
+            triggers.get(i).thenCompose(ignored -> launch(jobId, video, name, provider, race))
+                    .whenComplete((text, error) -> {
+                        provider.unmuteJobUpdates(jobId);
+                        if (error == null && text != null && !text.isBlank()) {
+                            if (winner.complete(text)) {
+                                meterRegistry.counter("subtitle.race.wins", "provider", name).increment();
+                                logger.info("[{}] 자막 경주 승자: {}", jobId, name);
+                                cancelOthers(jobId, race);
+                            }
+                        } else {
+                            synchronized (failures) {
+                                failures.add(error != null ? unwrap(error) : new NoSubtitlesFoundException(name + ": 자막 내용이 비어 있습니다."));
+                            }
+                            // 앞선 제공자가 실패하면 다음 제공자는 stagger를 기다리지 않고 바로 시작합니다.
+                            if (nextTrigger != null) nextTrigger.complete(null);
+                        }
+                        if (pending.decrementAndGet() == 0 && !winner.isDone()) {
+                            synchronized (failures) {
+                                winner.completeExceptionally(allFailed(failures));
+                            }
+                        }
+                    });
+        }
+
+        return winner.handle((text, error) -> {
+            if (error == null) {
+                updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED, text.substring(0, min(text.length(), 200)));
+                return text;
+            }
+            Throwable failure = unwrap(error);
+            Exception cause = failure instanceof Exception exception ? exception : new YoutubeApiException(failure.getMessage(), failure);
+            handleFailure(jobId, "자막 처리 중 오류 발생: " + cause.getMessage(), cause);
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * 제공자를 실행하고 결과와 무관하게 지연 시간을 기록합니다. 이미 승자가 있으면 실행하지 않습니다.
+     */
+    private CompletableFuture<String> launch(String jobId, YoutubeVideo video, String name, AbstractSubtitleService provider,
+                                             Race race) {
+        CompletableFuture<String> winner = race.winner();
+        if (winner.isDone()) {
+            return CompletableFuture.failedFuture(new CancellationException(name + ": 다른 제공자가 먼저 완료했습니다."));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<String> fetch = provider.fetchSubs(jobId, video);
+        race.running().put(name, fetch);
+        // 실행 목록에 넣기 전에 승자가 정해졌다면 cancelOthers가 이 제공자를 보지 못했으므로 여기서 취소합니다.
+        if (winner.isDone()) {
+            cancelRunning(jobId, race, name);
+        }
+        return fetch.whenComplete((text, error) -> {
+            race.running().remove(name);
+            // 끝나는 시점과 겹쳐 도착한 취소가 기록으로 남지 않게 지웁니다.
+            if (race.cancelled().contains(name)) {
+                provider.clearCancellation(jobId);
+            }
+            String outcome = error == null ? "success" : (winner.isDone() ? "cancelled" : "failure");
+            Timer.builder("subtitle.provider.latency")
+                    .tags("provider", name, "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    /**
+     * 아직 실행 중인 제공자를 취소합니다. 승자는 결과를 낸 뒤 실행 목록에서 빠지므로 취소 대상이 아닙니다.
+     */
+    private void cancelOthers(String jobId, Race race) {
+        race.running().keySet().forEach(name -> cancelRunning(jobId, race, name));
+    }
+
+    private void cancelRunning(String jobId, Race race, String name) {
+        // 제공자가 끝나며 실행 목록에서 빠지는 것과 겹치지 않도록 맵 잠금 안에서 취소합니다.
+        race.running().computeIfPresent(name, (n, fetch) -> {
+            race.cancelled().add(n);
+            providers.get(n).cancel(jobId);
+            return fetch;
+        });
+    }
+
+    @Override
+    public void cancel(String jobId) {
+        Race race = activeRaces.get(jobId);
+        if (race == null) return;
+        race.winner().completeExceptionally(new CancellationException("자막 추출이 취소되었습니다."));
+        cancelOthers(jobId, race);
+    }
+
+    private Throwable allFailed(List<Throwable> failures) {
+        // 모든 제공자가 '자막 없음'이라고 답한 경우에만 자막 없음으로 보고합니다.
+        for (Throwable failure : failures) {
+            if (!(rootSubtitleCause(failure) instanceof NoSubtitlesFoundException)) {
+                YoutubeApiException exception = new YoutubeApiException("모든 자막 제공자가 실패했습니다: " + failure.getMessage(), failure);
+                failures.stream().filter(other -> other != failure).forEach(exception::addSuppressed);
+                return exception;
+            }
+        }
+        return failures.isEmpty() ? new NoSubtitlesFoundException("자막을 찾을 수 없습니다.") : rootSubtitleCause(failures.getFirst());
+    }
+
+    private static Throwable rootSubtitleCause(Throwable failure) {
+        // 제공자들은 NoSubtitlesFoundException을 YoutubeApiException 등으로 감싸서 돌려줍니다.
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSubtitlesFoundException) return cause;
+        }
+        return failure;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
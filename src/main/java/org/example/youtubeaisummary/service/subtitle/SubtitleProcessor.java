@@ -2,112 +2,454 @@ package org.example.youtubeaisummary.service.subtitle;
 
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
 
+/**
+ * SRT(또는 스트리밍 WebVTT) 자막을 "시작시간:문장" 줄 목록으로 정리합니다.
+ * 입력을 한 번만 훑으면서 블록/줄 경계를 인덱스로 찾고, 재사용하는 버퍼에서 정리/중복 제거/문장 분리를 처리합니다.
+ * 자동 생성 자막의 롤링 캡션(이전 블록 끝과 겹치는 앞부분)은 접두사 함수(KMP)로 선형 시간에 제거합니다.
+ */
 @Component
 public class SubtitleProcessor {
 
     // 문장을 나누는 최대 길이 (이 값을 조절하여 결과물 튜닝 가능)
     private static final int MAX_SENTENCE_LENGTH = 200;
+    private static final String TIME_SEPARATOR = " --> ";
+    // 정규식 '.'이 넘지 않는 유니코드 줄 구분 문자
+    private static final char LINE_SEPARATOR = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = (char) 0x2029;
 
     public String process(String rawSubtitle) {
-        List<ProcessedSentence> finalSentences = new ArrayList<>();
-        StringBuilder sentenceBuffer = new StringBuilder();
-        String bufferStartTime = null;
-        String lastBlockText = "";
+        return new Parser(true).parse(rawSubtitle);
+    }
+
+    /**
+     * WebVTT 자막을 읽는 즉시 큐 단위로 SRT 블록처럼 정리합니다. (파일이나 전체 문자열을 만들지 않음)
+     * 헤더/NOTE 블록은 건너뛰고, 큐 텍스트의 &lt;c&gt; 같은 태그와 HTML 엔티티는 ffmpeg의 SRT 변환처럼 제거합니다.
+     * 공백도 process()와 같게 처리하므로, 같은 자막을 SRT 파일로 받아 process()에 넘긴 결과와 같습니다.
+     */
+    public String processWebVtt(BufferedReader reader) throws IOException {
+        return processWebVtt(reader, false);
+    }
+
+    /**
+     * processWebVtt(reader)와 같지만, singleSpacing이면 겹친 구간을 잘라낸 자리에 공백을 하나만 둡니다.
+     * (json3/srv3 수집기와 같은 결과가 필요할 때 사용하며, 이 경우 process()의 결과와는 공백이 다를 수 있음)
+     */
+    public String processWebVtt(BufferedReader reader, boolean singleSpacing) throws IOException {
+        return new Parser(!singleSpacing).parseWebVtt(reader);
+    }
+
+    /**
+     * 시간 정보가 붙은 큐를 하나씩 받아 process()와 같은 "시작시간:문장" 형식으로 정리하는 수집기를 만듭니다.
+     *
+     * @param rollingCaptions 큐마다 이전 큐의 끝부분이 반복되는 형식(SRT/VTT 자동 자막)이면 true, 새 단어만 담긴 형식(json3/srv3)이면 false
+     */
+    public CueCollector newCueCollector(boolean rollingCaptions) {
+        return new CueCollector(new Parser(false), rollingCaptions);
+    }
+
+    /**
+     * 스트리밍 파서가 큐를 읽는 즉시 넘겨주는 수집기입니다. (작업 하나에서만 사용)
+     */
+    public static final class CueCollector {
+        private final Parser parser;
+        private final boolean rollingCaptions;
+
+        private CueCollector(Parser parser, boolean rollingCaptions) {
+            this.parser = parser;
+            this.rollingCaptions = rollingCaptions;
+        }
+
+        /**
+         * @param startTime SRT 형식의 시작 시간 (hh:mm:ss,ttt)
+         * @param text      큐 텍스트 (줄바꿈은 공백으로 취급)
+         */
+        public void add(CharSequence startTime, CharSequence text) {
+            parser.processCue(startTime, text, rollingCaptions);
+        }
 
-        Scanner scanner = new Scanner(rawSubtitle);
-        scanner.useDelimiter("(\r?\n){2,}");
+        public String finish() {
+            return parser.finish();
+        }
+    }
 
-        while (scanner.hasNext()) {
-            String block = scanner.next();
-            String[] lines = block.split("\r?\n");
-            if (lines.length < 2) continue;
+    /**
+     * 호출마다 새로 만들어 쓰는 파서 상태입니다. (버퍼 재사용으로 블록당 임시 문자열을 만들지 않음)
+     */
+    private static final class Parser {
+        private final StringBuilder output = new StringBuilder();
+        private final StringBuilder sentenceBuffer = new StringBuilder();
+        private final StringBuilder joined = new StringBuilder();
+        private StringBuilder currentText = new StringBuilder();
+        private StringBuilder lastBlockText = new StringBuilder();
+        private int[] prefixFunction = new int[64];
+        private int[] lineStarts = new int[8];
+        private int[] lineEnds = new int[8];
 
-            String startTime = lines[1].split(" --> ")[0].trim();
-            String text = getTextFromBlock(lines).replaceAll("\\[.*?\\]", "").trim();
-            if (text.isEmpty()) continue;
+        private final StringBuilder bufferStartTime = new StringBuilder();
+        // true면 겹친 구간 뒤의 공백을 남겨 기존 SRT 정제 결과와 글자 단위로 같게 만듭니다.
+        private final boolean legacySpacing;
 
-            String phraseToAdd = findNewPhrase(lastBlockText, text);
-            lastBlockText = text;
+        private Parser(boolean legacySpacing) {
+            this.legacySpacing = legacySpacing;
+        }
 
-            if (sentenceBuffer.isEmpty() && !phraseToAdd.isEmpty()) {
-                bufferStartTime = startTime;
+        private String parse(String input) {
+            int length = input.length();
+            // Scanner와 동일하게 입력 맨 앞의 구분자(빈 줄)는 건너뜁니다.
+            int pos = Math.max(0, delimiterEnd(input, 0));
+            while (pos < length) {
+                int blockEnd = pos;
+                int nextPos = -1;
+                while (blockEnd < length) {
+                    char c = input.charAt(blockEnd);
+                    if ((c == '\n' || c == '\r') && (nextPos = delimiterEnd(input, blockEnd)) >= 0) {
+                        break;
+                    }
+                    blockEnd++;
+                }
+                processBlock(input, pos, blockEnd);
+                pos = nextPos >= 0 ? nextPos : length;
+            }
+            return finish();
+        }
+
+        /**
+         * 줄 단위로 읽으면서 각 큐를 "번호/시간/텍스트" SRT 블록으로 바꿔 바로 처리합니다.
+         */
+        private String parseWebVtt(BufferedReader reader) throws IOException {
+            StringBuilder block = new StringBuilder();
+            boolean header = true;
+            boolean inCue = false;
+            int cueIndex = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    header = false;
+                    if (inCue) {
+                        processBlock(block, 0, block.length());
+                        inCue = false;
+                    }
+                    block.setLength(0);
+                    continue;
+                }
+                if (header) continue;
+
+                if (!inCue) {
+                    // 큐 식별자와 NOTE/STYLE 블록은 시간 줄이 나올 때까지 건너뜁니다.
+                    int arrow = line.indexOf("-->");
+                    if (arrow < 0) continue;
+                    inCue = true;
+                    block.append(++cueIndex).append('\n');
+                    appendSrtTimestamp(block, line, 0, arrow);
+                    block.append(TIME_SEPARATOR);
+                    appendSrtTimestamp(block, line, arrow + 3, line.length());
+                    continue;
+                }
+                block.append('\n');
+                appendCueText(block, line);
             }
-            if (!phraseToAdd.isEmpty()) {
-                if (!sentenceBuffer.isEmpty()) sentenceBuffer.append(" ");
-                sentenceBuffer.append(phraseToAdd);
+            if (inCue) {
+                processBlock(block, 0, block.length());
             }
+            return finish();
+        }
 
-            // 길이 기반 문장 분리 로직
-            while (sentenceBuffer.length() > MAX_SENTENCE_LENGTH) {
-                String currentText = sentenceBuffer.toString();
-                int splitIndex = -1;
+        private String finish() {
+            if (!sentenceBuffer.isEmpty()) {
+                emit(sentenceBuffer, 0, sentenceBuffer.length());
+            }
+            return output.toString();
+        }
+
+        private void processBlock(CharSequence source, int from, int to) {
+            int lineCount = splitLines(source, from, to);
+            if (lineCount < 2) return;
 
-                // 1순위: 최대 길이 근처에서 뒤쪽부터 마침표(.)를 탐색합니다.
-                // 탐색 범위를 문장 길이 + 20자 정도 여유를 줍니다.
-                int searchLimit = Math.min(currentText.length(), MAX_SENTENCE_LENGTH + 20);
-                splitIndex = currentText.substring(0, searchLimit).lastIndexOf('.');
+            int timeFrom = lineStarts[1];
+            int timeTo = indexOf(source, TIME_SEPARATOR, timeFrom, lineEnds[1]);
+            while (timeFrom < timeTo && source.charAt(timeFrom) <= ' ') timeFrom++;
+            while (timeTo > timeFrom && source.charAt(timeTo - 1) <= ' ') timeTo--;
 
-                // 2순위: 마침표가 없다면, 같은 범위에서 공백(' ')을 탐색합니다.
+            joined.setLength(0);
+            for (int i = 2; i < lineCount; i++) {
+                joined.append(source, lineStarts[i], lineEnds[i]).append(' ');
+            }
+            processJoinedText(source, timeFrom, timeTo, true);
+        }
+
+        private void processCue(CharSequence startTime, CharSequence text, boolean rollingCaptions) {
+            joined.setLength(0);
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                joined.append(c == '\n' || c == '\r' ? ' ' : c);
+            }
+            processJoinedText(startTime, 0, startTime.length(), rollingCaptions);
+        }
+
+        /**
+         * joined 버퍼의 텍스트를 정리하고, 이전 블록과 겹치는 앞부분을 뺀 새 구절을 문장 버퍼에 이어 붙입니다.
+         */
+        private void processJoinedText(CharSequence timeSource, int timeFrom, int timeTo, boolean removeOverlap) {
+            removeBracketTags(joined, currentText);
+            if (currentText.isEmpty()) return;
+
+            int overlap = removeOverlap ? overlapLength(lastBlockText, currentText) : 0;
+            if (overlap > 0 && !legacySpacing) {
+                // 잘라낸 자리의 공백은 아래에서 붙이는 구분 공백과 겹치므로 건너뜁니다.
+                while (overlap < currentText.length() && currentText.charAt(overlap) <= ' ') overlap++;
+            }
+            boolean hasNewPhrase = overlap < currentText.length();
+
+            if (sentenceBuffer.isEmpty() && hasNewPhrase) {
+                bufferStartTime.setLength(0);
+                bufferStartTime.append(timeSource, timeFrom, timeTo);
+            }
+            if (hasNewPhrase) {
+                if (!sentenceBuffer.isEmpty()) sentenceBuffer.append(' ');
+                sentenceBuffer.append(currentText, overlap, currentText.length());
+            }
+
+            StringBuilder swap = lastBlockText;
+            lastBlockText = currentText;
+            currentText = swap;
+
+            // 길이 기반 문장 분리 로직
+            while (sentenceBuffer.length() > MAX_SENTENCE_LENGTH) {
+                // 1순위: 최대 길이 근처(+20자)에서 뒤쪽부터 마침표(.), 2순위: 공백(' '), 3순위: 최대 길이에서 자릅니다.
+                int searchLimit = Math.min(sentenceBuffer.length(), MAX_SENTENCE_LENGTH + 20);
+                int splitIndex = lastIndexOf(sentenceBuffer, '.', searchLimit);
                 if (splitIndex == -1) {
-                    splitIndex = currentText.substring(0, searchLimit).lastIndexOf(' ');
+                    splitIndex = lastIndexOf(sentenceBuffer, ' ', searchLimit);
                 }
-
-                // 3순위: 마침표와 공백이 모두 없다면(예: 매우 긴 한 단어), 그냥 최대 길이에서 자릅니다.
                 if (splitIndex == -1) {
                     splitIndex = MAX_SENTENCE_LENGTH;
                 }
 
-                // 찾은 분절 지점을 기준으로 문장을 완성합니다.
-                String completedSentence = currentText.substring(0, splitIndex + 1).trim();
-                finalSentences.add(new ProcessedSentence(bufferStartTime, completedSentence));
-
-                // 버퍼에서 완성된 문장 부분을 제거하고, 남은 부분으로 새 문장을 시작합니다.
+                emit(sentenceBuffer, 0, splitIndex + 1);
                 sentenceBuffer.delete(0, splitIndex + 1);
 
-                // 새 문장의 시작 시간은 대략적인 시간으로 업데이트합니다.
+                // 새 문장의 시작 시간은 현재 처리 중인 블록의 시작 시간으로 대략 할당합니다.
                 if (!sentenceBuffer.isEmpty()) {
-                    bufferStartTime = startTime; // 현재 처리 중인 블록의 시작 시간을 대략적으로 할당
+                    bufferStartTime.setLength(0);
+                    bufferStartTime.append(timeSource, timeFrom, timeTo);
                 }
             }
         }
-        scanner.close();
 
-        if (!sentenceBuffer.isEmpty()) {
-            finalSentences.add(new ProcessedSentence(bufferStartTime, sentenceBuffer.toString().trim()));
+        /**
+         * 블록을 "\r?\n" 기준 줄 범위로 나누고, 끝쪽의 빈 줄을 뺀 줄 수를 반환합니다. (String.split과 동일)
+         */
+        private int splitLines(CharSequence source, int from, int to) {
+            int count = 0;
+            int lineStart = from;
+            int i = from;
+            while (i < to) {
+                int newline = newlineLength(source, i, to);
+                if (newline == 0) {
+                    i++;
+                    continue;
+                }
+                count = addLine(count, lineStart, i);
+                i += newline;
+                lineStart = i;
+            }
+            count = addLine(count, lineStart, to);
+            while (count > 0 && lineStarts[count - 1] == lineEnds[count - 1]) {
+                count--;
+            }
+            return count;
         }
 
-        return finalSentences.stream()
-                .map(p -> p.startTime() + ":" + p.sentence())
-                .collect(Collectors.joining("\n"));
-    }
+        private int addLine(int count, int start, int end) {
+            if (count == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, count * 2);
+                lineEnds = Arrays.copyOf(lineEnds, count * 2);
+            }
+            lineStarts[count] = start;
+            lineEnds[count] = end;
+            return count + 1;
+        }
+
+        /**
+         * 앞뒤 공백을 제거한 뒤 "[...]" 태그(줄바꿈 문자를 넘지 않는 가장 짧은 대괄호 쌍)를 지우고, 다시 앞뒤 공백을 제거해 target에 씁니다.
+         */
+        private static void removeBracketTags(CharSequence source, StringBuilder target) {
+            target.setLength(0);
+            int from = 0;
+            int to = source.length();
+            while (from < to && source.charAt(from) <= ' ') from++;
+            while (to > from && source.charAt(to - 1) <= ' ') to--;
 
-    // 겹치지 않는 새 구절을 찾는 메서드
-    private String findNewPhrase(String context, String newText) {
-        if (context == null || context.isEmpty()) return newText;
-        int overlapLength = 0;
-        for (int i = 1; i <= Math.min(context.length(), newText.length()); i++) {
-            if (context.endsWith(newText.substring(0, i))) {
-                overlapLength = i;
+            int copied = from;
+            int i = from;
+            while (i < to) {
+                if (source.charAt(i) != '[') {
+                    i++;
+                    continue;
+                }
+                int close = i + 1;
+                while (close < to && source.charAt(close) != ']' && !isLineTerminator(source.charAt(close))) {
+                    close++;
+                }
+                if (close < to && source.charAt(close) == ']') {
+                    target.append(source, copied, i);
+                    copied = close + 1;
+                }
+                // 줄바꿈 문자에서 멈췄다면 그 사이의 '['도 짝을 찾을 수 없으므로 함께 건너뜁니다.
+                i = close + 1;
             }
+            target.append(source, copied, to);
+
+            int end = target.length();
+            while (end > 0 && target.charAt(end - 1) <= ' ') end--;
+            target.setLength(end);
+            int start = 0;
+            while (start < end && target.charAt(start) <= ' ') start++;
+            target.delete(0, start);
         }
-        return newText.substring(overlapLength);
-    }
 
-    private String getTextFromBlock(String[] lines) {
-        StringBuilder textBuilder = new StringBuilder();
-        if (lines.length > 2) {
-            for (int i = 2; i < lines.length; i++) {
-                textBuilder.append(lines[i]).append(" ");
+        /**
+         * context의 접미사이면서 text의 접두사인 가장 긴 길이를 KMP 접두사 함수로 O(n + m)에 구합니다.
+         */
+        private int overlapLength(CharSequence context, CharSequence text) {
+            int m = text.length();
+            if (context.isEmpty() || m == 0) return 0;
+            if (prefixFunction.length < m) {
+                prefixFunction = new int[Math.max(m, prefixFunction.length * 2)];
+            }
+            int[] pi = prefixFunction;
+            pi[0] = 0;
+            for (int i = 1, k = 0; i < m; i++) {
+                while (k > 0 && text.charAt(i) != text.charAt(k)) k = pi[k - 1];
+                if (text.charAt(i) == text.charAt(k)) k++;
+                pi[i] = k;
+            }
+
+            int q = 0;
+            for (int i = 0, n = context.length(); i < n; i++) {
+                if (q == m) q = pi[q - 1];
+                while (q > 0 && context.charAt(i) != text.charAt(q)) q = pi[q - 1];
+                if (context.charAt(i) == text.charAt(q)) q++;
+            }
+            return q;
+        }
+
+        private void emit(CharSequence sentence, int from, int to) {
+            while (from < to && sentence.charAt(from) <= ' ') from++;
+            while (to > from && sentence.charAt(to - 1) <= ' ') to--;
+            if (!output.isEmpty()) output.append('\n');
+            output.append(bufferStartTime).append(':').append(sentence, from, to);
+        }
+
+        /**
+         * [from, to) 범위 안에서 target의 첫 위치를 찾고, 없으면 to를 반환합니다.
+         */
+        private static int indexOf(CharSequence source, String target, int from, int to) {
+            for (int i = from; i + target.length() <= to; i++) {
+                int j = 0;
+                while (j < target.length() && source.charAt(i + j) == target.charAt(j)) j++;
+                if (j == target.length()) return i;
+            }
+            return to;
+        }
+
+        /**
+         * "mm:ss.ttt" 또는 "hh:mm:ss.ttt" 형식의 WebVTT 시간을 "hh:mm:ss,ttt" SRT 형식으로 씁니다. (뒤따르는 큐 설정은 버림)
+         */
+        private static void appendSrtTimestamp(StringBuilder target, String line, int from, int to) {
+            while (from < to && line.charAt(from) <= ' ') from++;
+            int end = from;
+            int colons = 0;
+            while (end < to && line.charAt(end) > ' ') {
+                if (line.charAt(end) == ':') colons++;
+                end++;
+            }
+            if (colons == 1) target.append("00:");
+            for (int i = from; i < end; i++) {
+                char c = line.charAt(i);
+                target.append(c == '.' ? ',' : c);
             }
         }
-        return textBuilder.toString().trim();
-    }
 
-    public record ProcessedSentence(String startTime, String sentence) {
+        /**
+         * 큐 텍스트에서 &lt;...&gt; 태그를 지우고 기본 HTML 엔티티를 풀어 씁니다.
+         */
+        private static void appendCueText(StringBuilder target, String line) {
+            int i = 0;
+            int length = line.length();
+            while (i < length) {
+                char c = line.charAt(i);
+                if (c == '<') {
+                    int close = line.indexOf('>', i + 1);
+                    if (close >= 0) {
+                        i = close + 1;
+                        continue;
+                    }
+                } else if (c == '&') {
+                    int semicolon = line.indexOf(';', i + 1);
+                    String decoded = semicolon > i ? decodeEntity(line, i + 1, semicolon) : null;
+                    if (decoded != null) {
+                        target.append(decoded);
+                        i = semicolon + 1;
+                        continue;
+                    }
+                }
+                target.append(c);
+                i++;
+            }
+        }
+
+        private static String decodeEntity(String line, int from, int to) {
+            return switch (line.substring(from, to)) {
+                case "amp" -> "&";
+                case "lt" -> "<";
+                case "gt" -> ">";
+                case "quot" -> "\"";
+                case "apos", "#39" -> "'";
+                case "nbsp" -> " ";
+                case "lrm", "rlm" -> "";
+                default -> null;
+            };
+        }
+
+        private static int lastIndexOf(CharSequence text, char target, int limit) {
+            for (int i = limit - 1; i >= 0; i--) {
+                if (text.charAt(i) == target) return i;
+            }
+            return -1;
+        }
+
+        private static boolean isLineTerminator(char c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR;
+        }
+
+        /**
+         * 위치 i에서 시작하는 줄바꿈("\r?\n")의 길이를 반환합니다. 줄바꿈이 아니면 0입니다.
+         */
+        private static int newlineLength(CharSequence source, int i, int limit) {
+            char c = source.charAt(i);
+            if (c == '\n') return 1;
+            if (c == '\r' && i + 1 < limit && source.charAt(i + 1) == '\n') return 2;
+            return 0;
+        }
+
+        /**
+         * 위치 i부터 줄바꿈이 2개 이상 연속되면(블록 구분자) 그 끝 위치를, 아니면 -1을 반환합니다.
+         */
+        private static int delimiterEnd(String input, int i) {
+            int count = 0;
+            int length = input.length();
+            while (i < length) {
+                int newline = newlineLength(input, i, length);
+                if (newline == 0) break;
+                i += newline;
+                count++;
+            }
+            return count >= 2 ? i : -1;
+        }
     }
-}
\ No newline at end of file
+}
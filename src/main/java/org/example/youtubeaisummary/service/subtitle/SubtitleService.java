@@ -14,4 +14,21 @@ public interface SubtitleService {
      * @return 추출된 자막 텍스트를 담은 CompletableFuture
      */
     CompletableFuture<String> fetchSubs(String jobId, YoutubeVideo video);
-}
\ No newline at end of file
+
+    /**
+     * 진행 중인 자막 추출을 중단합니다. (지원하는 제공자만 실행 중인 자식 프로세스까지 종료)
+     *
+     * @param jobId 중단할 작업 ID
+     */
+    default void cancel(String jobId) {
+    }
+
+    /**
+     * 추출이 끝난 뒤 도착한 취소 기록을 지웁니다. 취소를 요청한 쪽이 fetchSubs의 future가 끝난 뒤 호출해,
+     * 같은 작업을 다시 추출할 때 남은 기록 때문에 바로 취소되지 않게 합니다.
+     *
+     * @param jobId 취소 기록을 지울 작업 ID
+     */
+    default void clearCancellation(String jobId) {
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * YouTube timedtext 자막(json3/srv3/vtt)을 스트리밍으로 읽어, 큐를 읽는 즉시 SubtitleProcessor 형식으로 정리합니다.
+ * 응답 전체를 트리나 문자열로 만들지 않습니다.
+ */
+@Component
+public class TimedTextParser {
+
+    private final SubtitleProcessor subtitleProcessor;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final XMLInputFactory xmlInputFactory;
+
+    public TimedTextParser(SubtitleProcessor subtitleProcessor) {
+        this.subtitleProcessor = subtitleProcessor;
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    public String parse(Format format, BufferedReader reader) throws IOException {
+        return switch (format) {
+            case JSON3 -> parseJson3(reader);
+            case SRV3 -> parseSrv3(reader);
+            // json3/srv3와 같은 결과가 나오도록 겹친 구간을 잘라낸 자리에 공백을 하나만 둡니다.
+            case VTT -> subtitleProcessor.processWebVtt(reader, true);
+        };
+    }
+
+    /**
+     * {"events":[{"tStartMs":160,"segs":[{"utf8":"..."}]}, ...]} 형식을 이벤트 단위로 읽습니다.
+     */
+    private String parseJson3(BufferedReader reader) throws IOException {
+        SubtitleProcessor.CueCollector collector = subtitleProcessor.newCueCollector(false);
+        StringBuilder text = new StringBuilder();
+        StringBuilder startTime = new StringBuilder(12);
+
+        try (JsonParser parser = jsonFactory.createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("json3 자막 형식이 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY || !"events".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    long startMillis = -1;
+                    text.setLength(0);
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        switch (name) {
+                            case "tStartMs" -> startMillis = parser.getLongValue();
+                            case "segs" -> readSegments(parser, text);
+                            default -> parser.skipChildren();
+                        }
+                    }
+                    if (startMillis >= 0 && !text.isEmpty()) {
+                        collector.add(formatTime(startTime, startMillis), text);
+                    }
+                }
+            }
+        }
+        return collector.finish();
+    }
+
+    private void readSegments(JsonParser parser, StringBuilder text) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("utf8".equals(name)) {
+                    text.append(parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * &lt;timedtext format="3"&gt;&lt;body&gt;&lt;p t="160" d="..."&gt;텍스트 또는 &lt;s&gt;단어&lt;/s&gt;...&lt;/p&gt; 형식을 StAX로 읽습니다.
+     */
+    private String parseSrv3(BufferedReader reader) throws IOException {
+        SubtitleProcessor.CueCollector collector = subtitleProcessor.newCueCollector(false);
+        StringBuilder text = new StringBuilder();
+        StringBuilder startTime = new StringBuilder(12);
+
+        try {
+            XMLStreamReader xml = xmlInputFactory.createXMLStreamReader(reader);
+            try {
+                long startMillis = -1;
+                boolean inParagraph = false;
+                while (xml.hasNext()) {
+                    switch (xml.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            if ("p".equals(xml.getLocalName())) {
+                                String t = xml.getAttributeValue(null, "t");
+                                startMillis = t == null ? -1 : Long.parseLong(t);
+                                text.setLength(0);
+                                inParagraph = true;
+                            }
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                            if (inParagraph) {
+                                text.append(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            if ("p".equals(xml.getLocalName())) {
+                                if (startMillis >= 0 && !text.isEmpty()) {
+                                    collector.add(formatTime(startTime, startMillis), text);
+                                }
+                                inParagraph = false;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException("srv3 자막을 해석할 수 없습니다: " + e.getMessage(), e);
+        }
+        return collector.finish();
+    }
+
+    /**
+     * 밀리초를 SRT 시작 시간 형식(hh:mm:ss,ttt)으로 씁니다.
+     */
+    static StringBuilder formatTime(StringBuilder target, long millis) {
+        target.setLength(0);
+        long hours = millis / 3_600_000;
+        long minutes = millis / 60_000 % 60;
+        long seconds = millis / 1000 % 60;
+        long fraction = millis % 1000;
+        if (hours < 10) target.append('0');
+        target.append(hours).append(':');
+        if (minutes < 10) target.append('0');
+        target.append(minutes).append(':');
+        if (seconds < 10) target.append('0');
+        target.append(seconds).append(',');
+        if (fraction < 100) target.append('0');
+        if (fraction < 10) target.append('0');
+        return target.append(fraction);
+    }
+
+    public enum Format {
+        JSON3("json3"),
+        SRV3("srv3"),
+        VTT("vtt");
+
+        private final String queryValue;
+
+        Format(String queryValue) {
+            this.queryValue = queryValue;
+        }
+
+        public String getQueryValue() {
+            return queryValue;
+        }
+    }
+}
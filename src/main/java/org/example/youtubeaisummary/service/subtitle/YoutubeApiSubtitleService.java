@@ -12,9 +12,12 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.StreamSupport;
 
+import static java.lang.Math.min;
+
 @Service("youtubeApi")
 public class YoutubeApiSubtitleService extends AbstractSubtitleService {
     private static final Logger logger = LoggerFactory.getLogger(SubtitleService.class);
@@ -30,7 +33,11 @@ public class YoutubeApiSubtitleService extends AbstractSubtitleService {
         String videoId = video.getVideoId();
 
         return CompletableFuture.supplyAsync(() -> {
+            trackJob(jobId);
             try {
+                if (isCancelled(jobId)) {
+                    throw new CancellationException("작업이 이미 취소되었습니다.");
+                }
                 updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTING, "자막 추출을 시작합니다...");
 
                 // --- 1. 자막 목록 가져오기 ---
@@ -83,9 +90,11 @@ public class YoutubeApiSubtitleService extends AbstractSubtitleService {
                 String result = textFormatter.format(transcriptContent);
 
                 // --- 4. 결과 포맷팅 및 최종 처리 ---
-                updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED, result);
+                updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED, result.substring(0, min(result.length(), 200)));
                 return result;
 
+            } catch (CancellationException e) {
+                throw e;
             } catch (NoSubtitlesFoundException | YoutubeApiException e) {
                 logger.warn("자막 처리 실패 (Job ID: {}): {}", jobId, e.getMessage(), e);
                 handleFailure(jobId, e.getMessage(), e);
@@ -95,6 +104,8 @@ public class YoutubeApiSubtitleService extends AbstractSubtitleService {
                 logger.error("자막 처리 중 예상치 못한 심각한 오류 발생 (Job ID: {}): {}", jobId, e.getMessage(), e);
                 handleFailure(jobId, defaultErrorMessage, e);
                 throw new RuntimeException(defaultErrorMessage, e);
+            } finally {
+                untrackJob(jobId);
             }
         });
     }
@@ -1,52 +1,87 @@
 package org.example.youtubeaisummary.service.subtitle;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.youtubeaisummary.service.proxy.ProxyPool;
+import org.example.youtubeaisummary.service.subtitle.YtDlpProcessSupervisor.Phase;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 @Component
 @Slf4j
 public class YtDlpExecutor {
+    // yt-dlp 오류 출력에서 프록시 차단/연결 문제를 알아보는 문구
+    private static final List<String> BLOCKED_MARKERS = List.of("HTTP Error 429", "HTTP Error 403", "not a bot");
+    private static final List<String> NETWORK_ERROR_MARKERS = List.of(
+            "Unable to connect to proxy", "ProxyError", "Tunnel connection failed", "Connection refused", "timed out");
 
     private final String ytDlpPath;
-    private final boolean proxyEnabled;
-    private final String proxyUrl;
     private final String cookieFilePath;
+    private final YtDlpWorkerPool workerPool;
+    private final YtDlpMetadataParser metadataParser;
+    private final YtDlpProcessSupervisor supervisor;
+    private final ProxyPool proxyPool;
+    // 스레드 -> 그 스레드가 띄운 yt-dlp 프로세스 (취소 시 프로세스 트리 종료용)
+    private final Map<Thread, Process> runningProcesses = new ConcurrentHashMap<>();
 
     public YtDlpExecutor(@Value("${app.ytdlp.path}") String ytDlpPath,
-                         @Value("${proxy.enabled:false}") boolean proxyEnabled,
-                         @Value("${proxy.url:}") String proxyUrl,
-                         @Value("${app.ytdlp.cookie-path:}") String cookieFilePath) {
+                         @Value("${app.ytdlp.cookie-path:}") String cookieFilePath,
+                         YtDlpWorkerPool workerPool,
+                         YtDlpMetadataParser metadataParser,
+                         YtDlpProcessSupervisor supervisor,
+                         ProxyPool proxyPool) {
         this.ytDlpPath = ytDlpPath;
-        this.proxyEnabled = proxyEnabled;
-        this.proxyUrl = proxyUrl;
         this.cookieFilePath = cookieFilePath;
+        this.workerPool = workerPool;
+        this.metadataParser = metadataParser;
+        this.supervisor = supervisor;
+        this.proxyPool = proxyPool;
     }
 
 
     /**
-     * 명령어를 실행하고 표준 출력에서 JSON 한 줄을 반환합니다.
+     * 메타데이터만 조회합니다. 출력은 버퍼에 모으지 않고 프로세스 스트림에서 필요한 필드만 바로 파싱합니다.
      */
-    public String executeAndGetJson(String videoId) throws IOException, InterruptedException {
+    public YtDlpMetadata fetchMetadata(String videoId) throws IOException, InterruptedException {
         List<String> command = new ArrayList<>(List.of(ytDlpPath, "--dump-single-json", "--no-warnings"));
-        addProxyToCommandIfEnabled(command);
         addCookieToCommandIfEnabled(command);
         command.add(videoId);
 
-        String processOutput = execute(command);
+        return execute(command, Phase.METADATA, metadataParser::parse);
+    }
 
-        // 실행 결과에서 JSON 라인을 찾아 반환합니다.
-        if (processOutput.trim().startsWith("{") && processOutput.trim().endsWith("}")) {
-            return processOutput.trim();
-        }
-        throw new IOException("yt-dlp로부터 유효한 JSON 출력을 찾지 못했습니다.");
+    /**
+     * 한 번의 실행으로 메타데이터를 반환하면서, 지정한 언어들의 자동 생성 자막도 SRT 파일로 저장합니다.
+     * (--dump-single-json은 기본적으로 시뮬레이션만 하므로 --no-simulate로 자막 쓰기를 함께 수행합니다)
+     */
+    public YtDlpMetadata fetchMetadataWithSubtitles(String videoId, List<String> langCodes, String outputTemplate) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                ytDlpPath,
+                "--dump-single-json", "--no-simulate", "--no-warnings",
+                "--write-auto-subs",
+                "--sub-langs", String.join(",", langCodes),
+                "--convert-subs", "srt",
+                "--skip-download",
+                "-o", outputTemplate
+        ));
+        addCookieToCommandIfEnabled(command);
+        command.add(videoId);
+
+        // 자막 변환 로그가 JSON 앞에 섞여도 파서가 건너뜁니다.
+        return execute(command, Phase.SUBTITLES, metadataParser::parse);
     }
 
     /**
@@ -66,42 +101,143 @@ public class YtDlpExecutor {
         command.add(videoId);
 
         // 명령어를 실행하고, 이 메서드는 파일 저장이 목적이므로 출력은 무시합니다.
-        execute(command);
+        execute(command, Phase.SUBTITLES, stdout -> null);
     }
 
     /**
-     * yt-dlp 명령어를 실행하고 전체 출력을 문자열로 반환하는 private 헬퍼 메서드입니다.
-     * 이 메서드는 오직 '명령어 실행'과 '결과 반환' 책임만 가집니다.
+     * yt-dlp 명령어를 실행하고 표준 출력을 handler에 스트림으로 넘겨 그 결과를 반환하는 private 헬퍼 메서드입니다.
+     * handler가 읽지 않은 나머지 출력은 버리고, 표준 에러는 실패 시 로그에 남기기 위해 따로 모읍니다.
+     * 워커 풀이 켜져 있으면 새 프로세스 대신 상주 워커에서 같은 인자로 실행합니다.
+     * 동시 실행 수와 단계별 제한 시간은 supervisor가 관리하며, 시간 초과 시 이 스레드의 프로세스 트리를 종료합니다.
      */
-    private String execute(List<String> command) throws IOException, InterruptedException {
-        ProcessBuilder processBuilder = new ProcessBuilder(command);
-        processBuilder.redirectErrorStream(true);
-        Process process = processBuilder.start();
+    private <T> T execute(List<String> command, Phase phase, OutputHandler<T> handler) throws IOException, InterruptedException {
+        ProxyPool.Lease lease = proxyPool.acquire();
+        List<String> proxiedCommand = withProxy(command, lease.proxy());
+        Thread caller = Thread.currentThread();
+        try {
+            return supervisor.supervise(phase, () -> cancel(caller), () -> {
+                if (workerPool.isEnabled()) {
+                    YtDlpWorkerPool.Result result = workerPool.execute(proxiedCommand.subList(1, proxiedCommand.size()));
+                    onExit(phase, lease, result.exitCode(), result.output());
+                    checkExitCode(command, result.exitCode(), result.output());
+                    return handler.handle(new BufferedReader(new StringReader(result.output())));
+                }
+                return executeProcess(command, proxiedCommand, phase, lease, handler);
+            });
+        } catch (IOException e) {
+            // 종료 코드를 받기 전에 실패(시간 초과, 실행 실패)한 경우입니다. 취소로 끝난 실행은 프록시 점수에 반영하지 않습니다.
+            if (!caller.isInterrupted()) {
+                lease.report(ProxyPool.Outcome.FAILURE);
+            }
+            throw e;
+        }
+    }
+
+    private <T> T executeProcess(List<String> command, List<String> proxiedCommand, Phase phase, ProxyPool.Lease lease,
+                                 OutputHandler<T> handler) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(proxiedCommand).start();
+        runningProcesses.put(Thread.currentThread(), process);
+        FutureTask<String> stderr = new FutureTask<>(() -> readQuietly(process.getErrorStream()));
+        Thread.ofVirtual().name("yt-dlp-stderr").start(stderr);
 
-        StringBuilder fullOutput = new StringBuilder();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                fullOutput.append(line).append(System.lineSeparator());
+            T result = null;
+            IOException handlerFailure = null;
+            try {
+                result = handler.handle(reader);
+            } catch (IOException e) {
+                handlerFailure = e;
             }
+            // 프로세스가 출력 파이프에서 막히지 않도록 남은 출력을 비웁니다.
+            reader.transferTo(Writer.nullWriter());
+            int exitCode = process.waitFor();
+            String errorOutput = stderrOutput(stderr);
+            onExit(phase, lease, exitCode, errorOutput);
+            checkExitCode(command, exitCode, errorOutput);
+            if (handlerFailure != null) {
+                throw handlerFailure;
+            }
+            return result;
+        } finally {
+            runningProcesses.remove(Thread.currentThread(), process);
+            // 인터럽트나 예외로 빠져나온 경우에도 프로세스가 남지 않게 합니다.
+            if (process.isAlive()) {
+                destroyProcessTree(process);
+            }
+        }
+    }
+
+    private static String readQuietly(InputStream in) {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
         }
+    }
+
+    private static String stderrOutput(FutureTask<String> stderr) throws InterruptedException {
+        try {
+            return stderr.get();
+        } catch (ExecutionException e) {
+            return "";
+        }
+    }
+
+    /**
+     * 지정한 스레드가 실행 중인 yt-dlp 프로세스(와 ffmpeg 등 자식 프로세스)를 강제 종료합니다.
+     * 해당 스레드의 execute는 비정상 종료 코드로 IOException을 던집니다.
+     */
+    public void cancel(Thread worker) {
+        Process process = runningProcesses.get(worker);
+        if (process != null) {
+            log.info("yt-dlp 프로세스(pid={})를 취소합니다.", process.pid());
+            destroyProcessTree(process);
+        }
+        if (workerPool.isEnabled()) {
+            workerPool.cancel(worker);
+        }
+    }
+
+    private static void destroyProcessTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
 
-        int exitCode = process.waitFor();
+    private void onExit(Phase phase, ProxyPool.Lease lease, int exitCode, String output) {
+        supervisor.recordExit(phase, exitCode);
+        lease.report(exitCode == 0 ? ProxyPool.Outcome.SUCCESS : proxyOutcome(output));
+    }
+
+    /**
+     * yt-dlp 오류 출력으로 프록시 상태를 판단합니다. 영상 자체의 오류(비공개, 삭제 등)는 프록시가 정상 동작한 것으로 봅니다.
+     */
+    private static ProxyPool.Outcome proxyOutcome(String output) {
+        if (BLOCKED_MARKERS.stream().anyMatch(output::contains)) return ProxyPool.Outcome.BLOCKED;
+        if (NETWORK_ERROR_MARKERS.stream().anyMatch(output::contains)) return ProxyPool.Outcome.FAILURE;
+        return ProxyPool.Outcome.SUCCESS;
+    }
+
+    private void checkExitCode(List<String> command, int exitCode, String output) throws IOException {
         if (exitCode != 0) {
             log.error("yt-dlp process exited with code {}. Command: {}\n--- yt-dlp output ---\n{}",
-                    exitCode, String.join(" ", command), fullOutput.toString());
+                    exitCode, String.join(" ", command), output);
             throw new IOException("yt-dlp process exited with code " + exitCode);
         }
-
-        return fullOutput.toString();
     }
 
-    private void addProxyToCommandIfEnabled(List<String> command) {
-        if (proxyEnabled && proxyUrl != null && !proxyUrl.isEmpty()) {
-            command.add("--proxy");
-            command.add(proxyUrl);
-            log.info("프록시를 사용하여 yt-dlp를 실행합니다.");
+    /**
+     * 프록시 주소에 인증 정보가 있을 수 있으므로, 로그에는 프록시를 붙이기 전의 명령어를 남깁니다.
+     */
+    private static List<String> withProxy(List<String> command, ProxyPool.Proxy proxy) {
+        if (proxy == null) {
+            return command;
         }
+        List<String> proxied = new ArrayList<>(command.size() + 2);
+        proxied.add(command.getFirst());
+        proxied.add("--proxy");
+        proxied.add(proxy.url());
+        proxied.addAll(command.subList(1, command.size()));
+        return proxied;
     }
 
     private void addCookieToCommandIfEnabled(List<String> command) {
@@ -111,4 +247,9 @@ public class YtDlpExecutor {
             log.info("쿠키 파일을 사용하여 yt-dlp를 실행합니다: {}", cookieFilePath);
         }
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface OutputHandler<T> {
+        T handle(BufferedReader stdout) throws IOException;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import org.example.youtubeaisummary.vo.VideoChapter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * yt-dlp --dump-single-json 출력 중 자막 처리에 필요한 필드만 담습니다.
+ *
+ * @param language          영상의 원어 (yt-dlp 추정값, 없으면 null)
+ * @param durationSeconds   영상 길이(초, 없으면 0)
+ * @param automaticCaptions 자동 생성 자막: 언어 코드 -> (확장자 -> URL), yt-dlp 출력 순서 유지
+ * @param chapters          챕터 목록 (없으면 빈 목록)
+ */
+public record YtDlpMetadata(String language,
+                            double durationSeconds,
+                            Map<String, Map<String, String>> automaticCaptions,
+                            List<VideoChapter> chapters) {
+
+    public String captionUrl(String langCode, String ext) {
+        Map<String, String> formats = automaticCaptions.get(langCode);
+        return formats == null ? null : formats.get(ext);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.vo.VideoChapter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * yt-dlp의 --dump-single-json 출력을 스트림에서 바로 읽어 YtDlpMetadata를 만듭니다.
+ * 수 MB에 달하는 formats, 번역 자막 목록 등 나머지 필드는 트리나 문자열로 만들지 않고 토큰 단위로 건너뜁니다.
+ */
+@Component
+public class YtDlpMetadataParser {
+
+    private final JsonFactory jsonFactory;
+
+    public YtDlpMetadataParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * JSON 앞에 섞인 로그 줄은 건너뛰고 첫 JSON 객체만 읽습니다. reader는 닫지 않으며, 객체 뒤의 출력은 읽지 않은 채로 남습니다.
+     */
+    public YtDlpMetadata parse(BufferedReader reader) throws IOException {
+        skipToJsonObject(reader);
+
+        String language = null;
+        double duration = 0;
+        Map<String, Map<String, String>> captions = new LinkedHashMap<>();
+        List<VideoChapter> chapters = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(reader)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "language" -> language = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "duration" -> duration = value.isNumeric() ? parser.getDoubleValue() : 0;
+                    case "automatic_captions" -> readCaptions(parser, captions);
+                    case "chapters" -> readChapters(parser, chapters);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new YtDlpMetadata(language, duration, captions, chapters);
+    }
+
+    private void skipToJsonObject(BufferedReader reader) throws IOException {
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1) {
+                throw new IOException("yt-dlp로부터 유효한 JSON 출력을 찾지 못했습니다.");
+            }
+            if (c == '{') {
+                reader.reset();
+                return;
+            }
+            if (!Character.isWhitespace(c)) {
+                reader.readLine();
+            }
+        }
+    }
+
+    /**
+     * "automatic_captions": {"ko": [{"ext": "vtt", "url": "..."}, ...], ...}
+     */
+    private void readCaptions(JsonParser parser, Map<String, Map<String, String>> captions) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String langCode = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            Map<String, String> formats = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String ext = null;
+                String url = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    switch (name) {
+                        case "ext" -> ext = parser.getText();
+                        case "url" -> url = parser.getText();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (ext != null && url != null) {
+                    formats.putIfAbsent(ext, url);
+                }
+            }
+            captions.put(langCode, formats);
+        }
+    }
+
+    /**
+     * "chapters": [{"start_time": 0.0, "end_time": 95.0, "title": "..."}, ...] (없으면 null)
+     */
+    private void readChapters(JsonParser parser, List<VideoChapter> chapters) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            double start = 0;
+            double end = 0;
+            String title = "";
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "start_time" -> start = value.isNumeric() ? parser.getDoubleValue() : 0;
+                    case "end_time" -> end = value.isNumeric() ? parser.getDoubleValue() : 0;
+                    case "title" -> title = value == JsonToken.VALUE_STRING ? parser.getText() : "";
+                    default -> parser.skipChildren();
+                }
+            }
+            chapters.add(new VideoChapter(start, end, title));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시에 실행되는 yt-dlp 프로세스 수를 공정(FIFO) 세마포어로 제한하고, 단계별 제한 시간이 지나면 프로세스 트리를 종료합니다.
+ * 실행/대기 중인 프로세스 수, 시간 초과, 종료 코드, 대기/실행 시간을 지표로 노출합니다.
+ */
+@Component
+public class YtDlpProcessSupervisor {
+    private static final Logger logger = LoggerFactory.getLogger(YtDlpProcessSupervisor.class);
+
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+    private final Map<Phase, Duration> timeouts = new EnumMap<>(Phase.class);
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueWait;
+    private final ScheduledThreadPoolExecutor watchdog;
+
+    public YtDlpProcessSupervisor(MeterRegistry meterRegistry,
+                                  @Value("${app.ytdlp.supervisor.max-concurrent:4}") int maxConcurrent,
+                                  @Value("${app.ytdlp.supervisor.queue-timeout:60s}") Duration queueTimeout,
+                                  @Value("${app.ytdlp.supervisor.timeout.metadata:60s}") Duration metadataTimeout,
+                                  @Value("${app.ytdlp.supervisor.timeout.subtitles:120s}") Duration subtitlesTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.queueTimeout = queueTimeout;
+        this.timeouts.put(Phase.METADATA, metadataTimeout);
+        this.timeouts.put(Phase.SUBTITLES, subtitlesTimeout);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("ytdlp.process.running", running, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("ytdlp.process.queued", queued, AtomicInteger::get).register(meterRegistry);
+        this.queueWait = meterRegistry.timer("ytdlp.process.queue.wait");
+
+        this.watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ytdlp-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 실행 자리를 얻을 때까지(최대 queueTimeout) 기다린 뒤 call을 실행합니다.
+     * 단계 제한 시간이 지나면 killer를 호출해 프로세스를 종료하고, call이 던진 IOException을 시간 초과 예외로 바꿔 던집니다.
+     */
+    public <T> T supervise(Phase phase, Runnable killer, ProcessCall<T> call) throws IOException, InterruptedException {
+        long queuedAt = System.nanoTime();
+        boolean acquired;
+        queued.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            queued.decrementAndGet();
+            queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            meterRegistry.counter("ytdlp.process.rejected", "phase", phase.tag).increment();
+            throw new IOException("yt-dlp 실행 대기 시간이 초과되었습니다: " + queueTimeout);
+        }
+
+        Duration timeout = timeouts.get(phase);
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+            timedOut.set(true);
+            logger.warn("yt-dlp {} 단계가 {} 안에 끝나지 않아 프로세스를 종료합니다.", phase.tag, timeout);
+            killer.run();
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        long startedAt = System.nanoTime();
+        running.incrementAndGet();
+        try {
+            return call.run();
+        } catch (IOException e) {
+            if (timedOut.get()) {
+                meterRegistry.counter("ytdlp.process.timeouts", "phase", phase.tag).increment();
+                throw new IOException("yt-dlp " + phase.tag + " 단계 시간이 초과되었습니다: " + timeout, e);
+            }
+            throw e;
+        } finally {
+            deadline.cancel(false);
+            running.decrementAndGet();
+            permits.release();
+            meterRegistry.timer("ytdlp.process.duration", "phase", phase.tag).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 프로세스 종료 코드를 기록합니다. (시간 초과로 종료된 실행은 ytdlp.process.timeouts로 따로 셉니다)
+     */
+    public void recordExit(Phase phase, int exitCode) {
+        meterRegistry.counter("ytdlp.process.exits", "phase", phase.tag, "code", Integer.toString(exitCode)).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    public enum Phase {
+        METADATA("metadata"),
+        SUBTITLES("subtitles");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProcessCall<T> {
+        T run() throws IOException, InterruptedException;
+    }
+}
@@ -1,65 +1,73 @@
 package org.example.youtubeaisummary.service.subtitle;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
 import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
 import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 import static java.lang.Math.min;
 
 @Service("ytDlp")
 public class YtDlpSubtitleService extends AbstractSubtitleService {
+    private static final Logger logger = LoggerFactory.getLogger(YtDlpSubtitleService.class);
 
+    // 메타데이터 조회와 같은 실행에서 미리 받아 두는 자막 언어 (findBestSubtitleLanguage가 고르는 언어)
+    private static final List<String> PREFERRED_LANGUAGES = List.of("ko", "en");
 
     // 역할에 따라 분리된 객체들을 주입받습니다.
     private final YtDlpExecutor ytDlpExecutor;
     private final FileManager fileManager;
-    private final ObjectMapper objectMapper;
     private final SubtitleProcessor subtitleProcessor;
+    private final CaptionDownloader captionDownloader;
 
-    public YtDlpSubtitleService(YtDlpExecutor ytDlpExecutor, FileManager fileManager, ObjectMapper objectMapper, SubtitleProcessor subtitleProcessor) {
+    public YtDlpSubtitleService(YtDlpExecutor ytDlpExecutor, FileManager fileManager, SubtitleProcessor subtitleProcessor,
+                                CaptionDownloader captionDownloader) {
         this.ytDlpExecutor = ytDlpExecutor;
         this.fileManager = fileManager;
-        this.objectMapper = objectMapper;
         this.subtitleProcessor = subtitleProcessor;
+        this.captionDownloader = captionDownloader;
     }
 
     @Override
     @Async("ioTaskExecutor")
     public CompletableFuture<String> fetchSubs(String jobId, YoutubeVideo video) {
-        Path expectedSubtitlePath = null;
+        List<Path> subtitlePaths = new ArrayList<>();
+        trackJob(jobId);
         try {
-            // 1. 메타데이터 가져오기
+            if (isCancelled(jobId)) {
+                return CompletableFuture.failedFuture(new CancellationException("작업이 이미 취소되었습니다."));
+            }
             updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTING, "자막 추출을 시작합니다...");
-            String jsonOutput = ytDlpExecutor.executeAndGetJson(video.getVideoId());
-            JsonNode videoInfo = objectMapper.readTree(jsonOutput);
 
-            // 2. 언어 코드 결정
-            String langCode = findBestSubtitleLanguage(videoInfo);
-
-            // 3. 자막 다운로드
-            Path tempDir = fileManager.getTempDir();
-            expectedSubtitlePath = tempDir.resolve(video.getVideoId() + "." + langCode + ".srt");
-            if (Files.notExists(tempDir)) Files.createDirectories(tempDir);
-            String outputTemplate = tempDir.resolve("%(id)s.%(ext)s").toString();
-
-            ytDlpExecutor.executeAndSaveToFile(video.getVideoId(), langCode, outputTemplate);
-
-            // 4. 파일 읽고 정제하기
-            String rawSubtitle = fileManager.readFileContent(expectedSubtitlePath);
-            String cleanedText = subtitleProcessor.process(rawSubtitle);
-
-            // 5. 성공 처리
+            // 1. 메모리 경로: 메타데이터의 자막 URL을 스트리밍으로 받아 바로 정제 (파일 없음)
+            String cleanedText = null;
+            if (captionDownloader.isEnabled()) {
+                try {
+                    cleanedText = fetchWithoutFiles(jobId, video);
+                } catch (IOException | RuntimeException e) {
+                    if (e instanceof NoSubtitlesFoundException) throw e;
+                    logger.warn("[{}] 메모리 자막 경로 실패, 임시 파일 방식으로 재시도합니다: {}", jobId, e.getMessage());
+                }
+            }
+
+            // 2. 대체 경로: yt-dlp가 임시 파일로 쓴 SRT를 읽어 정제
+            if (cleanedText == null) {
+                cleanedText = fetchWithTempFiles(jobId, video, subtitlePaths);
+            }
+
+            // 3. 성공 처리
             updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED, cleanedText.substring(0, min(cleanedText.length(), 200)));
             return CompletableFuture.completedFuture(cleanedText);
 
@@ -67,19 +75,63 @@ public class YtDlpSubtitleService extends AbstractSubtitleService {
             handleFailure(jobId, "자막 처리 중 오류 발생: " + e.getMessage(), e);
             return CompletableFuture.failedFuture(new YoutubeApiException("yt-dlp 자막 처리 실패", e));
         } finally {
-            fileManager.deleteFile(expectedSubtitlePath);
+            untrackJob(jobId);
+            subtitlePaths.forEach(fileManager::deleteFile);
+        }
+    }
+
+    @Override
+    protected void onCancel(Thread worker) {
+        ytDlpExecutor.cancel(worker);
+    }
+
+    private String fetchWithoutFiles(String jobId, YoutubeVideo video) throws IOException, InterruptedException {
+        YtDlpMetadata videoInfo = ytDlpExecutor.fetchMetadata(video.getVideoId());
+        attachChapters(jobId, videoInfo.chapters());
+        String langCode = findBestSubtitleLanguage(videoInfo);
+        String captionUrl = videoInfo.captionUrl(langCode, "vtt");
+        if (captionUrl == null) {
+            throw new IOException("'" + langCode + "' 자막의 vtt 형식 URL을 찾을 수 없습니다.");
         }
+        return captionDownloader.stream(captionUrl, subtitleProcessor::processWebVtt);
+    }
+
+    private String fetchWithTempFiles(String jobId, YoutubeVideo video, List<Path> subtitlePaths) throws IOException, InterruptedException {
+        // 1. 메타데이터 가져오기 + 선호 언어 자막 다운로드 (yt-dlp 한 번 실행, 작업별 파일명으로 충돌 방지)
+        Path tempDir = fileManager.getTempDir();
+        if (Files.notExists(tempDir)) Files.createDirectories(tempDir);
+        String outputTemplate = tempDir.resolve(jobId + ".%(id)s.%(ext)s").toString();
+        PREFERRED_LANGUAGES.forEach(lang -> subtitlePaths.add(subtitlePath(tempDir, jobId, video, lang)));
+
+        YtDlpMetadata videoInfo = ytDlpExecutor.fetchMetadataWithSubtitles(video.getVideoId(), PREFERRED_LANGUAGES, outputTemplate);
+        attachChapters(jobId, videoInfo.chapters());
+
+        // 2. 언어 코드 결정
+        String langCode = findBestSubtitleLanguage(videoInfo);
+        Path expectedSubtitlePath = subtitlePath(tempDir, jobId, video, langCode);
+
+        // 3. 선호 언어가 없는 영상만 해당 언어 자막을 추가로 다운로드
+        if (!PREFERRED_LANGUAGES.contains(langCode)) {
+            subtitlePaths.add(expectedSubtitlePath);
+            ytDlpExecutor.executeAndSaveToFile(video.getVideoId(), langCode, outputTemplate);
+        }
+
+        // 4. 파일 읽고 정제하기
+        String rawSubtitle = fileManager.readFileContent(expectedSubtitlePath);
+        return subtitleProcessor.process(rawSubtitle);
+    }
+
+    private Path subtitlePath(Path tempDir, String jobId, YoutubeVideo video, String langCode) {
+        return tempDir.resolve(jobId + "." + video.getVideoId() + "." + langCode + ".srt");
     }
 
-    private String findBestSubtitleLanguage(JsonNode videoInfo) {
-        String targetLang = videoInfo.path("language").asText(null);
-        JsonNode automaticCaptions = videoInfo.path("automatic_captions");
-        if (automaticCaptions.isMissingNode() || automaticCaptions.isEmpty()) {
+    private String findBestSubtitleLanguage(YtDlpMetadata videoInfo) {
+        String targetLang = videoInfo.language();
+        if (videoInfo.automaticCaptions().isEmpty()) {
             throw new NoSubtitlesFoundException("이 영상에는 자동 생성된 자막이 없습니다.");
         }
 
-        List<String> availableLangs = new ArrayList<>();
-        automaticCaptions.fieldNames().forEachRemaining(availableLangs::add);
+        List<String> availableLangs = new ArrayList<>(videoInfo.automaticCaptions().keySet());
 
         if ("ko".equals(targetLang) && availableLangs.contains("ko")) {
             return "ko";
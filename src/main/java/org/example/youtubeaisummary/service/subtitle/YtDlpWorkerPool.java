@@ -0,0 +1,342 @@
+package org.example.youtubeaisummary.service.subtitle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * yt-dlp를 매번 새 프로세스로 띄우지 않고, 모듈을 미리 import 해 둔 상주 Python 워커(ytdlp/worker.py)에 요청을 보냅니다.
+ * 워커 수는 size로 제한되며, maxJobsPerWorker번 사용한 워커는 교체하고, 요청마다 watchdog 시간이 지나면 워커를 강제 종료합니다.
+ */
+@Component
+public class YtDlpWorkerPool {
+    private static final Logger logger = LoggerFactory.getLogger(YtDlpWorkerPool.class);
+
+    private static final String DRIVER_RESOURCE = "/ytdlp/worker.py";
+    private static final Duration PING_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String pythonPath;
+    private final String module;
+    private final int size;
+    private final int maxJobsPerWorker;
+    private final Duration requestTimeout;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Worker> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger live = new AtomicInteger();
+    private final Map<Thread, Worker> busy = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private Path driverScript;
+    private volatile boolean closed;
+
+    public YtDlpWorkerPool(ObjectMapper objectMapper,
+                           @Value("${app.ytdlp.pool.enabled:false}") boolean enabled,
+                           @Value("${app.ytdlp.pool.python:python3}") String pythonPath,
+                           @Value("${app.ytdlp.pool.module:yt_dlp}") String module,
+                           @Value("${app.ytdlp.pool.size:4}") int size,
+                           @Value("${app.ytdlp.pool.max-jobs-per-worker:50}") int maxJobsPerWorker,
+                           @Value("${app.ytdlp.pool.request-timeout:120s}") Duration requestTimeout,
+                           @Value("${app.ytdlp.pool.health-check-interval:30s}") Duration healthCheckInterval) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.pythonPath = pythonPath;
+        this.module = module;
+        this.size = size;
+        this.maxJobsPerWorker = maxJobsPerWorker;
+        this.requestTimeout = requestTimeout;
+        this.permits = new Semaphore(size, true);
+        if (!enabled) {
+            return;
+        }
+
+        this.driverScript = extractDriverScript();
+        this.scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "ytdlp-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkIdleWorkers, interval, interval, TimeUnit.MILLISECONDS);
+        // 첫 요청이 import 비용을 치르지 않도록 워커를 미리 띄워 둡니다.
+        for (int i = 0; i < size; i++) {
+            scheduler.execute(this::replenish);
+        }
+        logger.info("yt-dlp 워커 풀을 사용합니다. (size={}, maxJobsPerWorker={}, timeout={})", size, maxJobsPerWorker, requestTimeout);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * yt-dlp 인자(실행 파일 경로 제외)를 워커에서 실행하고 종료 코드와 전체 출력을 반환합니다.
+     */
+    public Result execute(List<String> args) throws IOException, InterruptedException {
+        Worker worker = acquire();
+        boolean reusable = false;
+        busy.put(Thread.currentThread(), worker);
+        try {
+            Result result = worker.run(args);
+            reusable = true;
+            return result;
+        } finally {
+            busy.remove(Thread.currentThread(), worker);
+            release(worker, reusable);
+        }
+    }
+
+    /**
+     * 지정한 스레드의 요청을 처리 중인 워커를 종료합니다. 워커는 반환 시 폐기되고 새 워커로 교체됩니다.
+     */
+    public void cancel(Thread caller) {
+        Worker worker = busy.get(caller);
+        if (worker != null) {
+            logger.info("yt-dlp 워커(pid={})의 요청을 취소합니다.", worker.pid());
+            worker.kill();
+        }
+    }
+
+    private Worker acquire() throws IOException, InterruptedException {
+        if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IOException("사용 가능한 yt-dlp 워커가 없습니다.");
+        }
+        try {
+            while (true) {
+                Worker worker = idle.pollFirst();
+                if (worker == null && reserveSlot()) {
+                    return spawnReserved();
+                }
+                if (worker == null) {
+                    // 자리는 모두 찼고 교체 워커가 뜨는 중이면 그 워커를 기다립니다.
+                    worker = idle.pollFirst(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (worker == null) {
+                    throw new IOException("사용 가능한 yt-dlp 워커가 없습니다.");
+                }
+                if (worker.isAlive()) {
+                    return worker;
+                }
+                discard(worker);
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(Worker worker, boolean reusable) {
+        try {
+            if (reusable && !closed && worker.isAlive() && worker.jobs < maxJobsPerWorker) {
+                // 최근에 쓴 워커부터 다시 쓰도록(LIFO) 앞쪽에 넣습니다.
+                idle.offerFirst(worker);
+            } else {
+                discard(worker);
+                if (!closed) scheduler.execute(this::replenish);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = live.get();
+            if (current >= size) return false;
+        } while (!live.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Worker spawnReserved() throws IOException {
+        try {
+            return new Worker();
+        } catch (IOException | RuntimeException e) {
+            live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void replenish() {
+        if (closed || !reserveSlot()) return;
+        try {
+            idle.offerLast(spawnReserved());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("yt-dlp 워커를 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void discard(Worker worker) {
+        live.decrementAndGet();
+        worker.destroy();
+    }
+
+    /**
+     * 쉬고 있는 워커에 ping을 보내 응답하지 않는 워커를 교체합니다.
+     */
+    private void checkIdleWorkers() {
+        for (int i = idle.size(); i > 0 && !closed; i--) {
+            Worker worker = idle.pollLast();
+            if (worker == null) return;
+            if (worker.ping()) {
+                idle.offerLast(worker);
+            } else {
+                logger.warn("응답하지 않는 yt-dlp 워커(pid={})를 교체합니다.", worker.pid());
+                discard(worker);
+                replenish();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+        closed = true;
+        scheduler.shutdownNow();
+        Worker worker;
+        while ((worker = idle.pollFirst()) != null) {
+            discard(worker);
+        }
+    }
+
+    private static Path extractDriverScript() {
+        try (InputStream in = YtDlpWorkerPool.class.getResourceAsStream(DRIVER_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("yt-dlp 워커 스크립트를 찾을 수 없습니다: " + DRIVER_RESOURCE);
+            }
+            Path script = Files.createTempFile("ytdlp-worker", ".py");
+            Files.copy(in, script, StandardCopyOption.REPLACE_EXISTING);
+            script.toFile().deleteOnExit();
+            return script;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Result(int exitCode, String output) {
+    }
+
+    private final class Worker {
+        private final Process process;
+        private final BufferedWriter writer;
+        private final BufferedReader reader;
+        private int jobs;
+
+        private Worker() throws IOException {
+            ProcessBuilder processBuilder = new ProcessBuilder(pythonPath, driverScript.toString(), module);
+            processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+            processBuilder.environment().put("PYTHONIOENCODING", "utf-8");
+            this.process = processBuilder.start();
+            this.writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            this.reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+
+            try {
+                if (!exchange(null, requestTimeout).path("ready").asBoolean()) {
+                    throw new IOException("yt-dlp 워커가 준비 신호를 보내지 않았습니다.");
+                }
+            } catch (IOException | RuntimeException e) {
+                destroy();
+                throw e;
+            }
+            logger.debug("yt-dlp 워커 시작 (pid={})", process.pid());
+        }
+
+        private Result run(List<String> args) throws IOException {
+            JsonNode reply = exchange(objectMapper.writeValueAsString(Map.of("args", args)), requestTimeout);
+            jobs++;
+            return new Result(reply.path("exit").asInt(1), reply.path("output").asText(""));
+        }
+
+        private boolean ping() {
+            try {
+                return exchange("{\"ping\":true}", PING_TIMEOUT).path("pong").asBoolean();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * 요청 한 줄을 보내고(없으면 생략) 응답 한 줄을 읽습니다. 제한 시간이 지나면 watchdog이 프로세스를 종료해 읽기를 끝냅니다.
+         */
+        private JsonNode exchange(String request, Duration timeout) throws IOException {
+            AtomicBoolean timedOut = new AtomicBoolean();
+            ScheduledFuture<?> watchdog = scheduler.schedule(() -> {
+                timedOut.set(true);
+                process.destroyForcibly();
+            }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                if (request != null) {
+                    writer.write(request);
+                    writer.newLine();
+                    writer.flush();
+                }
+                String line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("yt-dlp 워커가 응답 없이 종료되었습니다. (exit=" + process.waitFor() + ")");
+                }
+                return objectMapper.readTree(line);
+            } catch (IOException e) {
+                if (timedOut.get()) {
+                    throw new IOException("yt-dlp 작업 시간이 초과되었습니다: " + timeout, e);
+                }
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("yt-dlp 워커 종료 대기 중 인터럽트되었습니다.", e);
+            } finally {
+                watchdog.cancel(false);
+            }
+        }
+
+        private boolean isAlive() {
+            return process.isAlive();
+        }
+
+        private long pid() {
+            return process.pid();
+        }
+
+        private void kill() {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        }
+
+        private void destroy() {
+            kill();
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // 이미 종료된 프로세스의 파이프는 닫을 때 실패할 수 있습니다.
+            }
+        }
+    }
+}
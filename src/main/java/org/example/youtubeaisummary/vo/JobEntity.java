@@ -6,6 +6,7 @@ import org.example.youtubeaisummary.dto.JobStatusDto;
 @Entity
 @Table(name = "jobs")
 public class JobEntity {
+    public static final int MESSAGE_MAX_LENGTH = 1000;
 
     @Id
     @Column(length = 64) // 길이를 적절히 지정
@@ -15,19 +16,19 @@ public class JobEntity {
     @Column(length = 32)
     private JobStatusDto.JobStatus status;
 
-    @Lob // 매우 긴 텍스트를 저장하기 위해
-    @Column(columnDefinition = "LONGTEXT")
-    private String result;
+    // 진행/실패 메시지 (최종 요약은 JobResultEntity에 따로 저장해 상태 조회 행을 작게 유지합니다)
+    @Column(length = MESSAGE_MAX_LENGTH)
+    private String message;
 
     // JPA를 위한 기본 생성자
     protected JobEntity() {
     }
 
     // 값 초기화를 위한 생성자
-    public JobEntity(String jobId, JobStatusDto.JobStatus status, String result) {
+    public JobEntity(String jobId, JobStatusDto.JobStatus status, String message) {
         this.jobId = jobId;
         this.status = status;
-        this.result = result;
+        this.message = message;
     }
 
     // Getter
@@ -39,7 +40,7 @@ public class JobEntity {
         return status;
     }
 
-    public String getResult() {
-        return result;
+    public String getMessage() {
+        return message;
     }
 }
\ No newline at end of file
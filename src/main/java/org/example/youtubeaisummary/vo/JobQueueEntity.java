@@ -0,0 +1,63 @@
+package org.example.youtubeaisummary.vo;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 처리 대기/처리 중인 작업 (완료 또는 실패하면 행을 지웁니다)
+ * 서버는 leaseUntil이 지난 행을 가져가 leaseOwner로 표시하고, 처리하는 동안 leaseUntil을 주기적으로 연장합니다.
+ */
+@Entity
+@Table(name = "job_queue")
+public class JobQueueEntity {
+
+    @Id
+    @Column(length = 64)
+    private String jobId;
+
+    // 가져간 횟수 (서버가 죽어 임대가 만료된 뒤 다시 가져가면 증가)
+    private int attempts;
+
+    @Column(length = 64)
+    private String leaseOwner;
+
+    @Column(nullable = false)
+    private Instant leaseUntil;
+
+    // 체크포인트: 추출을 마친 자막 (gzip 압축, 다시 가져간 서버는 자막 추출을 건너뜀)
+    @Lob
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] transcript;
+
+    private Instant createdAt;
+
+    // JPA를 위한 기본 생성자
+    protected JobQueueEntity() {
+    }
+
+    // Getter
+    public String getJobId() {
+        return jobId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public byte[] getTranscript() {
+        return transcript;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
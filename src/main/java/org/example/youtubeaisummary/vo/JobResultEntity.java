@@ -0,0 +1,54 @@
+package org.example.youtubeaisummary.vo;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 완료된 작업의 최종 요약 (gzip 압축, 상태가 COMPLETED일 때만 읽음)
+ */
+@Entity
+@Table(name = "job_results")
+public class JobResultEntity {
+
+    @Id
+    @Column(length = 64)
+    private String jobId;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] content;
+
+    // 압축 전 UTF-8 바이트 수
+    private int originalLength;
+
+    private Instant createdAt;
+
+    // JPA를 위한 기본 생성자
+    protected JobResultEntity() {
+    }
+
+    public JobResultEntity(String jobId, byte[] content, int originalLength, Instant createdAt) {
+        this.jobId = jobId;
+        this.content = content;
+        this.originalLength = originalLength;
+        this.createdAt = createdAt;
+    }
+
+    // Getter
+    public String getJobId() {
+        return jobId;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public int getOriginalLength() {
+        return originalLength;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
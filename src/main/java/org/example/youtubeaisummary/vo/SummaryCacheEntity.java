@@ -0,0 +1,43 @@
+package org.example.youtubeaisummary.vo;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "summary_cache")
+public class SummaryCacheEntity {
+
+    @Id
+    @Column(length = 64) // SHA-256 hex
+    private String cacheKey;
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String summary;
+
+    private Instant createdAt;
+
+    // JPA를 위한 기본 생성자
+    protected SummaryCacheEntity() {
+    }
+
+    public SummaryCacheEntity(String cacheKey, String summary, Instant createdAt) {
+        this.cacheKey = cacheKey;
+        this.summary = summary;
+        this.createdAt = createdAt;
+    }
+
+    // Getter
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
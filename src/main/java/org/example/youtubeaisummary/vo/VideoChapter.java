@@ -0,0 +1,11 @@
+package org.example.youtubeaisummary.vo;
+
+/**
+ * 영상 챕터 하나 (yt-dlp 메타데이터의 chapters 항목)
+ *
+ * @param startTime 시작 시각(초)
+ * @param endTime   끝 시각(초)
+ * @param title     챕터 제목
+ */
+public record VideoChapter(double startTime, double endTime, String title) {
+}
@@ -0,0 +1,3 @@
+-- 진행/실패 메시지를 result와 분리해 저장합니다. (JobEntity.message)
+-- 운영 환경은 ddl-auto=validate이므로 배포 전에 직접 적용합니다.
+ALTER TABLE jobs ADD COLUMN message VARCHAR(1000);
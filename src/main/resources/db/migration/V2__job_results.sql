@@ -0,0 +1,8 @@
+-- 완료된 요약을 gzip으로 압축해 따로 저장합니다. (JobResultEntity)
+-- 적용 후 app.job.results-backfill.enabled=true로 배포하면 기존 jobs.result의 요약을 이 테이블로 옮깁니다.
+CREATE TABLE job_results (
+    job_id          VARCHAR(64) PRIMARY KEY,
+    content         LONGBLOB,
+    original_length INT NOT NULL,
+    created_at      DATETIME(6)
+);
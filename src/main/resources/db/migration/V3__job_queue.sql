@@ -0,0 +1,10 @@
+-- 서버 간 공유 작업 큐 (JobQueueEntity). 임대가 끝난 행을 lease_until로 찾습니다.
+CREATE TABLE job_queue (
+    job_id      VARCHAR(64) PRIMARY KEY,
+    attempts    INT NOT NULL,
+    lease_owner VARCHAR(64),
+    lease_until DATETIME(6) NOT NULL,
+    transcript  LONGBLOB,
+    created_at  DATETIME(6),
+    KEY idx_job_queue_lease_until (lease_until)
+);
@@ -0,0 +1,5 @@
+-- JobResultBackfill이 "요약 N건을 옮겼습니다" 로그를 남긴 뒤에만 적용합니다.
+-- 아래 쿼리 결과가 0인지 먼저 확인하세요. (옮기지 못한 요약 수)
+--   SELECT count(*) FROM jobs j LEFT JOIN job_results r ON r.job_id = j.job_id
+--   WHERE j.status = 'COMPLETED' AND j.result IS NOT NULL AND r.job_id IS NULL;
+ALTER TABLE jobs DROP COLUMN result;
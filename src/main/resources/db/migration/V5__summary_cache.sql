@@ -0,0 +1,7 @@
+-- 요약 캐시의 영구 계층 (SummaryCacheEntity). SummaryCache가 한도를 넘으면 created_at이 오래된 항목부터 지웁니다.
+CREATE TABLE summary_cache (
+    cache_key  VARCHAR(64) PRIMARY KEY,
+    summary    LONGTEXT NOT NULL,
+    created_at DATETIME(6),
+    KEY idx_summary_cache_created_at (created_at)
+);
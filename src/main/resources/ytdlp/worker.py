@@ -0,0 +1,65 @@
+"""
+yt-dlp 상주 워커: 모듈을 한 번만 import 해 두고, 표준 입력으로 받은 요청을 같은 프로세스에서 반복 실행합니다.
+
+프로토콜 (한 줄에 JSON 하나, UTF-8)
+  시작 시  -> {"ready": true, "pid": 1234}
+  요청     <- {"args": ["--dump-single-json", "..."]}   응답 -> {"exit": 0, "output": "..."}
+  상태 확인 <- {"ping": true}                           응답 -> {"pong": true}
+
+사용법: python3 worker.py [모듈 이름 또는 .py 경로]   (기본값: yt_dlp)
+"""
+import contextlib
+import importlib
+import importlib.util
+import io
+import json
+import os
+import sys
+
+
+def load(target):
+    if target.endswith(".py"):
+        spec = importlib.util.spec_from_file_location("extractor", target)
+        module = importlib.util.module_from_spec(spec)
+        spec.loader.exec_module(module)
+        return module
+    return importlib.import_module(target)
+
+
+def run(module, args):
+    output = io.StringIO()
+    exit_code = 0
+    with contextlib.redirect_stdout(output), contextlib.redirect_stderr(output):
+        try:
+            module.main(args)
+        except SystemExit as e:
+            exit_code = e.code if isinstance(e.code, int) else (0 if e.code is None else 1)
+        except Exception as e:
+            output.write("worker error: %r\n" % (e,))
+            exit_code = 1
+    return {"exit": exit_code, "output": output.getvalue()}
+
+
+def main():
+    # 응답 채널은 원래 stdout을 복제해 따로 쓰고, fd 1은 stderr로 돌려 하위 프로세스 출력이 프로토콜에 섞이지 않게 합니다.
+    protocol = os.fdopen(os.dup(1), "w", encoding="utf-8")
+    os.dup2(2, 1)
+    sys.stdin.reconfigure(encoding="utf-8")
+
+    module = load(sys.argv[1] if len(sys.argv) > 1 else "yt_dlp")
+
+    def reply(message):
+        protocol.write(json.dumps(message, ensure_ascii=False) + "\n")
+        protocol.flush()
+
+    reply({"ready": True, "pid": os.getpid()})
+    for line in sys.stdin:
+        request = json.loads(line)
+        if request.get("ping"):
+            reply({"pong": True})
+        else:
+            reply(run(module, request["args"]))
+
+
+if __name__ == "__main__":
+    main()
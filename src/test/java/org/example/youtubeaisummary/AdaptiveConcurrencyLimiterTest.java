@@ -0,0 +1,168 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.exception.ai.AiCapacityExceededException;
+import org.example.youtubeaisummary.service.ai.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueueSize) {
+        return new AdaptiveConcurrencyLimiter(meterRegistry, initialLimit, 1, 32, maxQueueSize, 5000, 2.0);
+    }
+
+    private void awaitQueued(AdaptiveConcurrencyLimiter limiter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getQueued() < count) {
+            assertTrue(System.nanoTime() < deadline, "대기자가 " + count + "명이 되지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 한도가 꽉 찬 상태에서 지연이 안정적이면 한도를 1/limit씩 늘리고, 여유가 있으면 늘리지 않는다")
+    void execute_IncreasesLimitAdditivelyWhenSaturated() {
+        // Arrange: 첫 성공은 지연 기준값(약 20ms)만 잡습니다.
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10);
+        limiter.execute("job", () -> {
+            sleep(20);
+            return "ok";
+        });
+
+        // Act
+        limiter.execute("job", () -> "ok");
+        double afterSaturated = limiter.getLimit();
+        limiter.execute("job", () -> "ok");
+
+        // Assert
+        assertEquals(2.0, afterSaturated, 1e-9);
+        assertEquals(2.0, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("성공: 429 응답이면 한도를 절반으로 줄인다")
+    void execute_HalvesLimitOnRateLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 10);
+
+        // Act
+        assertThrows(HttpClientErrorException.class, () -> limiter.execute("job", () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+
+        // Assert
+        assertEquals(4.0, limiter.getLimit(), 1e-9);
+        assertEquals(1.0, meterRegistry.counter("openai.limiter.throttled").count());
+    }
+
+    @Test
+    @DisplayName("성공: 지연 시간이 기준의 허용 배수를 넘으면 한도를 10% 줄인다")
+    void execute_ShrinksLimitOnLatencySpike() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 10);
+        limiter.execute("job", () -> "fast");
+
+        // Act
+        limiter.execute("job", () -> {
+            sleep(50);
+            return "slow";
+        });
+
+        // Assert
+        assertEquals(7.2, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("성공: 응답 시간 초과로 실패하면 한도를 10% 줄이고, 그 밖의 실패는 한도를 바꾸지 않는다")
+    void execute_ShrinksLimitOnTimeout() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 10);
+
+        // Act
+        assertThrows(ResourceAccessException.class, () -> limiter.execute("job", () -> {
+            throw new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+        }));
+        double afterTimeout = limiter.getLimit();
+        assertThrows(IllegalStateException.class, () -> limiter.execute("job", () -> {
+            throw new IllegalStateException("응답 파싱 실패");
+        }));
+
+        // Assert
+        assertEquals(7.2, afterTimeout, 1e-9);
+        assertEquals(7.2, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("예외: 대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void execute_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange: 슬롯 하나를 잡아 두고 대기자 한 명으로 대기열을 채웁니다.
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        AdaptiveConcurrencyLimiter.Slot held = limiter.tryAcquire();
+        Future<String> waiting = executor.submit(() -> limiter.execute("job-a", () -> "queued"));
+        awaitQueued(limiter, 1);
+
+        // Act
+        assertThrows(AiCapacityExceededException.class, () -> limiter.execute("job-b", () -> "rejected"));
+        held.release();
+
+        // Assert
+        assertEquals("queued", waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.counter("openai.limiter.rejected").count());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    @DisplayName("예외: 호출이 예외를 던져도 슬롯을 반납해 다음 호출이 바로 들어간다")
+    void execute_ReleasesSlotOnException() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> limiter.execute("job", () -> {
+            throw new IllegalStateException("호출 실패");
+        }));
+
+        // Assert
+        assertEquals(0, limiter.getInFlight());
+        AdaptiveConcurrencyLimiter.Slot next = limiter.tryAcquire();
+        assertNotNull(next);
+        next.release();
+        next.release();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
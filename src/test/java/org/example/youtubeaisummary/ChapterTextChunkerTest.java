@@ -0,0 +1,102 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.ChapterTextChunker;
+import org.example.youtubeaisummary.service.ai.ChapterTextChunker.Section;
+import org.example.youtubeaisummary.service.ai.SentenceTextChunker;
+import org.example.youtubeaisummary.vo.VideoChapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChapterTextChunkerTest {
+
+    private static final String SENTENCE = "가상 스레드는 블로킹 I/O 동안 캐리어 스레드를 양보하기 때문에 수천 개를 동시에 띄워도 부담이 적습니다.";
+
+    private TokenCountEstimator tokenCountEstimator;
+    private ChapterTextChunker chunker;
+
+    @BeforeEach
+    void setUp() {
+        tokenCountEstimator = new JTokkitTokenCountEstimator();
+        chunker = new ChapterTextChunker(new SentenceTextChunker(tokenCountEstimator), tokenCountEstimator, 300);
+    }
+
+    @Test
+    @DisplayName("성공: 문장을 시작 시각이 속한 챕터로 묶고 챕터 제목을 붙인다")
+    void chunk_GroupsSentencesByChapter() {
+        // Arrange
+        String transcript = transcript(0, 600, 10);
+        List<VideoChapter> chapters = List.of(
+                new VideoChapter(300, 600, "두 번째"),
+                new VideoChapter(0, 300, "첫 번째"));
+
+        // Act
+        List<Section> sections = chunker.chunk(transcript, chapters, 5000);
+
+        // Assert
+        assertEquals(List.of("첫 번째", "두 번째"), sections.stream().map(Section::title).toList());
+        assertTrue(sections.get(0).text().lines().allMatch(line -> line.compareTo("00:05:00") < 0));
+        assertTrue(sections.get(1).text().startsWith("00:05:00,000:"));
+        assertEquals(transcript, sections.stream().map(Section::text).collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    @DisplayName("성공: 최소 토큰보다 작은 챕터는 이웃 챕터와 합친다")
+    void chunk_MergesTinyChapters() {
+        // Arrange
+        String transcript = transcript(0, 600, 10);
+        List<VideoChapter> chapters = List.of(
+                new VideoChapter(0, 20, "인트로"),
+                new VideoChapter(20, 300, "본론"),
+                new VideoChapter(300, 600, "결론"));
+
+        // Act
+        List<Section> sections = chunker.chunk(transcript, chapters, 5000);
+
+        // Assert
+        assertEquals(List.of("인트로 / 본론", "결론"), sections.stream().map(Section::title).toList());
+    }
+
+    @Test
+    @DisplayName("성공: 토큰 예산을 넘는 챕터는 문장 경계에서 나누고 번호를 붙인다")
+    void chunk_SplitsLongChapter() {
+        // Arrange
+        String transcript = transcript(0, 1200, 5);
+        List<VideoChapter> chapters = List.of(
+                new VideoChapter(0, 1100, "긴 챕터"),
+                new VideoChapter(1100, 1200, "짧은 마무리"));
+
+        // Act
+        List<Section> sections = chunker.chunk(transcript, chapters, 2000);
+
+        // Assert
+        assertTrue(sections.size() > 2);
+        assertTrue(sections.getFirst().title().startsWith("긴 챕터 (1/"));
+        for (Section section : sections) {
+            assertTrue(tokenCountEstimator.estimate(section.text()) <= 2000 + section.text().lines().count());
+        }
+        assertEquals(transcript, sections.stream().map(Section::text).collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    @DisplayName("성공: 챕터가 없으면 빈 목록을 반환한다")
+    void chunk_ReturnsEmptyWithoutChapters() {
+        assertTrue(chunker.chunk(transcript(0, 60, 10), List.of(), 5000).isEmpty());
+    }
+
+    private static String transcript(int fromSeconds, int toSeconds, int stepSeconds) {
+        StringBuilder builder = new StringBuilder();
+        for (int seconds = fromSeconds; seconds < toSeconds; seconds += stepSeconds) {
+            if (!builder.isEmpty()) builder.append('\n');
+            builder.append(String.format("%02d:%02d:%02d,000:", seconds / 3600, seconds / 60 % 60, seconds % 60)).append(SENTENCE);
+        }
+        return builder.toString();
+    }
+}
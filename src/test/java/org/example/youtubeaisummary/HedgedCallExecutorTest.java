@@ -0,0 +1,259 @@
+package org.example.youtubeaisummary;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.service.ai.HedgedCallExecutor;
+import org.example.youtubeaisummary.service.ai.OpenAiTransport;
+import org.example.youtubeaisummary.service.ai.PromptManager.PromptType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 OpenAI 엔드포인트(느린 응답/오류 주입)를 상대로 헤지 호출을 검증합니다.
+ */
+class HedgedCallExecutorTest {
+
+    private static final long SLOW_MS = 1500;
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<OpenAiTransport> transports = new ArrayList<>();
+    private ExecutorService hedgeExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        hedgeExecutor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transports.forEach(OpenAiTransport::shutdown);
+        servers.forEach(server -> server.stop(0));
+        hedgeExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공: 원 요청이 임계값을 넘기면 복제 요청의 빠른 응답을 사용한다")
+    void execute_HedgeWinsOverSlowPrimary() {
+        // Arrange: 첫 요청만 느린 스텁
+        AtomicInteger requests = new AtomicInteger();
+        String baseUrl = startStub(requests, n -> n == 1 ? new StubReply(SLOW_MS, 200, "slow") : new StubReply(0, 200, "fast"));
+        OpenAiTransport transport = transport(baseUrl, "");
+        HedgedCallExecutor hedged = hedgedExecutor(5);
+
+        // Act
+        long start = System.nanoTime();
+        String result = hedged.execute(PromptType.PARTIAL_SUMMARY,
+                () -> ask(transport.client(PromptType.PARTIAL_SUMMARY)),
+                () -> HedgedCallExecutor.HedgeCall.of(() -> ask(transport.hedgeClient(PromptType.PARTIAL_SUMMARY))));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertEquals("fast", result);
+        assertEquals(2, requests.get());
+        assertTrue(elapsedMillis < SLOW_MS, "헤지 응답을 기다리지 않았습니다: " + elapsedMillis + "ms");
+        assertEquals(1.0, meterRegistry.get("openai.hedge.wins").tag("winner", "hedge").counter().count());
+    }
+
+    @Test
+    @DisplayName("성공: 추가 요청 예산이 없으면 헤지하지 않고 원 요청을 기다린다")
+    void execute_SkipsHedgeWhenBudgetExhausted() {
+        // Arrange
+        AtomicInteger requests = new AtomicInteger();
+        String baseUrl = startStub(requests, n -> new StubReply(SLOW_MS, 200, "slow"));
+        OpenAiTransport transport = transport(baseUrl, "");
+        HedgedCallExecutor hedged = hedgedExecutor(0);
+
+        // Act
+        String result = hedged.execute(PromptType.PARTIAL_SUMMARY,
+                () -> ask(transport.client(PromptType.PARTIAL_SUMMARY)),
+                () -> HedgedCallExecutor.HedgeCall.of(() -> ask(transport.hedgeClient(PromptType.PARTIAL_SUMMARY))));
+
+        // Assert
+        assertEquals("slow", result);
+        assertEquals(1, requests.get());
+        assertEquals(1.0, meterRegistry.get("openai.hedge.skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("성공: 헤지에 쓸 동시성 슬롯이나 TPM 예산이 없으면 헤지하지 않고 추가 요청 예산도 쓰지 않는다")
+    void execute_SkipsHedgeWithoutCapacity() {
+        // Arrange
+        AtomicInteger requests = new AtomicInteger();
+        String baseUrl = startStub(requests, n -> new StubReply(SLOW_MS, 200, "slow"));
+        OpenAiTransport transport = transport(baseUrl, "");
+        HedgedCallExecutor hedged = hedgedExecutor(1);
+
+        // Act
+        String first = hedged.execute(PromptType.PARTIAL_SUMMARY,
+                () -> ask(transport.client(PromptType.PARTIAL_SUMMARY)), () -> null);
+        // 돌려받은 추가 요청 예산(max-burst 1)으로 다음 느린 호출은 헤지할 수 있어야 합니다.
+        String second = hedged.execute(PromptType.PARTIAL_SUMMARY,
+                () -> ask(transport.client(PromptType.PARTIAL_SUMMARY)),
+                () -> HedgedCallExecutor.HedgeCall.of(() -> "hedge"));
+
+        // Assert
+        assertEquals("slow", first);
+        assertEquals("hedge", second);
+        assertEquals(2, requests.get());
+        assertEquals(1.0, meterRegistry.get("openai.hedge.skipped").tag("reason", "capacity").counter().count());
+    }
+
+    @Test
+    @DisplayName("성공: 헤지가 이기든 지든 헤지가 확보한 자원은 한 번만 돌려준다")
+    void execute_ReleasesHedgeResourcesOnce() {
+        // Arrange
+        HedgedCallExecutor hedged = hedgedExecutor(5);
+        AtomicInteger closes = new AtomicInteger();
+        HedgedCallExecutor.HedgeCall<String> hedgeCall = new HedgedCallExecutor.HedgeCall<>() {
+            private final AtomicBoolean closed = new AtomicBoolean();
+
+            @Override
+            public String get() {
+                return "hedge";
+            }
+
+            @Override
+            public void close() {
+                if (closed.compareAndSet(false, true)) {
+                    closes.incrementAndGet();
+                }
+            }
+        };
+
+        // Act
+        String result = hedged.execute(PromptType.PARTIAL_SUMMARY, () -> {
+            try {
+                Thread.sleep(SLOW_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "primary";
+        }, () -> hedgeCall);
+
+        // Assert
+        assertEquals("hedge", result);
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    @DisplayName("성공: 원 엔드포인트가 실패하면 보조 엔드포인트로 즉시 대체한다")
+    void execute_FailsOverToSecondaryEndpoint() {
+        // Arrange: 기본 엔드포인트는 항상 500, 보조 엔드포인트는 정상
+        AtomicInteger primaryRequests = new AtomicInteger();
+        AtomicInteger secondaryRequests = new AtomicInteger();
+        String primaryUrl = startStub(primaryRequests, n -> new StubReply(0, 500, "overloaded"));
+        String secondaryUrl = startStub(secondaryRequests, n -> new StubReply(0, 200, "secondary"));
+        OpenAiTransport transport = transport(primaryUrl, secondaryUrl);
+        HedgedCallExecutor hedged = hedgedExecutor(5);
+
+        // Act
+        String result = hedged.execute(PromptType.PARTIAL_SUMMARY,
+                () -> ask(transport.client(PromptType.PARTIAL_SUMMARY)),
+                () -> HedgedCallExecutor.HedgeCall.of(() -> ask(transport.hedgeClient(PromptType.PARTIAL_SUMMARY))));
+
+        // Assert
+        assertEquals("secondary", result);
+        assertEquals(1, primaryRequests.get());
+        assertEquals(1, secondaryRequests.get());
+        assertEquals(1.0, meterRegistry.get("openai.hedge.launched").tag("reason", "failover").counter().count());
+    }
+
+    @Test
+    @DisplayName("성공: 헤지 대상이 아닌 유형은 원 요청만 실행한다")
+    void execute_NonHedgedTypeRunsPrimaryOnly() {
+        HedgedCallExecutor hedged = hedgedExecutor(5);
+
+        String result = hedged.execute(PromptType.FINAL_FROM_SUMMARIES, () -> "primary", () -> fail("헤지되면 안 됩니다."));
+
+        assertEquals("primary", result);
+    }
+
+    private HedgedCallExecutor hedgedExecutor(double maxBurst) {
+        return new HedgedCallExecutor(meterRegistry, hedgeExecutor, true, Set.of(PromptType.PARTIAL_SUMMARY),
+                0.95, 20, 200, Duration.ofMillis(300), Duration.ofMillis(100), 0.1, maxBurst);
+    }
+
+    private OpenAiTransport transport(String baseUrl, String secondaryBaseUrl) {
+        OpenAiTransport transport = new OpenAiTransport(meterRegistry, "test-key", baseUrl, "gpt-4o-mini", "system",
+                10, Duration.ofSeconds(5), Duration.ofSeconds(60), Duration.ofSeconds(2),
+                Duration.ofSeconds(10), Duration.ofSeconds(10), secondaryBaseUrl, "", "");
+        transports.add(transport);
+        return transport;
+    }
+
+    private static String ask(ChatClient client) {
+        return client.prompt().user("chunk").call().content();
+    }
+
+    /**
+     * n번째 요청(1부터)마다 지정된 지연/상태/내용으로 응답하는 OpenAI Chat Completions 스텁을 띄웁니다.
+     */
+    private String startStub(AtomicInteger requests, IntFunction<StubReply> replies) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v1/chat/completions", exchange -> {
+                try (exchange) {
+                    exchange.getRequestBody().readAllBytes();
+                    StubReply reply = replies.apply(requests.incrementAndGet());
+                    Thread.sleep(reply.delayMillis());
+                    byte[] body = (reply.status() == 200 ? completion(reply.content()) : error(reply.content()))
+                            .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(reply.status(), body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException ignored) {
+                    // 취소된(패자) 요청은 연결이 먼저 끊길 수 있습니다.
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            servers.add(server);
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String completion(String content) {
+        return """
+                {"id":"chatcmpl-stub","object":"chat.completion","created":1700000000,"model":"gpt-4o-mini",
+                 "choices":[{"index":0,"message":{"role":"assistant","content":"%s"},"finish_reason":"stop"}],
+                 "usage":{"prompt_tokens":10,"completion_tokens":5,"total_tokens":15}}
+                """.formatted(content);
+    }
+
+    private static String error(String message) {
+        return """
+                {"error":{"message":"%s","type":"server_error"}}
+                """.formatted(message);
+    }
+
+    private record StubReply(long delayMillis, int status, String content) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.HierarchicalReducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HierarchicalReducerTest {
+
+    private static final int FAN_IN = 4;
+
+    private TokenCountEstimator tokenCountEstimator;
+    private List<String> mergeInputs;
+
+    @BeforeEach
+    void setUp() {
+        // 글자 수를 토큰 수로 셉니다.
+        tokenCountEstimator = mock(TokenCountEstimator.class);
+        when(tokenCountEstimator.estimate(anyString())).thenAnswer(invocation -> ((String) invocation.getArgument(0)).length());
+        mergeInputs = new ArrayList<>();
+    }
+
+    /**
+     * 병합 결과를 "[입력1,입력2,...]"로 표시해, 결과의 중첩 깊이가 병합 단계 수가 되게 합니다.
+     */
+    private HierarchicalReducer reducer(int maxReduceTokens) {
+        return new HierarchicalReducer("job", FAN_IN, maxReduceTokens, tokenCountEstimator, input -> {
+            mergeInputs.add(input);
+            return CompletableFuture.completedFuture("[" + input.replace("\n\n", ",") + "]");
+        });
+    }
+
+    private static List<String> summaries(int count) {
+        List<String> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            summaries.add("summary-%02d".formatted(i));
+        }
+        return summaries;
+    }
+
+    private static List<String> leaves(List<String> reduced) {
+        List<String> leaves = new ArrayList<>();
+        Matcher matcher = Pattern.compile("summary-\\d+").matcher(String.join(",", reduced));
+        while (matcher.find()) {
+            leaves.add(matcher.group());
+        }
+        return leaves;
+    }
+
+    @Test
+    @DisplayName("성공: 요약이 하나뿐이거나 이미 한 번에 들어가면 병합하지 않는다")
+    void reduce_SkipsWhenAlreadyFits() {
+        // Act
+        List<String> single = reducer(10).reduce(List.of("요약 하나만 있어도 예산을 넘는 긴 요약"));
+        List<String> fitting = reducer(100_000).reduce(summaries(FAN_IN));
+
+        // Assert
+        assertEquals(List.of("요약 하나만 있어도 예산을 넘는 긴 요약"), single);
+        assertEquals(summaries(FAN_IN), fitting);
+        assertTrue(mergeInputs.isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 팬인만 넘는 경우 단계 수는 log(요약 수)이고 원문 순서를 유지한다")
+    void reduce_MergesByFanInLevels() {
+        // Act: 16개 -> 4개 (1단계)
+        List<String> sixteen = reducer(100_000).reduce(summaries(16));
+        int sixteenMerges = mergeInputs.size();
+        mergeInputs.clear();
+
+        // Act: 64개 -> 16개 -> 4개 (2단계)
+        List<String> sixtyFour = reducer(100_000).reduce(summaries(64));
+        int sixtyFourMerges = mergeInputs.size();
+        mergeInputs.clear();
+
+        // Act: 17개 -> 4개 + 1개 -> 1개 + 1개 (남은 하나는 꽉 찬 그룹에 붙이지 않고 넘김)
+        List<String> seventeen = reducer(100_000).reduce(summaries(17));
+
+        // Assert
+        assertEquals(4, sixteen.size());
+        assertEquals("[summary-00,summary-01,summary-02,summary-03]", sixteen.getFirst());
+        assertEquals(4, sixteenMerges);
+
+        assertEquals(4, sixtyFour.size());
+        assertTrue(sixtyFour.getFirst().startsWith("[[summary-00,summary-01,summary-02,summary-03],[summary-04"));
+        assertEquals(20, sixtyFourMerges);
+        assertEquals(summaries(64), leaves(sixtyFour));
+
+        assertEquals(2, seventeen.size());
+        assertEquals("summary-16", seventeen.getLast());
+        assertEquals(5, mergeInputs.size());
+        mergeInputs.forEach(input -> assertTrue(input.split("\n\n").length <= FAN_IN, "팬인을 넘는 병합: " + input));
+    }
+
+    @Test
+    @DisplayName("성공: 토큰 예산을 넘지 않도록 팬인보다 작은 그룹으로 나누어 병합한다")
+    void reduce_GroupsWithinTokenBudget() {
+        // Arrange: 요약 하나가 10토큰이고 한 번에 25토큰까지 들어갑니다.
+        HierarchicalReducer reducer = reducer(25);
+
+        // Act
+        List<String> reduced = reducer.reduce(summaries(6));
+
+        // Assert: 1단계는 2개씩, 이후에는 예산을 넘는 결과끼리 2개씩 묶습니다.
+        assertEquals(List.of(
+                "summary-00\n\nsummary-01",
+                "summary-02\n\nsummary-03",
+                "summary-04\n\nsummary-05",
+                "[summary-00,summary-01]\n\n[summary-02,summary-03]",
+                "[[summary-00,summary-01],[summary-02,summary-03]]\n\n[summary-04,summary-05]"), mergeInputs);
+        assertEquals(List.of("[[[summary-00,summary-01],[summary-02,summary-03]],[summary-04,summary-05]]"), reduced);
+    }
+}
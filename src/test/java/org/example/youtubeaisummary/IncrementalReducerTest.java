@@ -0,0 +1,131 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.IncrementalReducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalReducerTest {
+
+    private static final int FAN_IN = 4;
+    // 8개 청크 중 3번째 청크만 느린 상황 (재시도 등)
+    private static final long[] CHUNK_LATENCIES_MS = {100, 100, 600, 100, 100, 100, 100, 100};
+    private static final long MERGE_LATENCY_PER_INPUT_MS = 100;
+
+    private ExecutorService stubExecutor;
+
+    @BeforeEach
+    void setUp() {
+        stubExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공: 병합 결과는 팬인 이하이며 원문 순서를 유지한다")
+    void reduce_PreservesOrder() {
+        // Arrange
+        IncrementalReducer reducer = new IncrementalReducer(FAN_IN, 100_000, new JTokkitTokenCountEstimator(), this::stubMerge);
+
+        // Act
+        List<String> reduced = reducer.reduce(stubPartials()).join();
+
+        // Assert
+        assertTrue(reduced.size() <= FAN_IN);
+        List<Integer> order = new ArrayList<>();
+        Matcher matcher = Pattern.compile("P(\\d+)").matcher(String.join("\n\n", reduced));
+        while (matcher.find()) {
+            order.add(Integer.parseInt(matcher.group(1)));
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), order);
+    }
+
+    @Test
+    @DisplayName("성공: 부분 요약이 없으면 빈 목록을 반환한다")
+    void reduce_EmptyInput() {
+        IncrementalReducer reducer = new IncrementalReducer(FAN_IN, 100_000, new JTokkitTokenCountEstimator(), this::stubMerge);
+
+        assertEquals(List.of(), reducer.reduce(List.of()).join());
+    }
+
+    /**
+     * 느린 청크 하나만 남았을 때 나머지는 이미 팬인 이하로 병합되어 있어, 느린 청크가 끝난 뒤에는 병합 없이 바로 결과가 나오는지 확인합니다.
+     * (전체 대기 후 병합은 이 시점에서야 병합을 시작합니다.)
+     */
+    @Test
+    @DisplayName("성공: 느린 청크를 기다리는 동안 나머지를 미리 병합해, 느린 청크가 끝난 뒤에는 병합하지 않는다")
+    void reduce_MergesBeforeSlowChunkCompletes() {
+        // Arrange: 병합은 즉시 끝나고, 청크 완료 시점은 테스트가 정합니다.
+        List<String> mergeInputs = new ArrayList<>();
+        IncrementalReducer reducer = new IncrementalReducer(FAN_IN, 100_000, new JTokkitTokenCountEstimator(), summaries -> {
+            mergeInputs.add(summaries);
+            return CompletableFuture.completedFuture(summaries.replace("\n\n", " | "));
+        });
+        List<CompletableFuture<String>> partials = new ArrayList<>();
+        for (int i = 0; i < CHUNK_LATENCIES_MS.length; i++) {
+            partials.add(new CompletableFuture<>());
+        }
+        CompletableFuture<List<String>> reduced = reducer.reduce(partials);
+
+        // Act: 3번째 청크(P2)만 남기고 순서대로 완료합니다.
+        for (int i = 0; i < partials.size(); i++) {
+            if (i != 2) {
+                partials.get(i).complete("### P" + i);
+            }
+        }
+        List<String> mergedBeforeSlowChunk = List.copyOf(mergeInputs);
+        boolean doneBeforeSlowChunk = reduced.isDone();
+        partials.get(2).complete("### P2");
+
+        // Assert
+        assertFalse(doneBeforeSlowChunk);
+        assertEquals(List.of("### P0\n\n### P1", "### P3\n\n### P4", "### P3 | ### P4\n\n### P5", "### P3 | ### P4 | ### P5\n\n### P6"),
+                mergedBeforeSlowChunk);
+        assertEquals(mergedBeforeSlowChunk, mergeInputs);
+        assertEquals(List.of("### P0 | ### P1", "### P2", "### P3 | ### P4 | ### P5 | ### P6", "### P7"), reduced.join());
+    }
+
+    private List<CompletableFuture<String>> stubPartials() {
+        List<CompletableFuture<String>> partials = new ArrayList<>();
+        for (int i = 0; i < CHUNK_LATENCIES_MS.length; i++) {
+            int index = i;
+            partials.add(CompletableFuture.supplyAsync(() -> {
+                sleep(CHUNK_LATENCIES_MS[index]);
+                return "### P" + index;
+            }, stubExecutor));
+        }
+        return partials;
+    }
+
+    // 입력 요약 개수에 비례하는 지연을 주는 병합 스텁
+    private CompletableFuture<String> stubMerge(String summaries) {
+        int inputs = summaries.split("\n\n").length;
+        return CompletableFuture.supplyAsync(() -> {
+            sleep(MERGE_LATENCY_PER_INPUT_MS * inputs);
+            return summaries.replace("\n\n", " | ");
+        }, stubExecutor);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
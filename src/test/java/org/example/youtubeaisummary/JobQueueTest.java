@@ -0,0 +1,231 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.repository.JobQueue;
+import org.example.youtubeaisummary.repository.JobQueue.ClaimedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2(MySQL 호환 모드)에 job_queue 테이블을 만들고, 서버 두 대를 JobQueue 두 개로 흉내 내 임대 동작을 검증합니다.
+ */
+class JobQueueTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:jobqueue;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE job_queue (job_id VARCHAR(64) PRIMARY KEY, attempts INT NOT NULL, lease_owner VARCHAR(64), "
+                + "lease_until TIMESTAMP NOT NULL, transcript LONGBLOB, created_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE job_queue");
+    }
+
+    private JobQueue newQueue(Duration leaseDuration) {
+        return new JobQueue(jdbcTemplate, transactionTemplate, leaseDuration);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 작업을 여러 번 등록해도 큐에는 하나만 남는다")
+    void enqueue_IsIdempotent() {
+        // Arrange
+        JobQueue queue = newQueue(Duration.ofSeconds(30));
+
+        // Act
+        queue.enqueue("job");
+        queue.enqueue("job");
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM job_queue", Integer.class));
+        assertEquals(List.of(new ClaimedJob("job", 1, null)), queue.claim(10));
+    }
+
+    @Test
+    @DisplayName("성공: 한 서버가 임대한 작업은 다른 서버가 가져가지 않는다")
+    void claim_DoesNotHandOutLeasedJobs() {
+        // Arrange
+        JobQueue nodeA = newQueue(Duration.ofSeconds(30));
+        JobQueue nodeB = newQueue(Duration.ofSeconds(30));
+        for (int i = 0; i < 5; i++) {
+            nodeA.enqueue("job-" + i);
+        }
+
+        // Act
+        List<ClaimedJob> claimedByA = nodeA.claim(3);
+        List<ClaimedJob> claimedByB = nodeB.claim(10);
+
+        // Assert
+        assertEquals(3, claimedByA.size());
+        assertEquals(2, claimedByB.size());
+        Set<String> jobIds = new HashSet<>();
+        claimedByA.forEach(job -> jobIds.add(job.jobId()));
+        claimedByB.forEach(job -> jobIds.add(job.jobId()));
+        assertEquals(5, jobIds.size());
+        assertTrue(nodeB.claim(10).isEmpty());
+        assertEquals(3, nodeA.leasedCount());
+    }
+
+    @Test
+    @DisplayName("성공: 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰고 나머지를 가져간다")
+    void claim_SkipsRowsLockedByOpenTransaction() throws Exception {
+        // Arrange
+        JobQueue nodeA = newQueue(Duration.ofSeconds(30));
+        JobQueue nodeB = newQueue(Duration.ofSeconds(30));
+        for (int i = 0; i < 5; i++) {
+            nodeA.enqueue("job-" + i);
+        }
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // 노드 A: 두 행을 FOR UPDATE로 잠근 채 트랜잭션을 열어 둡니다.
+            Future<List<String>> lockedByA = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<String> jobIds = jdbcTemplate.queryForList(
+                        "SELECT job_id FROM job_queue WHERE job_id IN ('job-0', 'job-1') FOR UPDATE", String.class);
+                locked.countDown();
+                try {
+                    finish.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return jobIds;
+            }));
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            // Act: 노드 B가 A의 트랜잭션이 열려 있는 동안 가져갑니다.
+            Future<List<ClaimedJob>> claimedByB = executor.submit(() -> nodeB.claim(10));
+            List<ClaimedJob> claimed = claimedByB.get(5, TimeUnit.SECONDS);
+            finish.countDown();
+
+            // Assert
+            assertEquals(2, lockedByA.get(5, TimeUnit.SECONDS).size());
+            assertEquals(Set.of("job-2", "job-3", "job-4"), Set.copyOf(claimed.stream().map(ClaimedJob::jobId).toList()));
+            assertEquals(2, nodeA.claim(10).size());
+        } finally {
+            finish.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 연장되지 않아 임대가 만료된 작업은 다른 서버가 체크포인트와 함께 다시 가져간다")
+    void claim_RecoversExpiredLeaseWithCheckpoint() throws InterruptedException {
+        // Arrange
+        JobQueue crashed = newQueue(Duration.ofMillis(50));
+        JobQueue survivor = newQueue(Duration.ofSeconds(30));
+        crashed.enqueue("job");
+        crashed.claim(1);
+        crashed.checkpointTranscript("job", "추출한 자막");
+        Thread.sleep(100);
+
+        // Act
+        List<ClaimedJob> recovered = survivor.claim(1);
+
+        // Assert
+        assertEquals(List.of(new ClaimedJob("job", 2, "추출한 자막")), recovered);
+        assertEquals(survivor.getOwner(), jdbcTemplate.queryForObject("SELECT lease_owner FROM job_queue WHERE job_id = 'job'", String.class));
+    }
+
+    @Test
+    @DisplayName("성공: 하트비트로 연장한 임대는 처음 임대 시간이 지나도 유지된다")
+    void renewLeases_KeepsLeaseAlive() throws InterruptedException {
+        // Arrange
+        JobQueue nodeA = newQueue(Duration.ofMillis(500));
+        JobQueue nodeB = newQueue(Duration.ofSeconds(30));
+        nodeA.enqueue("job");
+        nodeA.claim(1);
+        Thread.sleep(300);
+
+        // Act
+        nodeA.renewLeases(Duration.ofHours(1));
+        Thread.sleep(300);
+
+        // Assert
+        assertTrue(nodeB.claim(1).isEmpty());
+        assertEquals(1, nodeA.leasedCount());
+    }
+
+    @Test
+    @DisplayName("성공: 최대 실행 시간을 넘긴 작업과 다른 서버로 넘어간 작업은 더 이상 연장하지 않는다")
+    void renewLeases_DropsStuckAndLostJobs() throws InterruptedException {
+        // Arrange
+        JobQueue nodeA = newQueue(Duration.ofMillis(50));
+        JobQueue nodeB = newQueue(Duration.ofSeconds(30));
+        nodeA.enqueue("stuck");
+        nodeA.enqueue("lost");
+        nodeA.claim(2);
+        Thread.sleep(100);
+        jdbcTemplate.update("UPDATE job_queue SET lease_owner = ? WHERE job_id = 'lost'", nodeB.getOwner());
+
+        // Act
+        List<String> overrunFirst = nodeA.renewLeases(Duration.ofHours(1));
+        int afterLost = nodeA.leasedCount();
+        List<String> overrunSecond = nodeA.renewLeases(Duration.ZERO);
+
+        // Assert: 다른 서버로 넘어간 작업은 조용히 빠지고, 최대 실행 시간을 넘긴 작업만 호출자에게 돌려줍니다.
+        assertEquals(List.of(), overrunFirst);
+        assertEquals(1, afterLost);
+        assertEquals(List.of("stuck"), overrunSecond);
+        assertEquals(0, nodeA.leasedCount());
+    }
+
+    @Test
+    @DisplayName("성공: 처리를 시작하지 못해 반납한 작업은 시도 횟수를 늘리지 않고 바로 다시 가져갈 수 있다")
+    void abandon_MakesJobClaimableAgain() throws InterruptedException {
+        // Arrange
+        JobQueue nodeA = newQueue(Duration.ofSeconds(30));
+        JobQueue nodeB = newQueue(Duration.ofSeconds(30));
+        nodeA.enqueue("job");
+        nodeA.claim(1);
+
+        // Act
+        nodeA.abandon("job");
+        Thread.sleep(5);
+        List<ClaimedJob> reclaimed = nodeB.claim(1);
+
+        // Assert
+        assertEquals(0, nodeA.leasedCount());
+        assertEquals(List.of(new ClaimedJob("job", 1, null)), reclaimed);
+    }
+
+    @Test
+    @DisplayName("성공: 완료된 작업은 큐에서 지워져 다시 처리되지 않는다")
+    void release_RemovesJob() {
+        // Arrange
+        JobQueue queue = newQueue(Duration.ofSeconds(30));
+        queue.enqueue("job");
+        queue.claim(1);
+
+        // Act
+        queue.release("job");
+
+        // Assert
+        assertEquals(0, queue.leasedCount());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM job_queue", Integer.class));
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.JobQueue;
+import org.example.youtubeaisummary.repository.JobQueue.ClaimedJob;
+import org.example.youtubeaisummary.repository.JobRepository;
+import org.example.youtubeaisummary.service.JobManager;
+import org.example.youtubeaisummary.service.JobQueueWorker;
+import org.example.youtubeaisummary.service.OrchestrationService;
+import org.example.youtubeaisummary.service.SseNotificationService;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobQueueWorkerTest {
+
+    private static final String JOB_ID = "dQw4w9WgXcQ";
+
+    @Mock
+    private JobQueue jobQueue;
+    @Mock
+    private OrchestrationService orchestrationService;
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private JobManager jobManager;
+    @Mock
+    private SseNotificationService sseNotificationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        // 자동 폴링/하트비트는 길게 두고 poll()을 직접 호출합니다.
+        when(jobQueue.getLeaseDuration()).thenReturn(Duration.ofHours(1));
+        worker = new JobQueueWorker(jobQueue, orchestrationService, jobRepository, jobManager, meterRegistry,
+                8, 3, Duration.ofMinutes(30), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    private void claimReturns(ClaimedJob job, JobStatus status) {
+        when(jobQueue.claim(8)).thenReturn(List.of(job));
+        when(jobRepository.getJobStatus(JOB_ID)).thenReturn(Optional.of(new JobStatusDto(JOB_ID, status, "메시지")));
+    }
+
+    @Test
+    @DisplayName("성공: 새 작업은 자막 추출부터 시작한다")
+    void poll_StartsNewJob() {
+        // Arrange
+        claimReturns(new ClaimedJob(JOB_ID, 1, null), JobStatus.PENDING);
+
+        // Act
+        worker.poll();
+
+        // Assert
+        verify(orchestrationService).processYoutubeVideo(eq(JOB_ID), any(YoutubeVideo.class));
+        assertEquals(1.0, meterRegistry.counter("job.queue.claimed").count());
+        assertEquals(0.0, meterRegistry.counter("job.queue.recovered").count());
+    }
+
+    @Test
+    @DisplayName("성공: 자막 체크포인트가 있는 작업은 자막 추출을 건너뛰고 요약부터 이어서 한다")
+    void poll_ResumesFromTranscriptCheckpoint() {
+        // Arrange
+        claimReturns(new ClaimedJob(JOB_ID, 2, "추출한 자막"), JobStatus.AI_SUMMARIZING_PARTIAL);
+
+        // Act
+        worker.poll();
+
+        // Assert
+        verify(orchestrationService).resumeFromTranscript(JOB_ID, "추출한 자막");
+        verify(orchestrationService, never()).processYoutubeVideo(any(), any());
+        assertEquals(1.0, meterRegistry.counter("job.queue.recovered").count());
+    }
+
+    @Test
+    @DisplayName("성공: 이미 완료된 작업은 다시 처리하지 않고 큐에서 지운다")
+    void poll_ReleasesCompletedJob() {
+        // Arrange
+        claimReturns(new ClaimedJob(JOB_ID, 1, null), JobStatus.COMPLETED);
+
+        // Act
+        worker.poll();
+
+        // Assert
+        verify(jobQueue).release(JOB_ID);
+        verifyNoInteractions(orchestrationService, jobManager);
+    }
+
+    @Test
+    @DisplayName("실패: 최대 시도 횟수를 넘긴 작업은 실패 처리한다")
+    void poll_FailsExhaustedJob() {
+        // Arrange
+        claimReturns(new ClaimedJob(JOB_ID, 4, "추출한 자막"), JobStatus.AI_SUMMARIZING_PARTIAL);
+
+        // Act
+        worker.poll();
+
+        // Assert
+        verify(jobManager).failJob(eq(JOB_ID), anyString(), any(IllegalStateException.class));
+        verifyNoInteractions(orchestrationService);
+        assertEquals(1.0, meterRegistry.counter("job.queue.exhausted").count());
+    }
+
+    @Test
+    @DisplayName("예외: 실행기가 작업을 거부하면 임대를 바로 반납해 다시 가져갈 수 있게 한다")
+    void poll_AbandonsRejectedJob() {
+        // Arrange
+        claimReturns(new ClaimedJob(JOB_ID, 1, null), JobStatus.PENDING);
+        doThrow(new RejectedExecutionException("실행기 큐가 가득 찼습니다"))
+                .when(orchestrationService).processYoutubeVideo(eq(JOB_ID), any(YoutubeVideo.class));
+
+        // Act
+        worker.poll();
+
+        // Assert
+        verify(jobQueue).abandon(JOB_ID);
+        verify(jobQueue, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("예외: 최대 실행 시간을 넘긴 작업은 이 서버의 실행을 취소하고 실패 처리해, 임대가 만료돼도 다시 실행되지 않는다")
+    void heartbeat_StopsOverrunJobInsteadOfRunningItTwice() {
+        // Arrange: 서버 두 대가 H2(MySQL 호환 모드)의 job_queue를 함께 씁니다. A의 최대 실행 시간은 0입니다.
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:jobqueueworker;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE job_queue (job_id VARCHAR(64) PRIMARY KEY, attempts INT NOT NULL, lease_owner VARCHAR(64), "
+                + "lease_until TIMESTAMP NOT NULL, transcript LONGBLOB, created_at TIMESTAMP)");
+        JobQueue nodeA = new JobQueue(jdbcTemplate, transactionTemplate, Duration.ofHours(1));
+        JobQueue nodeB = new JobQueue(jdbcTemplate, transactionTemplate, Duration.ofHours(1));
+        JobQueueWorker workerA = new JobQueueWorker(nodeA, orchestrationService, jobRepository,
+                new JobManager(jobRepository, sseNotificationService, nodeA), meterRegistry, 8, 3, Duration.ZERO, Duration.ofHours(1));
+        when(jobRepository.getJobStatus(JOB_ID)).thenReturn(Optional.of(new JobStatusDto(JOB_ID, JobStatus.PENDING, "메시지")));
+        try {
+            nodeA.enqueue(JOB_ID);
+            workerA.poll();
+
+            // Act: 하트비트 후 A의 임대가 만료된 상황을 만들고 B가 큐를 확인합니다.
+            workerA.heartbeat();
+            jdbcTemplate.update("UPDATE job_queue SET lease_until = ?", Timestamp.from(Instant.now().minusSeconds(1)));
+            List<ClaimedJob> reclaimed = nodeB.claim(10);
+
+            // Assert
+            assertEquals(List.of(), reclaimed);
+            InOrder inOrder = inOrder(orchestrationService, jobRepository);
+            inOrder.verify(orchestrationService).processYoutubeVideo(eq(JOB_ID), any(YoutubeVideo.class));
+            inOrder.verify(orchestrationService).cancel(JOB_ID);
+            inOrder.verify(jobRepository).updateJob(eq(JOB_ID), eq(JobStatus.FAILED), anyString());
+            verify(orchestrationService, times(1)).processYoutubeVideo(any(), any());
+            assertEquals(0, nodeA.leasedCount());
+            assertEquals(1.0, meterRegistry.counter("job.queue.overrun").count());
+        } finally {
+            workerA.shutdown();
+            jdbcTemplate.execute("DROP TABLE job_queue");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.JobResultBackfill;
+import org.example.youtubeaisummary.repository.MySqlJobRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2(MySQL 호환 모드)에 result 컬럼이 남아 있는 이전 jobs 테이블을 만들어 요약 이전을 검증합니다.
+ */
+class JobResultBackfillTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MySqlJobRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:backfill;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE jobs (job_id VARCHAR(64) PRIMARY KEY, status VARCHAR(32), message VARCHAR(1000), result LONGTEXT)");
+        jdbcTemplate.execute("CREATE TABLE job_results (job_id VARCHAR(64) PRIMARY KEY, content LONGBLOB, original_length INT, created_at TIMESTAMP)");
+        repository = new MySqlJobRepositoryImpl(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE jobs");
+        jdbcTemplate.execute("DROP TABLE job_results");
+    }
+
+    private void insertLegacyJob(String jobId, JobStatus status, String result) {
+        jdbcTemplate.update("INSERT INTO jobs (job_id, status, result) VALUES (?, ?, ?)", jobId, status.name(), result);
+    }
+
+    @Test
+    @DisplayName("성공: 완료된 작업의 요약만 압축해서 옮기고, 이미 옮긴 결과는 덮어쓰지 않는다")
+    void backfill_MovesCompletedSummaries() {
+        // Arrange
+        insertLegacyJob("job-1", JobStatus.COMPLETED, "## 첫 번째 요약");
+        insertLegacyJob("job-2", JobStatus.COMPLETED, "## 두 번째 요약");
+        insertLegacyJob("job-3", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중");
+        insertLegacyJob("job-4", JobStatus.COMPLETED, "## 이전 요약");
+        repository.updateJob("job-4", JobStatus.COMPLETED, "## 새 요약");
+        // 묶음 크기를 1로 두어 여러 묶음에 걸쳐 이어서 옮기는지 확인합니다.
+        JobResultBackfill backfill = new JobResultBackfill(jdbcTemplate, true, 1);
+
+        // Act
+        int moved = backfill.backfill();
+
+        // Assert
+        assertEquals(2, moved);
+        assertEquals(new JobStatusDto("job-1", JobStatus.COMPLETED, "## 첫 번째 요약"), repository.getJobStatus("job-1").orElseThrow());
+        assertEquals(new JobStatusDto("job-2", JobStatus.COMPLETED, "## 두 번째 요약"), repository.getJobStatus("job-2").orElseThrow());
+        assertEquals(new JobStatusDto("job-4", JobStatus.COMPLETED, "## 새 요약"), repository.getJobStatus("job-4").orElseThrow());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM job_results", Integer.class));
+        assertEquals(0, backfill.backfill());
+    }
+
+    @Test
+    @DisplayName("성공: result 컬럼을 지운 뒤에는 아무것도 하지 않는다")
+    void backfill_SkipsWhenColumnDropped() {
+        // Arrange
+        jdbcTemplate.execute("ALTER TABLE jobs DROP COLUMN result");
+
+        // Act & Assert
+        assertEquals(0, new JobResultBackfill(jdbcTemplate, true, 500).backfill());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.JobStatusCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStatusCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    @DisplayName("성공: 완료 상태는 오래 보관하고 진행 중 상태는 짧은 보관 시간이 지나면 다시 읽게 한다")
+    void get_KeepsCompletedLongerThanActive() {
+        // Arrange
+        JobStatusCache cache = cache(1_000_000, Duration.ZERO);
+        cache.put(new JobStatusDto("done", JobStatus.COMPLETED, "요약 결과"));
+        cache.put(new JobStatusDto("running", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중"));
+
+        // Act
+        Optional<JobStatusDto> done = cache.get("done");
+        Optional<JobStatusDto> running = cache.get("running");
+
+        // Assert
+        assertEquals("요약 결과", done.orElseThrow().result());
+        assertTrue(running.isEmpty());
+        assertEquals(1.0, meterRegistry.counter("job.status.cache.requests", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("job.status.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("성공: 저장소에서 읽은 값은 그사이 기록된 더 새로운 상태를 덮어쓰지 않는다")
+    void putLoaded_DoesNotOverwriteNewerState() {
+        // Arrange
+        JobStatusCache cache = cache(1_000_000, Duration.ofMinutes(1));
+        cache.put(new JobStatusDto("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중"));
+
+        // Act
+        cache.putLoaded(new JobStatusDto("job", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중"));
+
+        // Assert
+        assertEquals(JobStatus.AI_SUMMARIZING_FINAL, cache.get("job").orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("성공: 글자 수 한도를 넘으면 가장 오래 쓰지 않은 항목부터 내보낸다")
+    void put_EvictsLeastRecentlyUsed() {
+        // Arrange
+        JobStatusCache cache = cache(25, Duration.ofMinutes(1));
+        cache.put(new JobStatusDto("a", JobStatus.COMPLETED, "a".repeat(10)));
+        cache.put(new JobStatusDto("b", JobStatus.COMPLETED, "b".repeat(10)));
+        cache.get("a");
+
+        // Act
+        cache.put(new JobStatusDto("c", JobStatus.COMPLETED, "c".repeat(10)));
+
+        // Assert
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+        assertEquals(1.0, meterRegistry.counter("job.status.cache.evictions").count());
+    }
+
+    @Test
+    @DisplayName("성공: 상태가 바뀌면 서버 간 무효화를 위한 이벤트를 발행하고, 무효화하면 다시 읽게 한다")
+    void put_PublishesChangeAndInvalidateRemovesEntry() {
+        // Arrange
+        JobStatusCache cache = cache(1_000_000, Duration.ofMinutes(1));
+
+        // Act
+        cache.put(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"));
+        cache.invalidate("job");
+
+        // Assert
+        assertEquals(List.of(new JobStatusCache.StatusChanged("job", JobStatus.COMPLETED)), events);
+        assertTrue(cache.get("job").isEmpty());
+    }
+
+    private JobStatusCache cache(long maxChars, Duration activeTtl) {
+        return new JobStatusCache(events::add, meterRegistry, maxChars, Duration.ofHours(1), activeTtl);
+    }
+}
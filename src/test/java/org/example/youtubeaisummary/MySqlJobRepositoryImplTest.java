@@ -0,0 +1,155 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.MySqlJobRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2(MySQL 호환 모드)에 jobs 테이블을 만들어 MySqlJobRepositoryImpl의 SQL을 검증합니다.
+ */
+class MySqlJobRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MySqlJobRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:jobs;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE jobs (job_id VARCHAR(64) PRIMARY KEY, status VARCHAR(32), message VARCHAR(1000))");
+        jdbcTemplate.execute("CREATE TABLE job_results (job_id VARCHAR(64) PRIMARY KEY, content LONGBLOB, original_length INT, created_at TIMESTAMP)");
+        repository = new MySqlJobRepositoryImpl(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE jobs");
+        jdbcTemplate.execute("DROP TABLE job_results");
+    }
+
+    @Test
+    @DisplayName("성공: 같은 작업을 동시에 생성해도 한 번만 생성된다")
+    void createJobIfAbsent_CreatesOnce() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(() -> repository.createJobIfAbsent("dQw4w9WgXcQ"));
+        }
+
+        // Act
+        int created = 0;
+        try {
+            for (Future<Boolean> future : executor.invokeAll(calls)) {
+                if (future.get()) created++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, created);
+        assertEquals(new JobStatusDto("dQw4w9WgXcQ", JobStatus.PENDING, "작업 처리 대기 중..."), repository.getJobStatus("dQw4w9WgXcQ").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 진행 중에는 메시지를, 완료 후에는 결과 테이블의 요약을 반환한다")
+    void updateJob_WritesMessageUntilCompleted() {
+        // Arrange
+        repository.createJobIfAbsent("job");
+
+        // Act
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중");
+        JobStatusDto inProgress = repository.getJobStatus("job").orElseThrow();
+        repository.updateJob("job", JobStatus.COMPLETED, "최종 요약");
+        JobStatusDto completed = repository.getJobStatus("job").orElseThrow();
+
+        // Assert
+        assertEquals(new JobStatusDto("job", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중"), inProgress);
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "최종 요약"), completed);
+        assertNull(jdbcTemplate.queryForObject("SELECT message FROM jobs WHERE job_id = 'job'", String.class));
+    }
+
+    @Test
+    @DisplayName("성공: 완료 뒤 늦게 묶음 저장된 진행 상태는 완료를 덮어쓰지 않는다")
+    void updateJobs_KeepsCompletedJob() {
+        // Arrange
+        repository.createJobIfAbsent("job");
+        repository.createJobIfAbsent("other");
+        repository.updateJob("job", JobStatus.COMPLETED, "최종 요약");
+
+        // Act
+        repository.updateJobs(List.of(
+                new JobStatusDto("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중"),
+                new JobStatusDto("other", JobStatus.SUBTITLE_EXTRACTING, "자막 추출 중")));
+
+        // Assert
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "최종 요약"), repository.getJobStatus("job").orElseThrow());
+        assertEquals(new JobStatusDto("other", JobStatus.SUBTITLE_EXTRACTING, "자막 추출 중"), repository.getJobStatus("other").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 최종 요약은 압축해서 결과 테이블에 저장한다")
+    void updateJob_StoresCompressedResult() {
+        // Arrange
+        repository.createJobIfAbsent("job");
+        String summary = "## 주요 주제\n### 세부 주제\n- 가상 스레드는 블로킹 I/O 동안 캐리어 스레드를 양보합니다.\n".repeat(200);
+
+        // Act
+        repository.updateJob("job", JobStatus.COMPLETED, summary);
+
+        // Assert
+        byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM job_results WHERE job_id = 'job'", byte[].class);
+        assertTrue(stored.length * 10 < summary.getBytes(StandardCharsets.UTF_8).length, "압축 후 크기: " + stored.length);
+        assertEquals(summary, repository.getJobStatus("job").orElseThrow().result());
+    }
+
+    @Test
+    @DisplayName("성공: 없는 작업을 완료 처리하면 결과를 남기지 않는다")
+    void updateJob_SkipsResultForMissingJob() {
+        // Act
+        repository.updateJob("missing", JobStatus.COMPLETED, "요약");
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM job_results", Integer.class));
+    }
+
+    @Test
+    @DisplayName("성공: 컬럼보다 긴 진행 메시지는 잘라서 저장한다")
+    void updateJob_TruncatesLongMessage() {
+        // Arrange
+        repository.createJobIfAbsent("job");
+
+        // Act
+        repository.updateJob("job", JobStatus.SUBTITLE_EXTRACTION_COMPLETED, "자막".repeat(2000));
+
+        // Assert
+        String message = repository.getJobStatus("job").orElseThrow().result();
+        assertEquals(1000, message.length());
+        assertTrue(message.endsWith("..."));
+    }
+
+    @Test
+    @DisplayName("성공: 없는 작업은 빈 값을 반환한다")
+    void getJobStatus_EmptyWhenMissing() {
+        assertTrue(repository.getJobStatus("missing").isEmpty());
+    }
+}
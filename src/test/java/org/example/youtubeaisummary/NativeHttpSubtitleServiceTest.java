@@ -0,0 +1,201 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
+import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
+import org.example.youtubeaisummary.repository.InMemoryJobRepository;
+import org.example.youtubeaisummary.repository.JobQueue;
+import org.example.youtubeaisummary.service.JobManager;
+import org.example.youtubeaisummary.service.SseNotificationService;
+import org.example.youtubeaisummary.service.proxy.ProxiedHttpClient;
+import org.example.youtubeaisummary.service.proxy.ProxyPool;
+import org.example.youtubeaisummary.service.subtitle.CaptionDownloader;
+import org.example.youtubeaisummary.service.subtitle.NativeHttpSubtitleService;
+import org.example.youtubeaisummary.service.subtitle.SubtitleProcessor;
+import org.example.youtubeaisummary.service.subtitle.TimedTextParser;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 유튜브 응답 형식의 고정 응답(fixtures/native-http)을 돌려주는 로컬 스텁 서버를 상대로 네이티브 자막 제공자를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NativeHttpSubtitleServiceTest {
+
+    private static final String FIXTURE_DIR = "/fixtures/native-http/";
+    private static final String EXPECTED_TEXT = "00:00:00,160:안녕하세요 여러분 오늘은 A&B 이야기를 해 보겠습니다.";
+
+    private final String testJobId = "test-job-123";
+    private final String testVideoId = "testVideoId";
+    private final YoutubeVideo testVideo = new YoutubeVideo("https://www.youtube.com/watch?v=" + testVideoId);
+    private final List<String> timedTextQueries = new CopyOnWriteArrayList<>();
+
+    @Mock
+    private InMemoryJobRepository mockJobRepository;
+    @Mock
+    private SseNotificationService mockSseNotificationService;
+    @Mock
+    private JobQueue mockJobQueue;
+
+    private HttpServer server;
+    private String baseUrl;
+    private String watchFixture;
+    private String captionLanguage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        watchFixture = "watch.html";
+        captionLanguage = "ko";
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/watch", exchange -> {
+            try (exchange) {
+                String html = fixture(watchFixture)
+                        .replace("{{BASE_URL}}", baseUrl)
+                        .replace("{{VIDEO_ID}}", testVideoId)
+                        .replace("{{LANG}}", captionLanguage);
+                respond(exchange, html);
+            }
+        });
+        server.createContext("/api/timedtext", exchange -> {
+            try (exchange) {
+                String query = exchange.getRequestURI().getQuery();
+                timedTextQueries.add(query);
+                String format = query.substring(query.indexOf("&fmt=") + "&fmt=".length());
+                respond(exchange, fixture("timedtext." + format));
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("성공: json3 자막을 받아 문장 형식으로 정제")
+    void fetchSubs_Json3() throws Exception {
+        String result = service(TimedTextParser.Format.JSON3).fetchSubs(testJobId, testVideo).get();
+
+        assertEquals(EXPECTED_TEXT, result);
+        assertTrue(timedTextQueries.getFirst().contains("kind=asr"));
+        assertFalse(timedTextQueries.getFirst().contains("tlang="));
+        verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED), eq(EXPECTED_TEXT));
+    }
+
+    @Test
+    @DisplayName("성공: srv3 자막은 json3와 같은 결과를 낸다")
+    void fetchSubs_Srv3() throws Exception {
+        String result = service(TimedTextParser.Format.SRV3).fetchSubs(testJobId, testVideo).get();
+
+        assertEquals(EXPECTED_TEXT, result);
+    }
+
+    @Test
+    @DisplayName("성공: vtt 자막은 롤링 캡션 중복을 제거해 json3와 같은 결과를 낸다")
+    void fetchSubs_Vtt() throws Exception {
+        String result = service(TimedTextParser.Format.VTT).fetchSubs(testJobId, testVideo).get();
+
+        assertEquals(EXPECTED_TEXT, result);
+    }
+
+    @Test
+    @DisplayName("성공: 한국어/영어가 아닌 자동 자막은 영어 번역을 요청")
+    void fetchSubs_TranslatesOtherLanguageToEnglish() throws Exception {
+        // Arrange
+        captionLanguage = "ja";
+
+        // Act
+        service(TimedTextParser.Format.JSON3).fetchSubs(testJobId, testVideo).get();
+
+        // Assert
+        assertTrue(timedTextQueries.getFirst().contains("lang=ja&tlang=en&fmt=json3"));
+    }
+
+    @Test
+    @DisplayName("예외: 자동 생성 자막 트랙이 없을 때")
+    void fetchSubs_ThrowsException_WhenNoAutoCaptions() {
+        // Arrange
+        watchFixture = "watch-no-asr.html";
+
+        // Act & Assert
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> service(TimedTextParser.Format.JSON3).fetchSubs(testJobId, testVideo).get());
+
+        assertInstanceOf(YoutubeApiException.class, exception.getCause());
+        assertInstanceOf(NoSubtitlesFoundException.class, exception.getCause().getCause());
+        assertEquals("이 영상에는 자동 생성된 자막이 없습니다.", exception.getCause().getCause().getMessage());
+        assertTrue(timedTextQueries.isEmpty());
+        verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    @DisplayName("예외: 시작 전에 취소된 작업은 요청 없이 바로 끝내고, 취소 기록은 작업이 끝나면 지운다")
+    void fetchSubs_SkipsJobCancelledBeforeStart() throws Exception {
+        // Arrange
+        NativeHttpSubtitleService service = service(TimedTextParser.Format.JSON3);
+        service.cancel(testJobId);
+
+        // Act
+        CompletableFuture<String> cancelled = service.fetchSubs(testJobId, testVideo);
+
+        // Assert
+        assertThrows(CancellationException.class, cancelled::join);
+        assertTrue(timedTextQueries.isEmpty());
+        verifyNoInteractions(mockJobRepository);
+        assertEquals(EXPECTED_TEXT, service.fetchSubs(testJobId, testVideo).get());
+    }
+
+    private NativeHttpSubtitleService service(TimedTextParser.Format format) {
+        ProxyPool directConnection = new ProxyPool(new SimpleMeterRegistry(), false, "", List.of(), Duration.ofMinutes(1), Duration.ofMinutes(1), 0.2);
+        CaptionDownloader captionDownloader = new CaptionDownloader(true, Duration.ofSeconds(5), new ProxiedHttpClient(directConnection));
+        NativeHttpSubtitleService service = new NativeHttpSubtitleService(captionDownloader,
+                new TimedTextParser(new SubtitleProcessor()), new ObjectMapper(), baseUrl, format);
+        service.setJobManager(new JobManager(mockJobRepository, mockSseNotificationService, mockJobQueue));
+        return service;
+    }
+
+    private static String fixture(String name) throws IOException {
+        try (InputStream in = NativeHttpSubtitleServiceTest.class.getResourceAsStream(FIXTURE_DIR + name)) {
+            if (in == null) throw new IOException("fixture not found: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
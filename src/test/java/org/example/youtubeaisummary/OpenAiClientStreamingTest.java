@@ -0,0 +1,171 @@
+package org.example.youtubeaisummary;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.exception.ai.AiStreamInterruptedException;
+import org.example.youtubeaisummary.service.ai.AdaptiveConcurrencyLimiter;
+import org.example.youtubeaisummary.service.ai.HedgedCallExecutor;
+import org.example.youtubeaisummary.service.ai.OpenAiClient;
+import org.example.youtubeaisummary.service.ai.OpenAiTransport;
+import org.example.youtubeaisummary.service.ai.PromptManager;
+import org.example.youtubeaisummary.service.ai.TokenBudgetScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.retry.annotation.AnnotationAwareRetryOperationsInterceptor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 OpenAI 엔드포인트가 SSE 조각을 흘려보내게 하고, 최종 요약 스트리밍과 재시도 경계를 검증합니다.
+ */
+class OpenAiClientStreamingTest {
+
+    private static final String JOB_ID = "dQw4w9WgXcQ";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private OpenAiTransport transport;
+    private ExecutorService hedgeExecutor;
+
+    @BeforeEach
+    void setUp() {
+        hedgeExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.shutdown();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+        hedgeExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공: 도착한 조각을 순서대로 전달하고 완성된 전체 요약을 반환한다")
+    void streamFinalSummary_DeliversDeltasInOrder() {
+        // Arrange
+        OpenAiClient client = client(List.of(chunk("오늘은 "), chunk("스트리밍을 "), chunk("다룹니다."), "[DONE]"));
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        // Act
+        String summary = client.streamFinalSummaryFromTranscript(JOB_ID, "자막", deltas::add);
+
+        // Assert
+        assertEquals("오늘은 스트리밍을 다룹니다.", summary);
+        assertEquals(List.of("오늘은 ", "스트리밍을 ", "다룹니다."), deltas);
+    }
+
+    @Test
+    @DisplayName("예외: 첫 조각 전에 실패하면 원래 예외를 그대로 던져 재시도 여부를 @Retryable에 맡긴다")
+    void streamFinalSummary_KeepsOriginalExceptionBeforeFirstDelta() {
+        // Arrange
+        OpenAiClient client = client(List.of("{깨진 조각", "[DONE]"));
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        // Act
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> client.streamFinalSummaryFromTranscript(JOB_ID, "자막", deltas::add));
+
+        // Assert
+        assertFalse(e instanceof AiStreamInterruptedException);
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    @DisplayName("예외: 조각을 내보낸 뒤 끊기면 재시도하지 않아 같은 조각을 다시 발행하지 않는다")
+    void streamFinalSummary_DoesNotReplayAfterDelta() {
+        // Arrange: @EnableRetry와 같은 인터셉터로 감싸 실제 재시도 정책을 적용합니다.
+        OpenAiClient client = retrying(client(List.of(chunk("오늘은 "), "{깨진 조각", "[DONE]")));
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        // Act
+        assertThrows(AiStreamInterruptedException.class,
+                () -> client.streamFinalSummaryFromSummaries(JOB_ID, "부분 요약", deltas::add));
+
+        // Assert
+        assertEquals(1, requests.get());
+        assertEquals(List.of("오늘은 "), deltas);
+    }
+
+    private OpenAiClient client(List<String> events) {
+        String baseUrl = startStub(events);
+        transport = new OpenAiTransport(meterRegistry, "test-key", baseUrl, "gpt-4o-mini", "system",
+                10, Duration.ofSeconds(5), Duration.ofSeconds(60), Duration.ofSeconds(2),
+                Duration.ofSeconds(10), Duration.ofSeconds(10), "", "", "");
+        TokenCountEstimator estimator = mock(TokenCountEstimator.class);
+        when(estimator.estimate(anyString())).thenAnswer(invocation -> ((String) invocation.getArgument(0)).length());
+        return new OpenAiClient(transport,
+                new PromptManager("{chunk}", "{text}", "{summaries}", "{summaries}"),
+                new AdaptiveConcurrencyLimiter(meterRegistry, 4, 1, 32, 200, 5000, 2.0),
+                new TokenBudgetScheduler(estimator, meterRegistry, "", 100_000, 0.0, 4096, 5000),
+                new HedgedCallExecutor(meterRegistry, hedgeExecutor, false, Set.of(),
+                        0.95, 20, 200, Duration.ofSeconds(20), Duration.ofSeconds(2), 0.1, 5));
+    }
+
+    private static OpenAiClient retrying(OpenAiClient target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new AnnotationAwareRetryOperationsInterceptor());
+        return (OpenAiClient) proxyFactory.getProxy();
+    }
+
+    /**
+     * 요청마다 주어진 data 이벤트를 차례로 보내는 Chat Completions SSE 스텁을 띄웁니다.
+     */
+    private String startStub(List<String> events) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v1/chat/completions", exchange -> {
+                try (exchange) {
+                    exchange.getRequestBody().readAllBytes();
+                    requests.incrementAndGet();
+                    exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        for (String event : events) {
+                            out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                        }
+                    }
+                } catch (IOException ignored) {
+                    // 클라이언트가 실패한 스트림을 먼저 끊을 수 있습니다.
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String chunk(String content) {
+        return """
+                {"id":"chatcmpl-stub","object":"chat.completion.chunk","created":1700000000,"model":"gpt-4o-mini",\
+                "choices":[{"index":0,"delta":{"role":"assistant","content":"%s"},"finish_reason":null}]}\
+                """.formatted(content);
+    }
+}
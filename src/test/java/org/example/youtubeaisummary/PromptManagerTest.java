@@ -0,0 +1,56 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.PromptManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptManagerTest {
+
+    private Properties properties;
+    private PromptManager promptManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/prompts.properties")) {
+            properties.load(in);
+        }
+        promptManager = new PromptManager(
+                properties.getProperty("app.ai.prompt.partial-summary"),
+                properties.getProperty("app.ai.prompt.final-from-transcript"),
+                properties.getProperty("app.ai.prompt.final-from-summaries"),
+                properties.getProperty("app.ai.prompt.merge-summaries"));
+    }
+
+    @Test
+    @DisplayName("성공: 미리 나눈 템플릿으로 만든 프롬프트가 PromptTemplate 렌더링 결과와 같다")
+    void prompts_MatchPromptTemplateRendering() {
+        // Arrange
+        String text = "첫 번째 줄입니다.\n두 번째 줄: {중괄호}와 $기호, \\역슬래시도 그대로 둡니다.";
+
+        // Act & Assert
+        assertEquals(render("app.ai.prompt.partial-summary", "chunk", text), promptManager.getPartialSummaryPrompt(text));
+        assertEquals(render("app.ai.prompt.final-from-transcript", "text", text), promptManager.getFinalFromTranscriptPrompt(text));
+        assertEquals(render("app.ai.prompt.final-from-summaries", "summaries", text), promptManager.getFinalFromSummariesPrompt(text));
+        assertEquals(render("app.ai.prompt.merge-summaries", "summaries", text), promptManager.getMergeSummariesPrompt(text));
+    }
+
+    @Test
+    @DisplayName("실패: 변수가 없는 템플릿은 시작 시점에 거부한다")
+    void constructor_RejectsTemplateWithoutVariable() {
+        assertThrows(IllegalArgumentException.class, () -> new PromptManager("no variable", "{text}", "{summaries}", "{summaries}"));
+    }
+
+    private String render(String key, String variable, String value) {
+        return new PromptTemplate(properties.getProperty(key)).render(Map.of(variable, value));
+    }
+}
@@ -0,0 +1,257 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
+import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
+import org.example.youtubeaisummary.repository.InMemoryJobRepository;
+import org.example.youtubeaisummary.repository.JobQueue;
+import org.example.youtubeaisummary.service.JobManager;
+import org.example.youtubeaisummary.service.SseNotificationService;
+import org.example.youtubeaisummary.service.subtitle.AbstractSubtitleService;
+import org.example.youtubeaisummary.service.subtitle.RacingSubtitleService;
+import org.example.youtubeaisummary.vo.YoutubeVideo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RacingSubtitleServiceTest {
+
+    private final String testJobId = "test-job-123";
+    private final YoutubeVideo testVideo = new YoutubeVideo("https://www.youtube.com/watch?v=testVideoId");
+
+    @Mock
+    private InMemoryJobRepository mockJobRepository;
+    @Mock
+    private SseNotificationService mockSseNotificationService;
+    @Mock
+    private JobQueue mockJobQueue;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private JobManager jobManager;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+        jobManager = new JobManager(mockJobRepository, mockSseNotificationService, mockJobQueue);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공: 먼저 끝난 제공자의 자막을 쓰고, 느린 제공자는 취소한다")
+    void fetchSubs_FirstSuccessWinsAndLosersAreCancelled() throws Exception {
+        // Arrange
+        FakeProvider fast = new FakeProvider(50, "fast transcript", null);
+        FakeProvider slow = new FakeProvider(5_000, "slow transcript", null);
+        RacingSubtitleService racing = racing(Duration.ZERO, "fast", fast, "slow", slow);
+
+        // Act
+        long start = System.nanoTime();
+        String result = racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("fast transcript", result);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+        assertTrue(slow.cancelled.await(1, TimeUnit.SECONDS), "느린 제공자가 취소되지 않았습니다.");
+        assertTrue(slow.interrupted.await(1, TimeUnit.SECONDS), "느린 제공자의 스레드가 인터럽트되지 않았습니다.");
+        assertEquals(1.0, meterRegistry.get("subtitle.race.wins").tag("provider", "fast").counter().count());
+        assertEquals(1, meterRegistry.get("subtitle.provider.latency").tag("provider", "fast").tag("outcome", "success").timer().count());
+        verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED), eq("fast transcript"));
+        verify(mockJobRepository, never()).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 한 제공자가 실패해도 작업을 실패 처리하지 않고 다른 제공자의 결과를 쓴다")
+    void fetchSubs_FailureOfOneProviderDoesNotFailJob() throws Exception {
+        // Arrange
+        FakeProvider failing = new FakeProvider(10, null, new YoutubeApiException("throttled"));
+        FakeProvider healthy = new FakeProvider(200, "healthy transcript", null);
+        RacingSubtitleService racing = racing(Duration.ZERO, "failing", failing, "healthy", healthy);
+
+        // Act
+        String result = racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("healthy transcript", result);
+        verify(mockJobRepository, never()).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    @DisplayName("예외: 모든 제공자가 자막 없음이면 자막 없음으로 작업을 실패 처리한다")
+    void fetchSubs_AllProvidersReportNoSubtitles() {
+        // Arrange
+        FakeProvider first = new FakeProvider(10, null, new YoutubeApiException("실패", new NoSubtitlesFoundException("이 영상에는 자동 생성된 자막이 없습니다.")));
+        FakeProvider second = new FakeProvider(20, "   ", null);
+        RacingSubtitleService racing = racing(Duration.ZERO, "first", first, "second", second);
+
+        // Act & Assert
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS));
+        assertInstanceOf(NoSubtitlesFoundException.class, exception.getCause());
+        verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.FAILED), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: stagger 안에 앞 제공자가 끝나면 다음 제공자는 시작하지 않는다")
+    void fetchSubs_StaggeredProviderNotStartedWhenFirstWins() throws Exception {
+        // Arrange
+        FakeProvider first = new FakeProvider(20, "first transcript", null);
+        FakeProvider second = new FakeProvider(20, "second transcript", null);
+        RacingSubtitleService racing = racing(Duration.ofMillis(300), "first", first, "second", second);
+
+        // Act
+        String result = racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS);
+        Thread.sleep(500);
+
+        // Assert
+        assertEquals("first transcript", result);
+        assertEquals(0, second.calls.get());
+    }
+
+    @Test
+    @DisplayName("성공: 앞 제공자가 실패하면 stagger를 기다리지 않고 다음 제공자를 시작한다")
+    void fetchSubs_StaggeredProviderStartsEarlyOnFailure() throws Exception {
+        // Arrange
+        FakeProvider first = new FakeProvider(10, null, new YoutubeApiException("throttled"));
+        FakeProvider second = new FakeProvider(10, "second transcript", null);
+        RacingSubtitleService racing = racing(Duration.ofSeconds(5), "first", first, "second", second);
+
+        // Act
+        String result = racing.fetchSubs(testJobId, testVideo).get(2, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("second transcript", result);
+    }
+
+    @Test
+    @DisplayName("성공: stagger 안에 승자가 정해진 뒤 같은 작업을 다시 경주시켜도, 시작하지 않았던 제공자는 취소되지 않고 자막을 낸다")
+    void fetchSubs_ReRaceAfterStaggerWinRunsUnstartedProvider() throws Exception {
+        // Arrange
+        FakeProvider first = new FakeProvider(20, "first transcript", null);
+        FakeProvider second = new FakeProvider(20, "second transcript", null);
+        RacingSubtitleService racing = racing(Duration.ofMillis(300), "first", first, "second", second);
+        assertEquals("first transcript", racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS));
+        first.failure = new YoutubeApiException("throttled");
+
+        // Act
+        String result = racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("second transcript", result);
+        assertEquals(1, second.calls.get());
+        assertEquals(1, second.cancelled.getCount(), "시작하지 않은 제공자에 취소가 전달되었습니다.");
+    }
+
+    @Test
+    @DisplayName("성공: 승자보다 먼저 실패한 제공자는 취소하지 않아, 같은 작업을 다시 경주시키면 그 제공자가 자막을 낸다")
+    void fetchSubs_ReRaceRunsProviderThatFailedBeforeWinner() throws Exception {
+        // Arrange
+        FakeProvider first = new FakeProvider(10, "first transcript", new YoutubeApiException("throttled"));
+        FakeProvider second = new FakeProvider(100, "second transcript", null);
+        RacingSubtitleService racing = racing(Duration.ZERO, "first", first, "second", second);
+        assertEquals("second transcript", racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS));
+        first.failure = null;
+
+        // Act
+        String result = racing.fetchSubs(testJobId, testVideo).get(3, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("first transcript", result);
+        assertEquals(1, first.cancelled.getCount(), "이미 끝난 제공자에 취소가 전달되었습니다.");
+    }
+
+    private RacingSubtitleService racing(Duration stagger, String firstName, FakeProvider first, String secondName, FakeProvider second) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        beans.put(firstName, first);
+        beans.put(secondName, second);
+        first.setJobManager(jobManager);
+        second.setJobManager(jobManager);
+        RacingSubtitleService racing = new RacingSubtitleService(new StaticListableBeanFactory(beans), meterRegistry,
+                List.of(firstName, secondName), stagger);
+        racing.setJobManager(jobManager);
+        return racing;
+    }
+
+    /**
+     * 지정한 지연 후 자막 또는 예외를 돌려주는 제공자. 실제 제공자처럼 진행/실패를 알리고, 취소되면 인터럽트를 받습니다.
+     * 시작 전에 취소 기록이 남아 있으면 실제 제공자처럼 바로 취소로 끝납니다.
+     */
+    private class FakeProvider extends AbstractSubtitleService {
+        private final long delayMillis;
+        private final String text;
+        private volatile RuntimeException failure;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        FakeProvider(long delayMillis, String text, RuntimeException failure) {
+            this.delayMillis = delayMillis;
+            this.text = text;
+            this.failure = failure;
+        }
+
+        @Override
+        public CompletableFuture<String> fetchSubs(String jobId, YoutubeVideo video) {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                trackJob(jobId);
+                try {
+                    if (isCancelled(jobId)) {
+                        throw new CancellationException("작업이 이미 취소되었습니다.");
+                    }
+                    updateJobProgress(jobId, JobStatusDto.JobStatus.SUBTITLE_EXTRACTING, "자막 추출을 시작합니다...");
+                    Thread.sleep(delayMillis);
+                    if (failure != null) {
+                        handleFailure(jobId, failure.getMessage(), failure);
+                        throw failure;
+                    }
+                    return text;
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    YoutubeApiException cancellation = new YoutubeApiException("취소되었습니다.", e);
+                    handleFailure(jobId, cancellation.getMessage(), cancellation);
+                    throw new CompletionException(cancellation);
+                } finally {
+                    untrackJob(jobId);
+                }
+            }, executor);
+        }
+
+        @Override
+        protected void onCancel(Thread worker) {
+            cancelled.countDown();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.ai.SentenceTextChunker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SentenceTextChunkerTest {
+
+    private static final String[] KOREAN_SENTENCES = {
+            "오늘은 자바의 가상 스레드가 기존 플랫폼 스레드와 어떻게 다른지 살펴보겠습니다.",
+            "가상 스레드는 블로킹 I/O 동안 캐리어 스레드를 양보하기 때문에 수천 개를 동시에 띄워도 부담이 적습니다.",
+            "다만 synchronized 블록 안에서 블로킹이 일어나면 캐리어 스레드가 고정되는 문제가 있습니다.",
+            "그래서 실제 서비스에서는 ReentrantLock으로 바꾸는 것이 일반적인 권장 사항입니다."
+    };
+    private static final String[] ENGLISH_SENTENCES = {
+            "Today we are going to look at how virtual threads differ from classic platform threads.",
+            "Because a virtual thread yields its carrier during blocking I/O, you can run thousands of them cheaply.",
+            "The catch is that blocking inside a synchronized block pins the carrier thread.",
+            "That is why most production code swaps those blocks for a ReentrantLock."
+    };
+
+    private TokenCountEstimator tokenCountEstimator;
+    private SentenceTextChunker chunker;
+
+    @BeforeEach
+    void setUp() {
+        tokenCountEstimator = new JTokkitTokenCountEstimator();
+        chunker = new SentenceTextChunker(tokenCountEstimator);
+    }
+
+    @Test
+    @DisplayName("성공: 청크는 항상 문장(줄) 경계에서 잘리고 원문 순서를 유지한다")
+    void chunk_CutsOnlyOnSentenceBoundaries() {
+        // Arrange
+        String transcript = buildTranscript(KOREAN_SENTENCES, 600);
+        Set<String> originalLines = Arrays.stream(transcript.split("\n")).collect(Collectors.toSet());
+
+        // Act
+        List<String> chunks = chunker.chunk(transcript, 3000);
+
+        // Assert
+        assertTrue(chunks.size() > 1);
+        for (String chunk : chunks) {
+            assertTrue(tokenCountEstimator.estimate(chunk) <= 3000 + chunk.split("\n").length);
+            for (String line : chunk.split("\n")) {
+                assertTrue(originalLines.contains(line), "잘린 문장이 포함되어 있습니다: " + line);
+            }
+        }
+        assertEquals(transcript, String.join("\n", chunks));
+    }
+
+    @Test
+    @DisplayName("성공: 예산보다 긴 한 줄은 단어 경계에서 나뉜다")
+    void chunk_SplitsOversizedLine() {
+        // Arrange
+        String longLine = "00:00:01,000:" + String.join(" ", ENGLISH_SENTENCES).repeat(20);
+
+        // Act
+        List<String> chunks = chunker.chunk(longLine, 200);
+
+        // Assert
+        assertTrue(chunks.size() > 1);
+        chunks.forEach(chunk -> assertTrue(tokenCountEstimator.estimate(chunk) <= 200));
+    }
+
+    private String buildTranscript(String[] sentences, int lineCount) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            int seconds = i * 4;
+            String timestamp = String.format("%02d:%02d:%02d,000", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+            lines.add(timestamp + ":" + sentences[i % sentences.length]);
+        }
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.youtubeaisummary;
+
+import org.example.youtubeaisummary.service.subtitle.SubtitleProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubtitleProcessorTest {
+
+    private final SubtitleProcessor subtitleProcessor = new SubtitleProcessor();
+    private final LegacySubtitleProcessor legacyProcessor = new LegacySubtitleProcessor();
+
+    @Test
+    @DisplayName("성공: 롤링 캡션의 겹치는 앞부분과 [태그]를 제거하고 시작 시간을 붙인다")
+    void process_RemovesRollingOverlapAndTags() {
+        // Arrange
+        String srt = """
+                1
+                00:00:01,000 --> 00:00:02,000
+                [Music] 안녕하세요
+
+                2
+                00:00:02,000 --> 00:00:03,000
+                안녕하세요
+                오늘은 자막 이야기를
+
+                3
+                00:00:03,000 --> 00:00:04,000
+                오늘은 자막 이야기를
+                해 보겠습니다.
+                """;
+
+        // Act
+        String result = subtitleProcessor.process(srt);
+
+        // Assert (겹침 뒤에 남는 앞 공백과 구분 공백이 함께 들어가는 기존 동작을 그대로 유지)
+        assertEquals("00:00:01,000:안녕하세요  오늘은 자막 이야기를  해 보겠습니다.", result);
+        assertEquals(legacyProcessor.process(srt), result);
+    }
+
+    @Test
+    @DisplayName("성공: WebVTT 스트림은 헤더와 태그/엔티티를 제거하고 SRT와 같은 방식으로 정리한다")
+    void processWebVtt_StreamsCuesLikeSrt() throws IOException {
+        // Arrange
+        String vtt = """
+                WEBVTT
+                Kind: captions
+                Language: ko
+
+                00:00:00.160 --> 00:00:02.310 align:start position:0%
+                \s
+                안녕하세요<00:00:00.480><c> 여러분</c>
+
+                00:00:02.310 --> 00:00:04.000 align:start position:0%
+                안녕하세요 여러분
+                오늘은<00:00:02.800><c> A&amp;B</c><c> 이야기</c>
+                """;
+
+        // Act
+        String result = subtitleProcessor.processWebVtt(new BufferedReader(new StringReader(vtt)));
+
+        // Assert
+        assertEquals("00:00:00,160:안녕하세요 여러분  오늘은 A&B 이야기", result);
+    }
+
+    @Test
+    @DisplayName("성공: singleSpacing이면 WebVTT의 겹친 구간을 잘라낸 자리에 공백을 하나만 둔다")
+    void processWebVtt_SingleSpacingTrimsSpaceAfterOverlap() throws IOException {
+        // Arrange
+        String vtt = """
+                WEBVTT
+
+                00:00:00.160 --> 00:00:02.310
+                안녕하세요<00:00:00.480><c> 여러분</c>
+
+                00:00:02.310 --> 00:00:04.000
+                안녕하세요 여러분
+                오늘은<00:00:02.800><c> A&amp;B</c><c> 이야기</c>
+                """;
+
+        // Act
+        String single = subtitleProcessor.processWebVtt(new BufferedReader(new StringReader(vtt)), true);
+        String legacy = subtitleProcessor.processWebVtt(new BufferedReader(new StringReader(vtt)));
+
+        // Assert
+        assertEquals("00:00:00,160:안녕하세요 여러분 오늘은 A&B 이야기", single);
+        assertEquals("00:00:00,160:안녕하세요 여러분  오늘은 A&B 이야기", legacy);
+    }
+
+    @Test
+    @DisplayName("성공: 여러 시간 분량의 자동 생성 자막에서 기존 구현과 출력이 같다")
+    void process_MatchesLegacyOnLongAutoGeneratedSrt() {
+        String srt = autoGeneratedSrt(5_000);
+
+        assertEquals(legacyProcessor.process(srt), subtitleProcessor.process(srt));
+    }
+
+    @Test
+    @DisplayName("성공: CRLF, 빈 줄, 닫히지 않은 대괄호 등 불규칙한 입력에서도 기존 구현과 출력이 같다")
+    void process_MatchesLegacyOnIrregularInput() {
+        // Arrange
+        String[] atoms = {"\n", "\r\n", "\r", " ", "[", "]", "[Music]", "hello", "world", ".", " --> ",
+                "00:00:01,000 --> 00:00:02,000", "1", "\u0085", "가나다", "\t"};
+        Random random = new Random(42);
+
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(run % 100 == 0 ? 400 : 40);
+            for (int i = 0; i < length; i++) {
+                input.append(atoms[random.nextInt(atoms.length)]);
+            }
+            String expected;
+            try {
+                expected = legacyProcessor.process(input.toString());
+            } catch (RuntimeException e) {
+                // 기존 구현이 예외를 던지는 비정상 입력(" --> "만 있는 시간 줄 등)은 비교하지 않습니다.
+                continue;
+            }
+
+            // Act & Assert
+            assertEquals(expected, subtitleProcessor.process(input.toString()), "입력: " + input);
+        }
+    }
+
+    /**
+     * 각 블록이 이전 블록의 마지막 줄을 반복하는 자동 생성 자막 형태의 SRT를 만듭니다.
+     */
+    static String autoGeneratedSrt(int blocks) {
+        StringBuilder srt = new StringBuilder();
+        String previous = "";
+        for (int i = 1; i <= blocks; i++) {
+            String line = "자동 생성 자막의 " + i + "번째 구절입니다" + (i % 5 == 0 ? "." : "") + (i % 13 == 0 ? " [Music]" : "");
+            srt.append(i).append('\n')
+                    .append(String.format("%02d:%02d:%02d,000 --> %02d:%02d:%02d,000", i / 3600, i / 60 % 60, i % 60,
+                            (i + 1) / 3600, (i + 1) / 60 % 60, (i + 1) % 60)).append('\n')
+                    .append(previous).append('\n')
+                    .append(line).append("\n\n");
+            previous = line;
+        }
+        return srt.toString();
+    }
+}
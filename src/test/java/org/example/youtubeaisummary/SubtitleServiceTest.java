@@ -4,6 +4,7 @@ import io.github.thoroldvix.api.*;
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
 import org.example.youtubeaisummary.repository.InMemoryJobRepository;
+import org.example.youtubeaisummary.repository.JobQueue;
 import org.example.youtubeaisummary.service.JobManager;
 import org.example.youtubeaisummary.service.SseNotificationService;
 import org.example.youtubeaisummary.service.subtitle.YoutubeApiSubtitleService;
@@ -37,6 +38,8 @@ class SubtitleServiceTest {
     private InMemoryJobRepository mockJobRepository;
     @Mock
     private SseNotificationService mockSseNotificationService;
+    @Mock
+    private JobQueue mockJobQueue;
 
     // @InjectMocks는 @Mock으로 생성된 객체들을 테스트 대상 객체에 자동으로 주입
     @InjectMocks
@@ -50,7 +53,7 @@ class SubtitleServiceTest {
         // 모든 테스트 전에 공통으로 필요한 Mock 객체 설정
         testVideo = mock(YoutubeVideo.class);
         when(testVideo.getVideoId()).thenReturn(testVideoId);
-        jobManager = new JobManager(mockJobRepository, mockSseNotificationService);
+        jobManager = new JobManager(mockJobRepository, mockSseNotificationService, mockJobQueue);
 
         subtitleService.setJobManager(jobManager);
     }
@@ -0,0 +1,148 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.repository.SummaryCacheEntityRepository;
+import org.example.youtubeaisummary.service.ai.PromptManager;
+import org.example.youtubeaisummary.service.ai.PromptManager.PromptType;
+import org.example.youtubeaisummary.service.ai.SummaryCache;
+import org.example.youtubeaisummary.vo.SummaryCacheEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryCacheTest {
+
+    @Mock
+    private SummaryCacheEntityRepository summaryCacheEntityRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SummaryCache cache(long memoryMaxChars, long persistentMaxEntries) {
+        return new SummaryCache(new PromptManager("{chunk}", "{text}", "{summaries}", "{summaries}"), summaryCacheEntityRepository,
+                meterRegistry, "gpt-4o-mini", "system", memoryMaxChars, persistentMaxEntries);
+    }
+
+    private String load(String summary) {
+        loads.incrementAndGet();
+        return summary;
+    }
+
+    private double requests(String result, String tier) {
+        return meterRegistry.counter("summary.cache.requests", "result", result, "tier", tier).count();
+    }
+
+    @Test
+    @DisplayName("성공: 처음에는 생성해 양쪽 계층에 저장하고, 다음 조회는 DB까지 가지 않고 메모리에서 돌려준다")
+    void getOrCompute_ServesRepeatFromMemory() {
+        // Arrange
+        SummaryCache cache = cache(1_000, 100);
+
+        // Act
+        String first = cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "자막", () -> load("요약"));
+        String second = cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "자막", () -> load("다른 요약"));
+
+        // Assert
+        assertEquals("요약", first);
+        assertEquals("요약", second);
+        assertEquals(1, loads.get());
+        verify(summaryCacheEntityRepository, times(1)).findById(anyString());
+        verify(summaryCacheEntityRepository).save(any(SummaryCacheEntity.class));
+        assertEquals(1.0, requests("miss", "none"));
+        assertEquals(1.0, requests("hit", "memory"));
+    }
+
+    @Test
+    @DisplayName("성공: 메모리에 없으면 DB에서 읽어 메모리로 올리고, 생성하지 않는다")
+    void getOrCompute_PromotesPersistentHitToMemory() {
+        // Arrange
+        SummaryCache cache = cache(1_000, 100);
+        when(summaryCacheEntityRepository.findById(anyString()))
+                .thenReturn(Optional.of(new SummaryCacheEntity("key", "저장된 요약", Instant.now())));
+
+        // Act
+        String first = cache.getOrCompute(PromptType.FINAL_FROM_SUMMARIES, "부분 요약", () -> load("새 요약"));
+        String second = cache.getOrCompute(PromptType.FINAL_FROM_SUMMARIES, "부분 요약", () -> load("새 요약"));
+
+        // Assert
+        assertEquals("저장된 요약", first);
+        assertEquals("저장된 요약", second);
+        assertEquals(0, loads.get());
+        verify(summaryCacheEntityRepository, times(1)).findById(anyString());
+        verify(summaryCacheEntityRepository, never()).save(any());
+        assertEquals(1.0, requests("hit", "persistent"));
+        assertEquals(1.0, requests("hit", "memory"));
+    }
+
+    @Test
+    @DisplayName("성공: 메모리 한도(글자 수)를 넘으면 가장 오래 쓰지 않은 요약부터 내보낸다")
+    void getOrCompute_EvictsLeastRecentlyUsed() {
+        // Arrange: 10글자 한도에 6글자 요약 두 개
+        SummaryCache cache = cache(10, 100);
+        cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "A", () -> load("aaaaaa"));
+
+        // Act
+        cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "B", () -> load("bbbbbb"));
+        cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "A", () -> load("aaaaaa"));
+
+        // Assert: A는 밀려났으므로 DB를 거쳐 다시 생성됩니다.
+        assertEquals(3, loads.get());
+        assertEquals(2.0, meterRegistry.counter("summary.cache.evictions", "tier", "memory").count());
+        assertEquals(6.0, meterRegistry.get("summary.cache.memory.chars").gauge().value());
+        assertEquals(1.0, meterRegistry.get("summary.cache.memory.entries").gauge().value());
+        assertEquals(0.0, requests("hit", "memory"));
+    }
+
+    @Test
+    @DisplayName("성공: DB 항목 수는 처음과 한도를 넘었다고 볼 때만 세고, 넘었으면 오래된 항목을 지운다")
+    void getOrCompute_CountsPersistentEntriesOnlyWhenOverLimit() {
+        // Arrange
+        SummaryCache cache = cache(1_000, 3);
+        List<SummaryCacheEntity> oldest = List.of(new SummaryCacheEntity("old", "오래된 요약", Instant.EPOCH));
+        when(summaryCacheEntityRepository.count()).thenReturn(1L, 4L);
+        when(summaryCacheEntityRepository.findTop100ByOrderByCreatedAtAsc()).thenReturn(oldest);
+
+        // Act: 1, 2, 3번째 저장은 한도 안, 4번째 저장에서 한도를 넘습니다.
+        for (int i = 0; i < 4; i++) {
+            String summary = "요약 " + i;
+            cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "청크 " + i, () -> load(summary));
+        }
+
+        // Assert
+        verify(summaryCacheEntityRepository, times(4)).save(any(SummaryCacheEntity.class));
+        verify(summaryCacheEntityRepository, times(2)).count();
+        verify(summaryCacheEntityRepository).deleteAll(oldest);
+    }
+
+    @Test
+    @DisplayName("예외: DB를 쓸 수 없어도 메모리 캐시만으로 요약을 돌려준다")
+    void getOrCompute_FallsBackWhenDatabaseFails() {
+        // Arrange
+        SummaryCache cache = cache(1_000, 100);
+        when(summaryCacheEntityRepository.findById(anyString())).thenThrow(new DataAccessResourceFailureException("DB 연결 끊김"));
+        when(summaryCacheEntityRepository.save(any())).thenThrow(new DataAccessResourceFailureException("DB 연결 끊김"));
+
+        // Act
+        String first = cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "자막", () -> load("요약"));
+        String second = cache.getOrCompute(PromptType.PARTIAL_SUMMARY, "자막", () -> load("요약"));
+
+        // Assert
+        assertEquals("요약", first);
+        assertEquals("요약", second);
+        assertEquals(1, loads.get());
+    }
+}
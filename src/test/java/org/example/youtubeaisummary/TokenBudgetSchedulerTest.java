@@ -0,0 +1,127 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.service.ai.PromptManager.PromptType;
+import org.example.youtubeaisummary.service.ai.TokenBudgetScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenBudgetSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 글자 수를 토큰 수로 세고 출력 토큰은 더하지 않는 스케줄러 (분당 한도가 작아 테스트 중 자연 충전은 무시할 만함)
+     */
+    private TokenBudgetScheduler scheduler(long tokensPerMinute) {
+        TokenCountEstimator estimator = mock(TokenCountEstimator.class);
+        when(estimator.estimate(anyString())).thenAnswer(invocation -> ((String) invocation.getArgument(0)).length());
+        return new TokenBudgetScheduler(estimator, meterRegistry, "", tokensPerMinute, 0.0, 4096, 5000);
+    }
+
+    private double available() {
+        return meterRegistry.get("openai.tpm.available").gauge().value();
+    }
+
+    private void awaitWaiting(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("openai.tpm.waiting").gauge().value() < count) {
+            assertTrue(System.nanoTime() < deadline, "대기자가 " + count + "명이 되지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 응답 없이 실패한 시도의 예산은 돌려주고, 같은 허가를 두 번 돌려주지 않는다")
+    void release_RefundsFailedAttemptOnce() {
+        // Arrange
+        TokenBudgetScheduler scheduler = scheduler(1000);
+        TokenBudgetScheduler.Permit failed = scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(400));
+        scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(400));
+
+        // Act
+        scheduler.release(failed);
+        scheduler.release(failed);
+
+        // Assert
+        assertEquals(600, available(), 5);
+    }
+
+    @Test
+    @DisplayName("성공: 응답의 실제 사용량으로 보정하고, 보정한 허가는 finally에서 돌려주지 않는다")
+    void reconcile_AppliesActualUsage() {
+        // Arrange
+        TokenBudgetScheduler scheduler = scheduler(1000);
+        TokenBudgetScheduler.Permit permit = scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(400));
+
+        // Act
+        scheduler.reconcile(permit, ChatResponseMetadata.builder().usage(new DefaultUsage(80, 20, 100)).build());
+        scheduler.release(permit);
+
+        // Assert
+        assertEquals(900, available(), 5);
+    }
+
+    @Test
+    @DisplayName("성공: 응답 메타데이터가 없으면 추정치만큼 쓴 것으로 둔다")
+    void reconcile_KeepsEstimateWithoutMetadata() {
+        // Arrange
+        TokenBudgetScheduler scheduler = scheduler(1000);
+        TokenBudgetScheduler.Permit permit = scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(400));
+
+        // Act
+        scheduler.reconcile(permit, null);
+        scheduler.release(permit);
+
+        // Assert
+        assertEquals(600, available(), 5);
+    }
+
+    @Test
+    @DisplayName("성공: 예산을 기다리는 동안에는 나중에 온 최종 요약 호출이 부분 요약 호출보다 먼저 통과한다")
+    void acquire_PrefersReduceCalls() throws Exception {
+        // Arrange: 예산을 모두 써 둡니다.
+        TokenBudgetScheduler scheduler = scheduler(600);
+        TokenBudgetScheduler.Permit first = scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(300));
+        TokenBudgetScheduler.Permit second = scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(300));
+        Future<TokenBudgetScheduler.Permit> partial = executor.submit(() -> scheduler.acquire(PromptType.PARTIAL_SUMMARY, "x".repeat(300)));
+        awaitWaiting(1);
+        Future<TokenBudgetScheduler.Permit> reduce = executor.submit(() -> scheduler.acquire(PromptType.FINAL_FROM_SUMMARIES, "x".repeat(300)));
+        awaitWaiting(2);
+
+        // Act: 한 건 분량만 돌려줍니다.
+        scheduler.release(first);
+
+        // Assert
+        assertEquals(PromptType.FINAL_FROM_SUMMARIES, reduce.get(2, TimeUnit.SECONDS).type());
+        assertFalse(partial.isDone());
+        scheduler.release(second);
+        assertEquals(PromptType.PARTIAL_SUMMARY, partial.get(2, TimeUnit.SECONDS).type());
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.youtubeaisummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.dto.JobStatusDto;
+import org.example.youtubeaisummary.dto.JobStatusDto.JobStatus;
+import org.example.youtubeaisummary.repository.InMemoryJobRepository;
+import org.example.youtubeaisummary.repository.JobStatusCache;
+import org.example.youtubeaisummary.repository.WriteBehindJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindJobRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RecordingJobRepository store;
+    private JobStatusCache cache;
+    private WriteBehindJobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new RecordingJobRepository();
+        cache = new JobStatusCache(event -> {
+        }, meterRegistry, 1_000_000, Duration.ofHours(1), Duration.ofSeconds(5));
+        // 자동 저장 주기는 길게 두고 flush()를 직접 호출합니다.
+        repository = new WriteBehindJobRepository(store, cache, meterRegistry, Duration.ofHours(1));
+        repository.createJobIfAbsent("job");
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 진행 상태는 바로 저장하지 않고 작업별 최신 값 하나만 묶어서 저장한다")
+    void updateJob_CoalescesProgressUntilFlush() {
+        // Arrange
+        repository.updateJob("job", JobStatus.SUBTITLE_EXTRACTING, "자막 추출 중");
+        repository.updateJob("job", JobStatus.SUBTITLE_EXTRACTION_COMPLETED, "자막 추출 완료");
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중");
+        assertEquals(0, store.writes);
+
+        // Act
+        repository.flush();
+
+        // Assert
+        assertEquals(List.of(List.of(new JobStatusDto("job", JobStatus.AI_SUMMARIZING_PARTIAL, "부분 요약 중"))), store.batches);
+        assertEquals(2.0, meterRegistry.counter("job.progress.coalesced").count());
+        assertEquals(JobStatus.AI_SUMMARIZING_PARTIAL, store.getJobStatus("job").orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("성공: 저장 전에도 조회는 가장 최근 상태를 반환한다")
+    void getJobStatus_SeesPendingProgress() {
+        // Act
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중");
+
+        // Assert
+        assertEquals(JobStatus.PENDING, store.getJobStatus("job").orElseThrow().status());
+        assertEquals(new JobStatusDto("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중"), repository.getJobStatus("job").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 완료 상태는 즉시 저장하고, 쌓여 있던 진행 상태가 나중에 덮어쓰지 않는다")
+    void updateJob_WritesTerminalStateImmediately() {
+        // Arrange
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중");
+
+        // Act
+        repository.updateJob("job", JobStatus.COMPLETED, "요약 결과");
+        repository.flush();
+
+        // Assert
+        assertEquals(1, store.writes);
+        assertTrue(store.batches.isEmpty());
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"), store.getJobStatus("job").orElseThrow());
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"), repository.getJobStatus("job").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 완료 뒤 늦게 도착한 진행 상태는 저장하지도, 조회에 보이지도 않는다")
+    void updateJob_IgnoresProgressAfterCompletion() {
+        // Arrange
+        repository.updateJob("job", JobStatus.COMPLETED, "요약 결과");
+
+        // Act: 다른 스레드가 완료 직전에 만든 진행 상태가 뒤늦게 들어옵니다.
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중");
+        repository.flush();
+
+        // Assert
+        assertTrue(store.batches.isEmpty());
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"), store.getJobStatus("job").orElseThrow());
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"), repository.getJobStatus("job").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 완료 상태가 캐시에서 밀려난 뒤에도 늦은 진행 상태가 저장소의 완료를 덮어쓰지 않는다")
+    void flush_DoesNotOverwriteCompletedJob() {
+        // Arrange
+        repository.updateJob("job", JobStatus.COMPLETED, "요약 결과");
+        cache.invalidate("job");
+
+        // Act
+        repository.updateJob("job", JobStatus.AI_SUMMARIZING_FINAL, "최종 요약 중");
+        repository.flush();
+
+        // Assert
+        assertEquals(1, store.batches.size());
+        assertEquals(new JobStatusDto("job", JobStatus.COMPLETED, "요약 결과"), store.getJobStatus("job").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("성공: 완료된 작업을 반복 조회해도 저장소는 한 번만 읽는다")
+    void getJobStatus_ServesCompletedJobFromCache() {
+        // Arrange
+        store.updateJob("done", JobStatus.COMPLETED, "요약 결과");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            assertEquals(JobStatus.COMPLETED, repository.getJobStatus("done").orElseThrow().status());
+        }
+
+        // Assert
+        assertEquals(1, store.reads);
+        assertEquals(99.0, meterRegistry.counter("job.status.cache.requests", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("job.status.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("예외: 묶음 저장이 실패하면 진행 상태를 남겨 두었다가 다음 주기에 다시 저장한다")
+    void flush_RetriesAfterFailure() {
+        // Arrange
+        repository.updateJob("job", JobStatus.SUBTITLE_EXTRACTING, "자막 추출 중");
+        store.failNextBatch = true;
+        repository.flush();
+        assertEquals(JobStatus.PENDING, store.getJobStatus("job").orElseThrow().status());
+
+        // Act
+        repository.flush();
+
+        // Assert
+        assertEquals(JobStatus.SUBTITLE_EXTRACTING, store.getJobStatus("job").orElseThrow().status());
+    }
+
+    /**
+     * 저장 호출을 기록하는 인메모리 저장소
+     */
+    private static class RecordingJobRepository extends InMemoryJobRepository {
+        private final List<List<JobStatusDto>> batches = new ArrayList<>();
+        private int writes;
+        private int reads;
+        private boolean failNextBatch;
+
+        @Override
+        public void updateJob(String jobId, JobStatus status, String result) {
+            writes++;
+            super.updateJob(jobId, status, result);
+        }
+
+        @Override
+        public Optional<JobStatusDto> getJobStatus(String jobId) {
+            reads++;
+            return super.getJobStatus(jobId);
+        }
+
+        @Override
+        public void updateJobs(List<JobStatusDto> jobs) {
+            if (failNextBatch) {
+                failNextBatch = false;
+                throw new IllegalStateException("DB 연결 끊김");
+            }
+            batches.add(jobs);
+            jobs.forEach(job -> super.updateJob(job.jobId(), job.status(), job.result()));
+        }
+    }
+}
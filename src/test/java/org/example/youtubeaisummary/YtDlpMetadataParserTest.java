@@ -0,0 +1,116 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadata;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadataParser;
+import org.example.youtubeaisummary.vo.VideoChapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YtDlpMetadataParserTest {
+
+    static final String[] CAPTION_EXTS = {"json3", "srv1", "srv2", "srv3", "ttml", "srt", "vtt"};
+
+    private final YtDlpMetadataParser parser = new YtDlpMetadataParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("성공: 필요한 필드만 읽고 나머지(formats 등)는 건너뛴다")
+    void parse_ExtractsOnlyNeededFields() throws IOException {
+        // Arrange
+        String json = sampleDumpJson(10, 20);
+
+        // Act
+        YtDlpMetadata metadata = parse(json);
+
+        // Assert: 중첩 객체 안의 같은 이름 필드(formats[].language 등)에 영향받지 않아야 합니다.
+        assertEquals("ko", metadata.language());
+        assertEquals(3600.5, metadata.durationSeconds());
+        assertEquals(List.of("ko", "en", "lang2", "lang3", "lang4", "lang5", "lang6", "lang7", "lang8", "lang9"),
+                List.copyOf(metadata.automaticCaptions().keySet()));
+        assertEquals(CAPTION_EXTS.length, metadata.automaticCaptions().get("en").size());
+        assertEquals("https://www.youtube.com/api/timedtext?v=sample&lang=ko&fmt=vtt" + "&sig=" + "x".repeat(300), metadata.captionUrl("ko", "vtt"));
+        assertNull(metadata.captionUrl("ko", "mp4"));
+        assertEquals(12, metadata.chapters().size());
+        assertEquals(new VideoChapter(300, 600, "챕터 2"), metadata.chapters().get(1));
+    }
+
+    @Test
+    @DisplayName("성공: JSON 앞뒤에 섞인 로그 줄은 무시한다")
+    void parse_SkipsLogLinesAroundJson() throws IOException {
+        String output = "[info] Writing video subtitles to: job.sample.ko.vtt\n"
+                + "  [SubtitlesConvertor] Converting subtitles\n"
+                + "{\"language\": null, \"automatic_captions\": {\"en\": [{\"ext\": \"vtt\", \"url\": \"https://example.com/en.vtt\"}]}, \"chapters\": null}\n"
+                + "[SubtitlesConvertor] Deleting original file job.sample.ko.vtt\n";
+
+        YtDlpMetadata metadata = parse(output);
+
+        assertNull(metadata.language());
+        assertEquals(0, metadata.durationSeconds());
+        assertEquals("https://example.com/en.vtt", metadata.captionUrl("en", "vtt"));
+        assertTrue(metadata.chapters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("예외: JSON 출력이 없으면 IOException")
+    void parse_ThrowsWhenNoJson() {
+        assertThrows(IOException.class, () -> parse("ERROR: [youtube] sample: Video unavailable\n"));
+    }
+
+    private YtDlpMetadata parse(String output) throws IOException {
+        return parser.parse(new BufferedReader(new StringReader(output)));
+    }
+
+    /**
+     * yt-dlp --dump-single-json 과 같은 모양의 출력을 만듭니다. (한 줄 JSON)
+     * 자동 자막은 언어마다 7개 형식, formats는 항목마다 긴 서명 URL과 http_headers를 가집니다.
+     */
+    static String sampleDumpJson(int captionLanguages, int formats) {
+        StringBuilder sb = new StringBuilder(1 << 20);
+        sb.append("{\"id\": \"sample\", \"title\": \"샘플 영상\", \"description\": \"").append("설명 ".repeat(1000)).append("\"");
+        sb.append(", \"formats\": [");
+        for (int i = 0; i < formats; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("{\"format_id\": \"").append(100 + i).append("\", \"language\": \"en\", \"ext\": \"mp4\", \"url\": \"https://rr1---sn-example.googlevideo.com/videoplayback?expire=1700000000&itag=")
+                    .append(100 + i).append("&sig=").append("y".repeat(1200))
+                    .append("\", \"width\": 1920, \"height\": 1080, \"fps\": 30, \"tbr\": 2500.5, \"http_headers\": {\"User-Agent\": \"Mozilla/5.0\", \"Accept\": \"*/*\"}")
+                    .append(", \"fragments\": [{\"url\": \"a\", \"duration\": 5.0}, {\"url\": \"b\", \"duration\": 5.0}]}");
+        }
+        sb.append("], \"thumbnails\": [");
+        for (int i = 0; i < 40; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("{\"url\": \"https://i.ytimg.com/vi/sample/").append(i).append(".jpg\", \"preference\": ").append(-i).append(", \"id\": \"").append(i).append("\"}");
+        }
+        sb.append("], \"duration\": 3600.5, \"language\": \"ko\", \"subtitles\": {}, \"automatic_captions\": {");
+        for (int i = 0; i < captionLanguages; i++) {
+            String lang = i == 0 ? "ko" : i == 1 ? "en" : "lang" + i;
+            if (i > 0) sb.append(", ");
+            sb.append('"').append(lang).append("\": [");
+            for (int j = 0; j < CAPTION_EXTS.length; j++) {
+                if (j > 0) sb.append(", ");
+                sb.append("{\"ext\": \"").append(CAPTION_EXTS[j]).append("\", \"url\": \"https://www.youtube.com/api/timedtext?v=sample&lang=").append(lang)
+                        .append("&fmt=").append(CAPTION_EXTS[j]).append("&sig=").append("x".repeat(300))
+                        .append("\", \"name\": \"").append(lang).append(" (자동 생성됨)\", \"protocol\": \"https\"}");
+            }
+            sb.append(']');
+        }
+        sb.append("}, \"chapters\": [");
+        for (int i = 0; i < 12; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("{\"start_time\": ").append(i * 300.0).append(", \"title\": \"챕터 ").append(i + 1).append("\", \"end_time\": ").append((i + 1) * 300.0).append('}');
+        }
+        sb.append("], \"heatmap\": [");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("{\"start_time\": ").append(i * 36.0).append(", \"end_time\": ").append((i + 1) * 36.0).append(", \"value\": 0.").append(i).append('}');
+        }
+        sb.append("], \"webpage_url\": \"https://www.youtube.com/watch?v=sample\"}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.youtubeaisummary.service.proxy.ProxyPool;
+import org.example.youtubeaisummary.service.subtitle.YtDlpExecutor;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadataParser;
+import org.example.youtubeaisummary.service.subtitle.YtDlpProcessSupervisor;
+import org.example.youtubeaisummary.service.subtitle.YtDlpProcessSupervisor.Phase;
+import org.example.youtubeaisummary.service.subtitle.YtDlpWorkerPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class YtDlpProcessSupervisorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private YtDlpProcessSupervisor supervisor;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        if (supervisor != null) supervisor.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 동시에 실행되는 작업 수가 설정한 최대치를 넘지 않는다")
+    void supervise_CapsConcurrency() throws Exception {
+        // Arrange
+        supervisor = supervisor(2, Duration.ofSeconds(10), Duration.ofSeconds(10));
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> supervisor.supervise(Phase.METADATA, () -> {
+                }, () -> {
+                    max.accumulateAndGet(current.incrementAndGet(), Math::max);
+                    Thread.sleep(200);
+                    return current.decrementAndGet();
+                })));
+            }
+            for (Future<Integer> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(2, max.get());
+        assertEquals(4, meterRegistry.timer("ytdlp.process.queue.wait").count());
+    }
+
+    @Test
+    @DisplayName("예외: 대기 시간 안에 자리를 얻지 못하면 거부하고 지표에 기록한다")
+    void supervise_RejectsAfterQueueTimeout() throws Exception {
+        // Arrange
+        supervisor = supervisor(1, Duration.ofMillis(200), Duration.ofSeconds(10));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            try {
+                supervisor.supervise(Phase.METADATA, () -> {
+                }, () -> {
+                    holding.countDown();
+                    return release.await(10, TimeUnit.SECONDS);
+                });
+            } catch (IOException | InterruptedException ignored) {
+                // 테스트 종료 시 정리용
+            }
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        try {
+            assertThrows(IOException.class, () -> supervisor.supervise(Phase.METADATA, () -> {
+            }, () -> "unreachable"));
+            assertEquals(1.0, meterRegistry.counter("ytdlp.process.rejected", "phase", "metadata").count());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    @DisplayName("예외: 단계 제한 시간을 넘긴 yt-dlp는 자식 프로세스까지 종료하고 시간 초과로 실패한다")
+    void fetchMetadata_KillsProcessTreeOnTimeout() throws Exception {
+        // Arrange
+        supervisor = supervisor(2, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        YtDlpExecutor executor = executor();
+
+        // Act
+        IOException exception = assertThrows(IOException.class, () -> executor.fetchMetadata("sleep-31"));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("시간이 초과"));
+        assertEquals(1.0, meterRegistry.counter("ytdlp.process.timeouts", "phase", "metadata").count());
+        assertFalse(ProcessHandle.allProcesses().anyMatch(YtDlpProcessSupervisorTest::isFakeChild), "sleep 자식 프로세스가 남아 있습니다.");
+        assertEquals(0.0, meterRegistry.get("ytdlp.process.running").gauge().value());
+    }
+
+    @Test
+    @DisplayName("성공: yt-dlp 종료 코드를 단계별로 기록한다")
+    void fetchMetadata_RecordsExitCode() throws Exception {
+        // Arrange
+        supervisor = supervisor(2, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        YtDlpExecutor executor = executor();
+
+        // Act
+        executor.fetchMetadata("ok");
+        assertThrows(IOException.class, () -> executor.fetchMetadata("exit-2"));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.counter("ytdlp.process.exits", "phase", "metadata", "code", "0").count());
+        assertEquals(1.0, meterRegistry.counter("ytdlp.process.exits", "phase", "metadata", "code", "2").count());
+    }
+
+    private YtDlpProcessSupervisor supervisor(int maxConcurrent, Duration queueTimeout, Duration timeout) {
+        return new YtDlpProcessSupervisor(meterRegistry, maxConcurrent, queueTimeout, timeout, timeout);
+    }
+
+    /**
+     * 가짜 추출기(ytdlp/fake_ytdlp.py)를 실행 파일로 복사해 yt-dlp 경로로 사용합니다. (python3 필요)
+     */
+    private YtDlpExecutor executor() throws Exception {
+        assumeTrue(pythonAvailable(), "python3가 없어 yt-dlp 프로세스 테스트를 건너뜁니다.");
+        Path script = tempDir.resolve("yt-dlp");
+        try (InputStream in = getClass().getResourceAsStream("/ytdlp/fake_ytdlp.py")) {
+            Files.copy(in, script);
+        }
+        assertTrue(script.toFile().setExecutable(true));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        YtDlpWorkerPool disabledPool = new YtDlpWorkerPool(objectMapper, false, "python3", "yt_dlp", 1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        ProxyPool directConnection = new ProxyPool(meterRegistry, false, "", List.of(), Duration.ofMinutes(1), Duration.ofMinutes(1), 0.2);
+        return new YtDlpExecutor(script.toString(), "", disabledPool, new YtDlpMetadataParser(objectMapper), supervisor, directConnection);
+    }
+
+    private static boolean isFakeChild(ProcessHandle process) {
+        return process.info().command().map(command -> command.endsWith("/sleep")).orElse(false)
+                && process.info().arguments().map(args -> List.of(args).equals(List.of("31"))).orElse(false);
+    }
+
+    private static boolean pythonAvailable() {
+        try {
+            return new ProcessBuilder("python3", "--version").start().waitFor() == 0;
+        } catch (IOException | InterruptedException e) {
+            return false;
+        }
+    }
+}
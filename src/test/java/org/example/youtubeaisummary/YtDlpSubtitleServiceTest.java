@@ -1,16 +1,19 @@
 package org.example.youtubeaisummary;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.youtubeaisummary.dto.JobStatusDto;
 import org.example.youtubeaisummary.exception.subtitle.NoSubtitlesFoundException;
 import org.example.youtubeaisummary.exception.subtitle.YoutubeApiException;
 import org.example.youtubeaisummary.repository.InMemoryJobRepository;
+import org.example.youtubeaisummary.repository.JobQueue;
 import org.example.youtubeaisummary.service.JobManager;
 import org.example.youtubeaisummary.service.SseNotificationService;
+import org.example.youtubeaisummary.service.subtitle.CaptionDownloader;
 import org.example.youtubeaisummary.service.subtitle.FileManager;
 import org.example.youtubeaisummary.service.subtitle.SubtitleProcessor;
 import org.example.youtubeaisummary.service.subtitle.YtDlpExecutor;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadata;
+import org.example.youtubeaisummary.service.subtitle.YtDlpMetadataParser;
 import org.example.youtubeaisummary.service.subtitle.YtDlpSubtitleService;
 import org.example.youtubeaisummary.vo.YoutubeVideo;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +24,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -41,13 +48,15 @@ class YtDlpSubtitleServiceTest {
     @Mock
     private FileManager mockFileManager;
     @Mock
-    private ObjectMapper mockObjectMapper;
-    @Mock
     private InMemoryJobRepository mockJobRepository;
     @Mock
     private SseNotificationService mockSseNotificationService;
     @Mock
+    private JobQueue mockJobQueue;
+    @Mock
     private SubtitleProcessor mockSubtitleProcessor;
+    @Mock
+    private CaptionDownloader mockCaptionDownloader;
 
     @InjectMocks
     private YtDlpSubtitleService subtitleService;
@@ -55,7 +64,7 @@ class YtDlpSubtitleServiceTest {
 
     @BeforeEach
     void setUp() {
-        jobManager = new JobManager(mockJobRepository, mockSseNotificationService);
+        jobManager = new JobManager(mockJobRepository, mockSseNotificationService, mockJobQueue);
 
         subtitleService.setJobManager(jobManager);
     }
@@ -65,13 +74,11 @@ class YtDlpSubtitleServiceTest {
     void fetchSubs_Success() throws Exception {
         // Arrange
         String fakeJson = "{\"language\": \"ko\", \"automatic_captions\": {\"ko\": []}}";
-        JsonNode fakeJsonNode = new ObjectMapper().readTree(fakeJson);
         String rawSubtitleText = "WEBVTT\n\n00:00:01.000 --> 00:00:02.000\n안녕하세요";
         String processedText = "정제된 최종 텍스트"; // <-- 1. 예상되는 최종 결과 정의
         Path fakePath = Path.of("fake/path");
 
-        when(mockYtDlpExecutor.executeAndGetJson(anyString())).thenReturn(fakeJson);
-        when(mockObjectMapper.readTree(fakeJson)).thenReturn(fakeJsonNode);
+        when(mockYtDlpExecutor.fetchMetadataWithSubtitles(anyString(), anyList(), anyString())).thenReturn(metadata(fakeJson));
         when(mockFileManager.getTempDir()).thenReturn(fakePath);
         when(mockFileManager.readFileContent(any(Path.class))).thenReturn(rawSubtitleText);
         when(mockSubtitleProcessor.process(rawSubtitleText)).thenReturn(processedText); // <-- 2. Mockito 행동 정의
@@ -83,11 +90,11 @@ class YtDlpSubtitleServiceTest {
         assertEquals(processedText, result); // <-- 3. 최종 결과가 정제된 텍스트인지 검증
 
         // Verify
-        verify(mockYtDlpExecutor).executeAndGetJson(testVideoId);
-        verify(mockYtDlpExecutor).executeAndSaveToFile(eq(testVideoId), eq("ko"), anyString());
-        verify(mockFileManager).readFileContent(any(Path.class));
+        verify(mockYtDlpExecutor).fetchMetadataWithSubtitles(eq(testVideoId), eq(List.of("ko", "en")), anyString());
+        verify(mockYtDlpExecutor, never()).executeAndSaveToFile(anyString(), anyString(), anyString()); // yt-dlp는 한 번만 실행
+        verify(mockFileManager).readFileContent(fakePath.resolve(testJobId + "." + testVideoId + ".ko.srt"));
         verify(mockSubtitleProcessor).process(rawSubtitleText); // <-- 4. processor가 호출되었는지 검증
-        verify(mockFileManager).deleteFile(any(Path.class));
+        verify(mockFileManager, times(2)).deleteFile(any(Path.class));
         verify(mockJobRepository, times(1)).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.SUBTITLE_EXTRACTING), anyString());
         verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.SUBTITLE_EXTRACTION_COMPLETED), eq(processedText)); // <-- 5. 최종 결과로 상태가 업데이트 되었는지 검증
     }
@@ -97,9 +104,8 @@ class YtDlpSubtitleServiceTest {
     void fetchSubs_ThrowsException_WhenNoAutoCaptions() throws IOException, InterruptedException {
         // Arrange
         String fakeJson = "{\"language\": \"ko\", \"automatic_captions\": {}}";
-        JsonNode fakeJsonNode = new ObjectMapper().readTree(fakeJson);
-        when(mockYtDlpExecutor.executeAndGetJson(anyString())).thenReturn(fakeJson);
-        when(mockObjectMapper.readTree(fakeJson)).thenReturn(fakeJsonNode);
+        when(mockFileManager.getTempDir()).thenReturn(Path.of("fake/path"));
+        when(mockYtDlpExecutor.fetchMetadataWithSubtitles(anyString(), anyList(), anyString())).thenReturn(metadata(fakeJson));
 
         // Act & Assert
         ExecutionException exception = assertThrows(ExecutionException.class, () -> {
@@ -117,11 +123,9 @@ class YtDlpSubtitleServiceTest {
     void fetchSubs_ThrowsException_WhenFileNotCreated() throws IOException, InterruptedException {
         // Arrange
         String fakeJson = "{\"language\": \"ko\", \"automatic_captions\": {\"ko\": []}}";
-        JsonNode fakeJsonNode = new ObjectMapper().readTree(fakeJson);
         Path fakePath = Path.of("fake/path");
 
-        when(mockYtDlpExecutor.executeAndGetJson(anyString())).thenReturn(fakeJson);
-        when(mockObjectMapper.readTree(fakeJson)).thenReturn(fakeJsonNode);
+        when(mockYtDlpExecutor.fetchMetadataWithSubtitles(anyString(), anyList(), anyString())).thenReturn(metadata(fakeJson));
         when(mockFileManager.getTempDir()).thenReturn(fakePath);
         when(mockFileManager.readFileContent(any(Path.class))).thenThrow(new NoSubtitlesFoundException("자막 파일이 생성되지 않았거나 내용이 비어있습니다."));
 
@@ -133,6 +137,77 @@ class YtDlpSubtitleServiceTest {
         assertInstanceOf(YoutubeApiException.class, exception.getCause());
         assertInstanceOf(NoSubtitlesFoundException.class, exception.getCause().getCause());
         verify(mockJobRepository).updateJob(eq(testJobId), eq(JobStatusDto.JobStatus.FAILED), anyString());
-        verify(mockFileManager).deleteFile(any());
+        verify(mockFileManager, atLeastOnce()).deleteFile(any());
+    }
+
+    @Test
+    @DisplayName("성공: 선호 언어(ko/en) 자막이 없으면 선택된 언어만 추가로 다운로드한다")
+    void fetchSubs_DownloadsFallbackLanguageSeparately() throws Exception {
+        // Arrange
+        String fakeJson = "{\"language\": \"ja\", \"automatic_captions\": {\"ja\": []}}";
+        Path fakePath = Path.of("fake/path");
+
+        when(mockYtDlpExecutor.fetchMetadataWithSubtitles(anyString(), anyList(), anyString())).thenReturn(metadata(fakeJson));
+        when(mockFileManager.getTempDir()).thenReturn(fakePath);
+        when(mockFileManager.readFileContent(fakePath.resolve(testJobId + "." + testVideoId + ".ja.srt"))).thenReturn("raw");
+        when(mockSubtitleProcessor.process("raw")).thenReturn("정제된 텍스트");
+
+        // Act
+        String result = subtitleService.fetchSubs(testJobId, testVideo).get();
+
+        // Assert
+        assertEquals("정제된 텍스트", result);
+        verify(mockYtDlpExecutor).executeAndSaveToFile(eq(testVideoId), eq("ja"), anyString());
+        verify(mockFileManager, times(3)).deleteFile(any(Path.class));
+    }
+
+    @Test
+    @DisplayName("성공: 메모리 경로에서는 자막 URL을 스트리밍으로 받아 파일 없이 정제한다")
+    void fetchSubs_StreamsCaptionWithoutFiles() throws Exception {
+        // Arrange
+        String fakeJson = "{\"language\": \"ko\", \"automatic_captions\": {\"ko\": [{\"ext\": \"json3\", \"url\": \"https://example.com/json3\"}, {\"ext\": \"vtt\", \"url\": \"https://example.com/vtt\"}]}}";
+        String rawVtt = "WEBVTT\n\n00:00:01.000 --> 00:00:02.000\n안녕하세요\n";
+
+        when(mockCaptionDownloader.isEnabled()).thenReturn(true);
+        when(mockYtDlpExecutor.fetchMetadata(testVideoId)).thenReturn(metadata(fakeJson));
+        when(mockCaptionDownloader.stream(eq("https://example.com/vtt"), any()))
+                .thenAnswer(invocation -> invocation.<CaptionDownloader.CaptionHandler<String>>getArgument(1)
+                        .handle(new BufferedReader(new StringReader(rawVtt))));
+        when(mockSubtitleProcessor.processWebVtt(any(BufferedReader.class))).thenReturn("정제된 텍스트");
+
+        // Act
+        String result = subtitleService.fetchSubs(testJobId, testVideo).get();
+
+        // Assert
+        assertEquals("정제된 텍스트", result);
+        verify(mockYtDlpExecutor, never()).fetchMetadataWithSubtitles(anyString(), anyList(), anyString());
+        verifyNoInteractions(mockFileManager);
+    }
+
+    @Test
+    @DisplayName("성공: 메모리 경로가 실패하면 임시 파일 방식으로 대체한다")
+    void fetchSubs_FallsBackToTempFiles_WhenStreamingFails() throws Exception {
+        // Arrange
+        String fakeJson = "{\"language\": \"ko\", \"automatic_captions\": {\"ko\": [{\"ext\": \"vtt\", \"url\": \"https://example.com/vtt\"}]}}";
+        Path fakePath = Path.of("fake/path");
+
+        when(mockCaptionDownloader.isEnabled()).thenReturn(true);
+        when(mockYtDlpExecutor.fetchMetadata(testVideoId)).thenReturn(metadata(fakeJson));
+        when(mockYtDlpExecutor.fetchMetadataWithSubtitles(anyString(), anyList(), anyString())).thenReturn(metadata(fakeJson));
+        when(mockCaptionDownloader.stream(anyString(), any())).thenThrow(new IOException("HTTP 403"));
+        when(mockFileManager.getTempDir()).thenReturn(fakePath);
+        when(mockFileManager.readFileContent(any(Path.class))).thenReturn("raw");
+        when(mockSubtitleProcessor.process("raw")).thenReturn("정제된 텍스트");
+
+        // Act
+        String result = subtitleService.fetchSubs(testJobId, testVideo).get();
+
+        // Assert
+        assertEquals("정제된 텍스트", result);
+        verify(mockFileManager).readFileContent(fakePath.resolve(testJobId + "." + testVideoId + ".ko.srt"));
+    }
+
+    private static YtDlpMetadata metadata(String json) throws IOException {
+        return new YtDlpMetadataParser(new ObjectMapper()).parse(new BufferedReader(new StringReader(json)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package org.example.youtubeaisummary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.youtubeaisummary.service.subtitle.YtDlpWorkerPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 가짜 추출기(ytdlp/fake_ytdlp.py)를 상주 워커로 띄워 재사용/교체/타임아웃을 검증합니다. (python3 필요)
+ */
+class YtDlpWorkerPoolTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private YtDlpWorkerPool pool;
+
+    @BeforeAll
+    static void requirePython() {
+        boolean available;
+        try {
+            available = new ProcessBuilder("python3", "--version").start().waitFor() == 0;
+        } catch (IOException | InterruptedException e) {
+            available = false;
+        }
+        assumeTrue(available, "python3가 없어 워커 풀 테스트를 건너뜁니다.");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 워커 프로세스를 재사용해 요청을 처리한다")
+    void execute_ReusesWarmWorker() throws Exception {
+        // Arrange
+        pool = pool(10, Duration.ofSeconds(10));
+
+        // Act
+        JsonNode first = run("--dump-single-json", "video1");
+        JsonNode second = run("--dump-single-json", "video2");
+
+        // Assert
+        assertEquals("video1", first.path("id").asText());
+        assertEquals("video2", second.path("id").asText());
+        assertEquals(first.path("pid").asLong(), second.path("pid").asLong());
+    }
+
+    @Test
+    @DisplayName("성공: 지정한 횟수만큼 사용한 워커는 새 프로세스로 교체한다")
+    void execute_RecyclesWorkerAfterMaxJobs() throws Exception {
+        pool = pool(2, Duration.ofSeconds(10));
+
+        long first = run("a").path("pid").asLong();
+        long second = run("b").path("pid").asLong();
+        long third = run("c").path("pid").asLong();
+
+        assertEquals(first, second);
+        assertNotEquals(second, third);
+    }
+
+    @Test
+    @DisplayName("성공: yt-dlp의 종료 코드와 출력을 그대로 전달한다")
+    void execute_ReturnsExitCodeAndOutput() throws Exception {
+        pool = pool(10, Duration.ofSeconds(10));
+
+        YtDlpWorkerPool.Result result = pool.execute(List.of("--exit", "2", "video1"));
+
+        assertEquals(2, result.exitCode());
+        assertTrue(result.output().contains("ERROR: fake failure"));
+    }
+
+    @Test
+    @DisplayName("예외: 제한 시간을 넘긴 요청은 워커를 종료하고, 다음 요청은 새 워커가 처리한다")
+    void execute_KillsWorkerOnTimeout() throws Exception {
+        // Arrange
+        pool = pool(10, Duration.ofSeconds(2));
+        long before = run("warm").path("pid").asLong();
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> pool.execute(List.of("--sleep", "30", "slow")));
+        assertTrue(exception.getMessage().contains("시간이 초과"));
+        assertFalse(ProcessHandle.of(before).map(ProcessHandle::isAlive).orElse(false));
+
+        assertNotEquals(before, run("after").path("pid").asLong());
+    }
+
+    private JsonNode run(String... args) throws Exception {
+        YtDlpWorkerPool.Result result = pool.execute(List.of(args));
+        assertEquals(0, result.exitCode(), result.output());
+        return objectMapper.readTree(result.output().strip());
+    }
+
+    private YtDlpWorkerPool pool(int maxJobsPerWorker, Duration requestTimeout) throws Exception {
+        String fakeExtractor = Path.of(getClass().getResource("/ytdlp/fake_ytdlp.py").toURI()).toString();
+        return new YtDlpWorkerPool(objectMapper, true, "python3", fakeExtractor, 1, maxJobsPerWorker, requestTimeout, Duration.ofMinutes(1));
+    }
+}
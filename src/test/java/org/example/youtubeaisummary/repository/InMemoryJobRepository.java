@@ -26,8 +26,9 @@ public class InMemoryJobRepository implements JobRepository {
         return Optional.ofNullable(jobs.get(jobId));
     }
 
-    // 작업 상태 및 결과 업데이트
+    // 작업 상태 및 결과 업데이트 (MySQL 저장소처럼 완료된 작업을 진행 상태로 되돌리지 않음)
     public void updateJob(String jobId, JobStatusDto.JobStatus status, String result) {
-        jobs.put(jobId, new JobStatusDto(jobId, status, result));
+        jobs.compute(jobId, (id, current) -> current != null && current.status() == JobStatusDto.JobStatus.COMPLETED
+                && status != JobStatusDto.JobStatus.COMPLETED ? current : new JobStatusDto(jobId, status, result));
     }
 }
@@ -0,0 +1,39 @@
+#!/usr/bin/env python3
+"""
+테스트/벤치마크용 가짜 추출기: yt-dlp처럼 import 비용이 있고, main(argv)가 JSON 한 줄을 출력한 뒤 종료 코드로 끝납니다.
+
+  --sleep <초>  응답 전에 대기 (타임아웃 검증용)
+  --exit <코드>  지정한 종료 코드로 끝남
+마지막 인자(영상 ID)가 sleep-<초>이면 자식 프로세스(sleep)를 띄워 기다리고(ffmpeg 흉내), exit-<코드>이면 그 코드로 끝납니다.
+단독 실행(python3 fake_ytdlp.py ...)하면 콜드 스폰 비용을 재현합니다.
+"""
+import json
+import os
+import subprocess
+import sys
+import time
+
+# yt-dlp의 import 비용(추출기 수백 개 로딩)을 흉내 냅니다.
+time.sleep(float(os.environ.get("FAKE_YTDLP_IMPORT_SECONDS", "0.3")))
+
+
+def main(argv=None):
+    args = list(sys.argv[1:] if argv is None else argv)
+    exit_code = 0
+    if "--sleep" in args:
+        time.sleep(float(args[args.index("--sleep") + 1]))
+    if "--exit" in args:
+        exit_code = int(args[args.index("--exit") + 1])
+        print("ERROR: fake failure", file=sys.stderr)
+    video_id = args[-1] if args else ""
+    if video_id.startswith("sleep-"):
+        subprocess.run(["sleep", video_id[len("sleep-"):]])
+    if video_id.startswith("exit-"):
+        exit_code = int(video_id[len("exit-"):])
+        print("ERROR: fake failure", file=sys.stderr)
+    print(json.dumps({"id": args[-1] if args else None, "pid": os.getpid(), "args": args, "title": "가짜 영상"}, ensure_ascii=False))
+    sys.exit(exit_code)
+
+
+if __name__ == "__main__":
+    main()